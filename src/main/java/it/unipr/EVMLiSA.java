@@ -4,12 +4,14 @@ import it.unipr.analysis.*;
 import it.unipr.analysis.contract.SmartContract;
 import it.unipr.analysis.taint.RandomnessDependencyAbstractDomain;
 import it.unipr.analysis.taint.TxOriginAbstractDomain;
+import it.unipr.cfg.AnalysisBudget;
 import it.unipr.cfg.EVMCFG;
 import it.unipr.cfg.Jump;
 import it.unipr.cfg.Jumpi;
 import it.unipr.checker.JumpSolver;
 import it.unipr.checker.RandomnessDependencyChecker;
 import it.unipr.checker.ReentrancyChecker;
+import it.unipr.checker.SecurityCheckers;
 import it.unipr.checker.TxOriginChecker;
 import it.unipr.frontend.EVMFrontend;
 import it.unipr.frontend.EVMLiSAFeatures;
@@ -22,6 +24,7 @@ import it.unive.lisa.analysis.nonrelational.value.TypeEnvironment;
 import it.unive.lisa.analysis.types.InferredTypes;
 import it.unive.lisa.conf.LiSAConfiguration;
 import it.unive.lisa.program.Program;
+import it.unive.lisa.program.cfg.CFG;
 import it.unive.lisa.program.cfg.edge.SequentialEdge;
 import it.unive.lisa.program.cfg.statement.Statement;
 import java.io.*;
@@ -70,6 +73,14 @@ public class EVMLiSA {
 		AbstractStack.setStackLimit(limit);
 	}
 
+	/**
+	 * Enables the persistent stack representation, where stacks share their
+	 * unchanged elements instead of copying them on every instruction.
+	 */
+	public static void setPersistentStack() {
+		AbstractStack.setPersistent(true);
+	}
+
 	/**
 	 * Sets the stack set size.
 	 *
@@ -255,9 +266,26 @@ public class EVMLiSA {
 	 * @param shutdown whether to shut down the executor after the analysis
 	 */
 	public static void analyzeSetOfContracts(Path filePath, boolean shutdown) {
+		String input = null;
+		try {
+			input = CheckpointLog.identify(readAddresses(filePath), getConfiguration());
+		} catch (IOException e) {
+			System.err.println(JSONManager.throwNewError("Unable to read " + filePath + "."));
+			System.exit(1);
+		}
+
+		// contracts completed by a previous, unfinished run over the same
+		// file are not even built
+		Set<String> completed = new HashSet<>();
+		try {
+			completed = CheckpointLog.readCompleted(getCheckpointPath(), input);
+		} catch (IOException e) {
+			log.warn("Unable to read checkpoint {}, analyzing all contracts.", getCheckpointPath(), e);
+		}
+
 		log.info("Building contracts.");
-		List<SmartContract> contracts = buildContractsFromFile(filePath);
-		analyzeSetOfContracts(contracts, shutdown);
+		List<SmartContract> contracts = buildContractsFromFile(filePath, completed);
+		analyzeSetOfContracts(contracts, input, shutdown);
 	}
 
 	/**
@@ -276,27 +304,94 @@ public class EVMLiSA {
 	 * @param shutdown  whether to shut down the executor after the analysis
 	 */
 	public static void analyzeSetOfContracts(List<SmartContract> contracts, boolean shutdown) {
+		List<String> addresses = new ArrayList<>(contracts.size());
+		for (SmartContract contract : contracts)
+			addresses.add(contract.getAddress());
+		analyzeSetOfContracts(contracts, CheckpointLog.identify(addresses, getConfiguration()), shutdown);
+	}
+
+	/**
+	 * Analyzes a set of smart contracts from a list of {@link SmartContract},
+	 * belonging to the batch with the given identity.
+	 *
+	 * @param contracts the list of {@link SmartContract} to be analyzed
+	 * @param input     the identity of the batch (see
+	 *                      {@link CheckpointLog#identify(Collection, String)})
+	 * @param shutdown  whether to shut down the executor after the analysis
+	 */
+	private static void analyzeSetOfContracts(List<SmartContract> contracts, String input, boolean shutdown) {
 		log.info("Analyzing {} contracts.", contracts.size());
 
-		List<Future<?>> futures = new ArrayList<>();
+		// a checkpoint left by an unfinished run over the same batch means
+		// that this run resumes it: the results of the contracts it completed
+		// are kept, and those contracts are not analyzed again
+		Path outputDir = OUTPUT_DIRECTORY_PATH.resolve("set-of-contracts");
+		Path checkpointPath = getCheckpointPath();
+		ResultsWriter results = null;
+		CheckpointLog opened = null;
+		try {
+			if (CheckpointLog.belongsTo(checkpointPath, input)) {
+				log.info("Resuming the unfinished run recorded in {}.", checkpointPath);
+				results = ResultsWriter.resume(outputDir.resolve("results.ndjson"),
+						CheckpointLog.readCompleted(checkpointPath, input));
+			} else {
+				if (Files.deleteIfExists(checkpointPath))
+					log.warn("Discarded checkpoint {}, left by a run over a different set of contracts "
+							+ "or with different options.", checkpointPath);
+				results = ResultsWriter.create(outputDir.resolve("results.ndjson"));
+			}
+			opened = CheckpointLog.open(checkpointPath, input);
+		} catch (IOException e) {
+			System.err.println(JSONManager.throwNewError("Failed to create results in " + outputDir));
+			System.exit(1);
+		}
+		ResultsWriter writer = results;
+		CheckpointLog checkpoint = opened;
 
+		List<SmartContract> pending = new ArrayList<>(contracts.size());
 		for (SmartContract contract : contracts)
-			futures.add(EVMLiSAExecutor.submit(() -> analyzeContract(contract)));
+			if (!writer.getRecoveredAddresses().contains(contract.getAddress()))
+				pending.add(contract);
+		if (pending.size() < contracts.size())
+			log.info("{} contracts already analyzed by the resumed run.", contracts.size() - pending.size());
 
-		log.debug("{} contracts submitted to Thread pool with {} workers.", contracts.size(),
-				EVMLiSAExecutor.getCoresAvailable());
+		long startTime = System.currentTimeMillis();
+
+		// the largest contracts are submitted first, so that they do not
+		// dominate the makespan when they are late in the file; the results
+		// of each contract are saved as soon as it is analyzed, and then its
+		// CFG is released
+		List<Future<?>> futures = EVMLiSAExecutor.submitLongestFirst(pending, EVMLiSA::estimateCost,
+				contract -> {
+					try {
+						analyzeContract(contract);
+						// the results must be on disk before the checkpoint
+						writer.write(contract);
+						checkpoint.markCompleted(contract.getAddress());
+					} catch (IOException e) {
+						// a contract missing from the results fails the batch,
+						// which can then be resumed from the checkpoint
+						throw new UncheckedIOException("Failed to save results of " + contract.getName(), e);
+					} finally {
+						contract.release();
+					}
+				});
+
+		log.debug("{} contracts submitted to Thread pool with {} workers, {} tasks in queue.", contracts.size(),
+				EVMLiSAExecutor.getCoresAvailable(), EVMLiSAExecutor.getQueueDepth());
 
 		EVMLiSAExecutor.awaitCompletionFutures(futures);
 
-		log.info("Finished analysis of {} contracts.", contracts.size());
+		long makespan = System.currentTimeMillis() - startTime;
+		log.info("Finished analysis of {} contracts in {} ms.", contracts.size(), makespan);
+		EVMLiSAExecutor.logUtilisation(makespan);
+		log.info("Stack element pool: {} hits, {} misses, {} large values interned.",
+				StackElementPool.getHits(), StackElementPool.getMisses(), StackElementPool.size());
+		StackElementPool.clear();
 
-		Path outputDir = OUTPUT_DIRECTORY_PATH.resolve("set-of-contracts");
-		try {
-			Files.createDirectories(outputDir);
-			Files.writeString(
-					outputDir.resolve("results.json"),
-					JSONManager.aggregateSmartContractsToJson(contracts).toString(4),
-					StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+		try (writer) {
+			writer.aggregate(outputDir.resolve("results.json"));
+			checkpoint.delete();
 			log.info("Results saved in {}", outputDir.resolve("results.json"));
 		} catch (IOException e) {
 			System.err.println(JSONManager.throwNewError("Failed to save results in " + outputDir));
@@ -307,6 +402,46 @@ public class EVMLiSA {
 			EVMLiSAExecutor.shutdown();
 	}
 
+	/**
+	 * Yields the description of the options that affect the results of the
+	 * analysis of a contract, which identifies a batch together with its
+	 * contracts: a batch is never resumed with different options.
+	 *
+	 * @return the description of the options
+	 */
+	private static String getConfiguration() {
+		return String.join("\n",
+				"paper-mode=" + PAPER_MODE,
+				"test-mode=" + TEST_MODE,
+				"stack-size=" + AbstractStack.getStackLimit(),
+				"stack-set-size=" + AbstractStackSet.getStackSetLimit(),
+				"persistent-stack=" + AbstractStack.isPersistent(),
+				"budget-time=" + AnalysisBudget.getTimeout(),
+				"budget-iterations=" + AnalysisBudget.getMaxIterations(),
+				"budget-stack-set-size=" + AnalysisBudget.getMaxStackSetSize(),
+				"block-fixpoint=" + EVMCFG.isBlockFixpoint(),
+				"parallel-fixpoint=" + EVMCFG.isParallelFixpoint(),
+				"link-unsound-jumps-to-all-jumpdest=" + JumpSolver.getLinkUnsoundJumpsToAllJumpdest(),
+				"use-live-storage=" + EVMAbstractState.isUseStorageLive(),
+				"checker-reentrancy=" + ReentrancyChecker.isEnabled(),
+				"checker-txorigin=" + TxOriginChecker.isEnabled(),
+				"checker-randomnessdependency=" + RandomnessDependencyChecker.isEnabled());
+	}
+
+	/**
+	 * Estimates the cost of analyzing the given smart contract from the length
+	 * of its bytecode, which is known before its CFG is built.
+	 *
+	 * @param contract the smart contract
+	 * 
+	 * @return the estimated cost of the analysis
+	 */
+	private static long estimateCost(SmartContract contract) {
+		if (contract.getCFG() != null)
+			return contract.getCFG().getOpcodeCount();
+		return contract.getBytecode() != null ? contract.getBytecode().length() / 2 : 0;
+	}
+
 	/**
 	 * Builds the Control Flow Graph (CFG) for the given smart contract. This
 	 * method generates the CFG from the contract's mnemonic bytecode,
@@ -322,8 +457,18 @@ public class EVMLiSA {
 		log.info("[IN] Building CFG of contract {}.", contract.getName());
 
 		Program program = null;
+		long generationTime = 0;
 		try {
-			program = EVMFrontend.generateCfgFromFile(contract.getMnemonicBytecodePath().toString());
+			long generationStart = System.currentTimeMillis();
+			if (contract.getBytecode() != null)
+				program = EVMFrontend.generateCfgFromBytecode(contract.getBytecode(),
+						contract.getMnemonicBytecodePath().toString());
+			else if (contract.getBytecodePath() != null && Files.exists(contract.getBytecodePath()))
+				program = EVMFrontend.generateCfgFromBytecodeFile(contract.getBytecodePath(),
+						contract.getMnemonicBytecodePath().toString());
+			else
+				program = EVMFrontend.generateCfgFromFile(contract.getMnemonicBytecodePath().toString());
+			generationTime = System.currentTimeMillis() - generationStart;
 		} catch (IOException e) {
 			System.err.println(
 					JSONManager.throwNewError("Unable to generate partial CFG from file.", contract.toJson()));
@@ -336,6 +481,18 @@ public class EVMLiSA {
 		JumpSolver checker = new JumpSolver();
 		conf.semanticChecks.add(checker);
 
+		// the unsound jumps are later linked to all the jumpdests and the
+		// analysis is re-run: keep the results to restart from them
+		if (JumpSolver.getLinkUnsoundJumpsToAllJumpdest())
+			for (CFG cfg : program.getAllCFGs())
+				((EVMCFG) cfg).setIncrementalFixpoint(true);
+
+		// the functions, found through the ABI, split the CFG into regions
+		// solved concurrently
+		if (EVMCFG.isParallelFixpoint())
+			for (CFG cfg : program.getAllCFGs())
+				((EVMCFG) cfg).setFunctionEntryPoints(contract.findFunctionsEntryPoints((EVMCFG) cfg));
+
 		LiSA lisa = new LiSA(conf);
 
 		long startTime = System.currentTimeMillis();
@@ -345,7 +502,7 @@ public class EVMLiSA {
 		log.info("[OUT] CFG of contract {} built.", contract.getName());
 		log.info("[IN] Computing statistics of contract {}.", contract.getName());
 		contract.setStatistics(
-				computeStatistics(checker, lisa, program));
+				computeStatistics(checker, lisa, program).cfgGenerationTime(generationTime));
 		contract.setCFG(checker.getComputedCFG());
 
 		log.debug("[OUT] Contract {} statistics: {}", contract.getAddress(), contract.getStatistics());
@@ -353,6 +510,11 @@ public class EVMLiSA {
 		if (TEST_MODE)
 			return;
 
+		// the reentrancy checker is based on the same abstract state: keep the
+		// results to check them instead of recomputing them
+		if (ReentrancyChecker.isEnabled())
+			contract.setAnalysisResults(checker.getAnalysisResults());
+
 		log.info("[IN] Computing functions and events of contract {}.", contract.getName());
 		contract.computeFunctionsSignatureEntryPoints();
 		contract.computeFunctionsSignatureExitPoints();
@@ -364,8 +526,12 @@ public class EVMLiSA {
 	/**
 	 * Runs all enabled security checkers on the given smart contract. This
 	 * method executes various security checkers (e.g., Reentrancy, TxOrigin,
-	 * and Randomness Dependency checkers) on the computed CFG of the contract.
-	 * It then stores the detected vulnerabilities in the contract object.
+	 * and Randomness Dependency checkers) on the computed CFG of the contract,
+	 * in a single visit of the CFG (see {@link SecurityCheckers}). The
+	 * reentrancy checker reuses the results of the analysis that has built
+	 * the CFG, while the taint checkers share a single analysis over the
+	 * product of their domains. It then stores the detected vulnerabilities in
+	 * the contract object.
 	 *
 	 * @param contract the smart contract on which security checkers are
 	 *                     executed
@@ -376,12 +542,38 @@ public class EVMLiSA {
 
 		log.info("[IN] Running checkers on contract {}.", contract.getName());
 
-		if (ReentrancyChecker.isEnabled())
+		if (ReentrancyChecker.isEnabled() && contract.getAnalysisResults() == null)
+			// not built by buildCFG: compute the results of the EVM analysis
 			runReentrancyChecker(contract);
-		if (TxOriginChecker.isEnabled())
-			runTxOriginChecker(contract);
-		if (RandomnessDependencyChecker.isEnabled())
-			runRandomnessDependencyChecker(contract);
+
+		SecurityCheckers checkers = new SecurityCheckers(
+				contract.getAnalysisResults() != null ? contract.getAnalysisResults() : Collections.emptyList());
+		if (checkers.needsTaintAnalysis()) {
+			// Setup configuration
+			Program program = new Program(new EVMLiSAFeatures(), new EVMLiSATypeSystem());
+			program.addCodeMember(contract.getCFG());
+			LiSAConfiguration conf = LiSAConfigurationManager.createConfiguration(contract);
+			LiSA lisa = new LiSA(conf);
+
+			// Tx. origin and randomness dependency checkers, sharing the
+			// taint analysis
+			conf.semanticChecks.add(checkers);
+			conf.abstractState = new SimpleAbstractState<>(new MonolithicHeap(),
+					checkers.getTaintDomain(),
+					new TypeEnvironment<>(new InferredTypes()));
+			lisa.run(program);
+		} else
+			checkers.check(contract.getCFG());
+
+		// the results are not needed anymore
+		contract.setAnalysisResults(null);
+
+		log.info(
+				"[OUT] Checkers ended on {}, with {} reentrancy, {} tx. origin and {} randomness dependency vulnerabilities found.",
+				contract.getName(),
+				contract.getCFG().getContext().getReentrancyWarnings(),
+				contract.getCFG().getContext().getTxOriginWarnings(),
+				contract.getCFG().getContext().getRandomnessDependencyWarnings());
 
 		contract.setVulnerabilities(
 				VulnerabilitiesObject.buildFromCFG(
@@ -430,7 +622,7 @@ public class EVMLiSA {
 
 		log.info("[OUT] Reentrancy checker ended on {}, with {} vulnerabilities found.",
 				contract.getName(),
-				MyCache.getInstance().getReentrancyWarnings(contract.getCFG().hashCode()));
+				contract.getCFG().getContext().getReentrancyWarnings());
 	}
 
 	/**
@@ -458,8 +650,8 @@ public class EVMLiSA {
 		log.info(
 				"[OUT] Randomness dependency checker ended on {}, with {} definite and {} possible vulnerabilities found.",
 				contract.getName(),
-				MyCache.getInstance().getRandomnessDependencyWarnings(contract.getCFG().hashCode()),
-				MyCache.getInstance().getPossibleRandomnessDependencyWarnings(contract.getCFG().hashCode()));
+				contract.getCFG().getContext().getRandomnessDependencyWarnings(),
+				contract.getCFG().getContext().getPossibleRandomnessDependencyWarnings());
 	}
 
 	/**
@@ -486,7 +678,7 @@ public class EVMLiSA {
 
 		log.info("[OUT] Tx. origin checker ended on {}, with {} vulnerabilities found.",
 				contract.getName(),
-				MyCache.getInstance().getTxOriginWarnings(contract.getCFG().hashCode()));
+				contract.getCFG().getContext().getTxOriginWarnings());
 	}
 
 	/**
@@ -607,6 +799,8 @@ public class EVMLiSA {
 				.maybeUnreachableJumps(maybeUnreachable)
 				.unsoundJumps(unsoundJumps)
 				.maybeUnsoundJumps(maybeUnsoundJumps)
+				.budgetExceeded(cfg.isBudgetExceeded())
+				.fixpointIterations(cfg.getFixpointIterations())
 				.build();
 
 		return stats;
@@ -684,6 +878,8 @@ public class EVMLiSA {
 				.unreachable(unreachable)
 				.erroneous(erroneous)
 				.topState(topState)
+				.budgetExceeded(cfg.isBudgetExceeded())
+				.fixpointIterations(cfg.getFixpointIterations())
 				.build();
 
 		return stats;
@@ -707,33 +903,72 @@ public class EVMLiSA {
 	private static Set<Statement> getSoundlySolvedJumps(JumpSolver checker, LiSA lisa, Program program) {
 		HashSet<Statement> soundlySolved = new HashSet<>();
 		if (JumpSolver.getLinkUnsoundJumpsToAllJumpdest()) {
-			int currentIteration = 0;
-			int MAX_ITER = 5;
-			boolean fixpoint;
-			do {
-				fixpoint = false;
-				EVMCFG cfg = checker.getComputedCFG();
-				Set<Statement> jumpdestNodes = cfg.getAllJumpdest();
-				Set<Statement> unsoundJumps = checker.getUnsoundJumps();
-				Set<Statement> maybeUnsoundJumps = checker.getMaybeUnsoundJumps();
-				Set<Statement> unsound = unsoundJumps == null ? Collections.emptySet() : unsoundJumps;
-				unsound = maybeUnsoundJumps == null ? unsound : SetUtils.union(unsound, maybeUnsoundJumps);
-				for (Statement unsoundNode : unsound)
-					if (!soundlySolved.contains(unsoundNode)) {
-						fixpoint = true;
-						for (Statement jumpdest : jumpdestNodes)
-							cfg.addEdge(new SequentialEdge(unsoundNode, jumpdest));
-					}
-
-				soundlySolved.addAll(unsound);
-
-				program.addCodeMember(cfg);
-				lisa.run(program);
-			} while (fixpoint && ++currentIteration < MAX_ITER);
+			// the results retained for the re-runs are released even if one
+			// of them fails
+			try {
+				int currentIteration = 0;
+				int MAX_ITER = 5;
+				boolean fixpoint;
+				do {
+					fixpoint = false;
+					EVMCFG cfg = checker.getComputedCFG();
+					Set<Statement> jumpdestNodes = cfg.getAllJumpdest();
+					Set<Statement> unsoundJumps = checker.getUnsoundJumps();
+					Set<Statement> maybeUnsoundJumps = checker.getMaybeUnsoundJumps();
+					Set<Statement> unsound = unsoundJumps == null ? Collections.emptySet() : unsoundJumps;
+					unsound = maybeUnsoundJumps == null ? unsound : SetUtils.union(unsound, maybeUnsoundJumps);
+					for (Statement unsoundNode : unsound)
+						if (!soundlySolved.contains(unsoundNode)) {
+							fixpoint = true;
+							for (Statement jumpdest : jumpdestNodes)
+								cfg.addEdge(new SequentialEdge(unsoundNode, jumpdest));
+						}
+
+					soundlySolved.addAll(unsound);
+
+					// the previous results are still sound for the rest of the
+					// CFG: only the targets of the new edges are recomputed
+					if (fixpoint)
+						cfg.reseed(jumpdestNodes);
+
+					program.addCodeMember(cfg);
+					lisa.run(program);
+				} while (fixpoint && ++currentIteration < MAX_ITER);
+			} finally {
+				checker.getComputedCFG().setIncrementalFixpoint(false);
+			}
 		}
 		return soundlySolved;
 	}
 
+	/**
+	 * Yields the path of the checkpoint of the batch analysis of a set of
+	 * contracts, listing the contracts already analyzed.
+	 *
+	 * @return the path of the checkpoint
+	 */
+	private static Path getCheckpointPath() {
+		return OUTPUT_DIRECTORY_PATH.resolve("set-of-contracts").resolve("checkpoint.log");
+	}
+
+	/**
+	 * Reads the addresses of the contracts listed in a given file, one per
+	 * line, trimmed and skipping the blank lines.
+	 *
+	 * @param filePath the path to the file containing contract addresses
+	 *
+	 * @return the addresses, in order
+	 *
+	 * @throws IOException if the file cannot be read
+	 */
+	private static List<String> readAddresses(Path filePath) throws IOException {
+		List<String> addresses = new ArrayList<>();
+		for (String line : Files.readAllLines(filePath))
+			if (!line.isBlank())
+				addresses.add(line.trim());
+		return addresses;
+	}
+
 	/**
 	 * Builds a list of smart contracts from a given file.
 	 *
@@ -742,6 +977,19 @@ public class EVMLiSA {
 	 * @return a list of {@link SmartContract} objects
 	 */
 	public static List<SmartContract> buildContractsFromFile(Path filePath) {
+		return buildContractsFromFile(filePath, Collections.emptySet());
+	}
+
+	/**
+	 * Builds a list of smart contracts from a given file, skipping the given
+	 * addresses (e.g., those already analyzed by a previous run).
+	 *
+	 * @param filePath the path to the file containing contract addresses
+	 * @param skip     the addresses of the contracts not to build
+	 * 
+	 * @return a list of {@link SmartContract} objects
+	 */
+	public static List<SmartContract> buildContractsFromFile(Path filePath, Set<String> skip) {
 		log.info("Parsing contracts from {}", filePath);
 
 		List<SmartContract> contracts = new ArrayList<>();
@@ -752,7 +1000,14 @@ public class EVMLiSA {
 			int counter = 0;
 
 			while (myReader.hasNextLine()) {
-				String address = myReader.nextLine();
+				// the checkpoint trims the addresses as well
+				String address = myReader.nextLine().trim();
+				if (address.isEmpty())
+					continue;
+				if (skip.contains(address)) {
+					log.info("Skipped contract {}, already analyzed.", address);
+					continue;
+				}
 				contracts.add(new SmartContract(address));
 				log.info("Created contract ({}): {}", ++counter, address);
 			}
@@ -795,6 +1050,18 @@ public class EVMLiSA {
 
 			if (cmd.hasOption("stack-set-size"))
 				AbstractStackSet.setStackSetSize(Integer.parseInt(cmd.getOptionValue("stack-set-size")));
+
+			if (cmd.hasOption("persistent-stack"))
+				AbstractStack.setPersistent(true);
+
+			if (cmd.hasOption("budget-time"))
+				AnalysisBudget.setTimeout(Long.parseLong(cmd.getOptionValue("budget-time")) * 1000);
+
+			if (cmd.hasOption("budget-iterations"))
+				AnalysisBudget.setMaxIterations(Long.parseLong(cmd.getOptionValue("budget-iterations")));
+
+			if (cmd.hasOption("budget-stack-set-size"))
+				AnalysisBudget.setMaxStackSetSize(Integer.parseInt(cmd.getOptionValue("budget-stack-set-size")));
 		} catch (NumberFormatException e) {
 			System.err.println(JSONManager.throwNewError("Size must be an integer."));
 			System.exit(1);
@@ -812,6 +1079,14 @@ public class EVMLiSA {
 			EVMLiSA.setPaperMode();
 		if (cmd.hasOption("show-all-instructions-in-cfg"))
 			DOTFileManager.showAllInstructions();
+		if (cmd.hasOption("skip-opcode-file"))
+			SmartContract.setSkipMnemonicBytecodeFile();
+		if (cmd.hasOption("block-fixpoint"))
+			EVMCFG.setBlockFixpoint(true);
+		if (cmd.hasOption("parallel-fixpoint"))
+			EVMCFG.setParallelFixpoint(true);
+		if (cmd.hasOption("store-all-states"))
+			EVMCFG.setStoreAllStates(true);
 	}
 
 	private Options getOptions() {
@@ -874,6 +1149,34 @@ public class EVMLiSA {
 				.hasArg(true)
 				.build();
 
+		Option budgetTimeOption = Option.builder()
+				.longOpt("budget-time")
+				.desc("Wall-clock budget (in seconds) of each fixpoint of the CFG analysis, then widened to top (default: unbounded).")
+				.required(false)
+				.hasArg(true)
+				.build();
+
+		Option budgetIterationsOption = Option.builder()
+				.longOpt("budget-iterations")
+				.desc("Budget of fixpoint iterations of each fixpoint of the CFG analysis, then widened to top (default: unbounded).")
+				.required(false)
+				.hasArg(true)
+				.build();
+
+		Option budgetStackSetSizeOption = Option.builder()
+				.longOpt("budget-stack-set-size")
+				.desc("Budget of stack-set size of each fixpoint of the CFG analysis, then widened to top (default: unbounded).")
+				.required(false)
+				.hasArg(true)
+				.build();
+
+		Option persistentStackOption = Option.builder()
+				.longOpt("persistent-stack")
+				.desc("Use a persistent stack representation that shares unchanged elements between states.")
+				.required(false)
+				.hasArg(false)
+				.build();
+
 		Option benchmarkOption = Option.builder()
 				.longOpt("benchmark")
 				.desc("Filepath of the benchmark.")
@@ -958,12 +1261,44 @@ public class EVMLiSA {
 				.hasArg(false)
 				.build();
 
+		Option skipOpcodeFileOption = Option.builder()
+				.longOpt("skip-opcode-file")
+				.desc("Do not write the mnemonic bytecode (.opcode) file of the analyzed contracts.")
+				.required(false)
+				.hasArg(false)
+				.build();
+
+		Option parallelFixpointOption = Option.builder()
+				.longOpt("parallel-fixpoint")
+				.desc("Solve the regions of independent functions (found through the ABI) concurrently.")
+				.required(false)
+				.hasArg(false)
+				.build();
+
+		Option blockFixpointOption = Option.builder()
+				.longOpt("block-fixpoint")
+				.desc("Compute the fixpoint over basic blocks, storing only their entry and exit states.")
+				.required(false)
+				.hasArg(false)
+				.build();
+
+		Option storeAllStatesOption = Option.builder()
+				.longOpt("store-all-states")
+				.desc("Store the state of every instruction, instead of recomputing the ones far from jumps, calls and storage accesses.")
+				.required(false)
+				.hasArg(false)
+				.build();
+
 		options.addOption(addressOption);
 		options.addOption(bytecodeOption);
 		options.addOption(bytecodePathOption);
 		options.addOption(abiPathOption);
 		options.addOption(stackSizeOption);
 		options.addOption(stackSetSizeOption);
+		options.addOption(budgetTimeOption);
+		options.addOption(budgetIterationsOption);
+		options.addOption(budgetStackSetSizeOption);
+		options.addOption(persistentStackOption);
 		options.addOption(benchmarkOption);
 		options.addOption(coresOption);
 		options.addOption(useStorageLiveOption);
@@ -978,6 +1313,10 @@ public class EVMLiSA {
 		options.addOption(useTestModeOption);
 		options.addOption(usePaperStats);
 		options.addOption(showAllInstructionsInCFG);
+		options.addOption(skipOpcodeFileOption);
+		options.addOption(blockFixpointOption);
+		options.addOption(parallelFixpointOption);
+		options.addOption(storeAllStatesOption);
 
 		return options;
 	}
@@ -12,7 +12,6 @@ import it.unive.lisa.symbolic.value.Identifier;
 import it.unive.lisa.symbolic.value.ValueExpression;
 import it.unive.lisa.util.representation.StringRepresentation;
 import it.unive.lisa.util.representation.StructuredRepresentation;
-import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -25,38 +24,182 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 	public static final int MAX_MEMORY_SIZE = 1024 * 1024 * 32; // 32 MB
 	private static final int WORD_SIZE = 32;
 
-	private final AbstractByte[] memory;
+	private static final StackElement MAX_MEMORY_SIZE_ELEMENT = StackElement.valueOf(MAX_MEMORY_SIZE);
+	private static final StackElement MAX_INT = StackElement.valueOf(Number.MAX_INT);
+
+	/**
+	 * The size of a page, in bytes. Pages are never modified once they belong
+	 * to a memory, hence they are shared between all the memories derived
+	 * from it, and each operation copies only the pages it writes.
+	 */
+	private static final int PAGE_SIZE = 256;
+
+	/**
+	 * The page made of zeros, shared by all the memories.
+	 */
+	private static final Page ZERO_PAGE = new Page();
+
+	/**
+	 * The page made of unknown bytes, shared by all the memories.
+	 */
+	private static final Page TOP_PAGE = new Page();
+
+	static {
+		Arrays.fill(TOP_PAGE.unknown, -1L);
+	}
+
+	/**
+	 * A page of memory, made of the values of its bytes and a bitmask of the
+	 * unknown ones. The value of an unknown byte is always zero, so that two
+	 * pages are equal iff their arrays are equal.
+	 */
+	private static final class Page {
+		private final byte[] values;
+		private final long[] unknown;
+
+		private Page() {
+			this(new byte[PAGE_SIZE], new long[PAGE_SIZE / Long.SIZE]);
+		}
+
+		private Page(byte[] values, long[] unknown) {
+			this.values = values;
+			this.unknown = unknown;
+		}
+
+		private Page copy() {
+			return new Page(values.clone(), unknown.clone());
+		}
+
+		private boolean isUnknown(int i) {
+			return (unknown[i >>> 6] & (1L << i)) != 0;
+		}
+
+		private void set(int i, byte value) {
+			values[i] = value;
+			unknown[i >>> 6] &= ~(1L << i);
+		}
+
+		private void setUnknown(int i) {
+			values[i] = 0;
+			unknown[i >>> 6] |= 1L << i;
+		}
+
+		private void copyFrom(Page src, int srcPos, int destPos, int len) {
+			System.arraycopy(src.values, srcPos, values, destPos, len);
+			for (int i = 0; i < len; i++)
+				if (src.isUnknown(srcPos + i))
+					unknown[(destPos + i) >>> 6] |= 1L << (destPos + i);
+				else
+					unknown[(destPos + i) >>> 6] &= ~(1L << (destPos + i));
+		}
+
+		private AbstractByte get(int i) {
+			return isUnknown(i) ? AbstractByte.UNKNOWN : new AbstractByte(values[i]);
+		}
+
+		private boolean isAllUnknown() {
+			for (long word : unknown)
+				if (word != -1L)
+					return false;
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.hashCode(values) + Arrays.hashCode(unknown);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Page))
+				return false;
+			Page other = (Page) obj;
+			return Arrays.equals(values, other.values) && Arrays.equals(unknown, other.unknown);
+		}
+	}
+
+	/**
+	 * The pages of this memory. The bytes after {@link #length} in the last
+	 * page are always zero.
+	 */
+	private final Page[] pages;
+
+	/**
+	 * The size of this memory, in bytes.
+	 */
+	private final int length;
+
 	private final boolean isTop;
 
+	/**
+	 * The cached hash code of this memory, 0 if not computed yet.
+	 */
+	private int hash;
+
 	public static final AbstractMemory BOTTOM = new AbstractMemory(null);
 	public static final AbstractMemory TOP = new AbstractMemory(null, true);
 
 	public AbstractMemory() {
-		this(new AbstractByte[0]);
+		this(new Page[0], 0, false);
 	}
 
 	public AbstractMemory(AbstractByte[] memory) {
-		this.memory = memory;
-		this.isTop = false;
+		this(memory, false);
 	}
 
 	public AbstractMemory(AbstractByte[] memory, boolean isTop) {
-		this.memory = memory;
+		this(toPages(memory), memory == null ? 0 : memory.length, isTop);
+	}
+
+	private AbstractMemory(Page[] pages, int length, boolean isTop) {
+		this.pages = pages;
+		this.length = length;
 		this.isTop = isTop;
 	}
 
+	private static Page[] toPages(AbstractByte[] memory) {
+		if (memory == null)
+			return null;
+		Page[] pages = new Page[pagesFor(memory.length)];
+		for (int p = 0; p < pages.length; p++) {
+			pages[p] = new Page();
+			for (int i = 0; i < PAGE_SIZE && p * PAGE_SIZE + i < memory.length; i++) {
+				AbstractByte b = memory[p * PAGE_SIZE + i];
+				if (b.isTop())
+					pages[p].setUnknown(i);
+				else
+					pages[p].set(i, b.getValue());
+			}
+		}
+		return pages;
+	}
+
+	private static int pagesFor(int length) {
+		return (length + PAGE_SIZE - 1) / PAGE_SIZE;
+	}
+
+	/**
+	 * Yields the page with the given index, or the zero page if this memory
+	 * does not reach it.
+	 */
+	private Page page(int p) {
+		return p < pages.length ? pages[p] : ZERO_PAGE;
+	}
+
 	public AbstractMemory mstore(StackElement offset, StackElement e) {
 		if (offset.isTop() || offset.isTopNotJumpdest()) {
 			log.warn("Offset is TOP, ignoring mstore with offset {}, value {}.", offset, e);
 			return AbstractMemory.TOP;
 		}
 
-		if (offset.compareTo(new StackElement(MAX_MEMORY_SIZE)) >= 0) {
+		if (offset.compareTo(MAX_MEMORY_SIZE_ELEMENT) >= 0) {
 			log.warn("Offset is greater than max memory size, ignoring mstore with offset {}, value {}.", offset, e);
 			return AbstractMemory.BOTTOM;
 		}
 
-		if (offset.compareTo(new StackElement(Number.MAX_INT)) >= 0) {
+		if (offset.compareTo(MAX_INT) >= 0) {
 			log.warn("Offset is greater than max int representation, ignoring mstore with offset {}, value {}.", offset,
 					e);
 			return AbstractMemory.BOTTOM; // fake path
@@ -64,20 +207,21 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 
 		int offsetInt = offset.getNumber().getInt();
 
-		if (e.isTop() || e.isTopNotJumpdest()) {
-			AbstractByte[] value = unknownBytes();
-			AbstractByte[] newMemory = ensureCapacity(offsetInt + WORD_SIZE);
-			System.arraycopy(value, 0, newMemory, offsetInt, WORD_SIZE);
-			return new AbstractMemory(newMemory);
-		} else {
-			AbstractByte[] value = convertStackElementToBytes(e);
-			if (value.length != WORD_SIZE) {
-				throw new IllegalArgumentException("The value must be 32 bytes");
-			}
-			AbstractByte[] newMemory = ensureCapacity(offsetInt + WORD_SIZE);
-			System.arraycopy(value, 0, newMemory, offsetInt, WORD_SIZE);
-			return new AbstractMemory(newMemory);
+		// null stands for a word of unknown bytes
+		byte[] value = (e.isTop() || e.isTopNotJumpdest()) ? null : e.getNumber().toUInt256().toBytes();
+
+		int newLength = alignedLength(offsetInt + WORD_SIZE);
+		Page[] newPages = copyPages(newLength);
+		boolean[] owned = new boolean[newPages.length];
+		for (int i = 0; i < WORD_SIZE; i++) {
+			int pos = offsetInt + i;
+			Page page = writable(newPages, owned, pos / PAGE_SIZE);
+			if (value == null)
+				page.setUnknown(pos % PAGE_SIZE);
+			else
+				page.set(pos % PAGE_SIZE, value[i]);
 		}
+		return new AbstractMemory(newPages, newLength, false);
 	}
 
 	public AbstractMemory mstore8(StackElement offset, StackElement value) {
@@ -86,80 +230,76 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 			return AbstractMemory.TOP;
 		}
 
-		if (offset.compareTo(new StackElement(MAX_MEMORY_SIZE)) >= 0) {
+		if (offset.compareTo(MAX_MEMORY_SIZE_ELEMENT) >= 0) {
 			log.warn("Offset or value are greater than max memory size, ignoring mstore8 with offset {} and value {}.",
 					offset, value);
 			return AbstractMemory.BOTTOM;
 		}
 
-		if (offset.compareTo(new StackElement(Number.MAX_INT)) >= 0) {
+		if (offset.compareTo(MAX_INT) >= 0) {
 			log.warn("Offset is greater than max int representation, ignoring mstore8 with offset {} and value {}.",
 					offset, value);
 			return AbstractMemory.BOTTOM; // fake path
 		}
 
-		AbstractByte valueByte = (value.isTop() || value.isTopNotJumpdest())
-				? AbstractByte.UNKNOWN
-				: new AbstractByte(value.getNumber().modulo(new Number(256)).getInt());
-
 		int offsetInt = offset.getNumber().getInt();
 
-		AbstractByte[] newMemory = ensureCapacity(offsetInt + 1);
-		newMemory[offsetInt] = valueByte;
-		return new AbstractMemory(newMemory);
+		int newLength = alignedLength(offsetInt + 1);
+		Page[] newPages = copyPages(newLength);
+		Page page = writable(newPages, new boolean[newPages.length], offsetInt / PAGE_SIZE);
+		if (value.isTop() || value.isTopNotJumpdest())
+			page.setUnknown(offsetInt % PAGE_SIZE);
+		else
+			page.set(offsetInt % PAGE_SIZE, (byte) value.getNumber().modulo(new Number(256)).getInt());
+		return new AbstractMemory(newPages, newLength, false);
 	}
 
 	public StackElement mload(StackElement offset) {
-		if (offset.compareTo(new StackElement(MAX_MEMORY_SIZE)) >= 0) {
+		if (offset.compareTo(MAX_MEMORY_SIZE_ELEMENT) >= 0) {
 			log.warn("Offset is greater than max memory size, ignoring mload with offset {}.", offset);
 			return StackElement.BOTTOM;
 		}
-		if (offset.compareTo(new StackElement(Number.MAX_INT)) >= 0) {
+		if (offset.compareTo(MAX_INT) >= 0) {
 			log.warn("Offset is greater than max int representation, ignoring mload with offset {}.", offset);
 			return StackElement.BOTTOM; // fake path
 		}
 
-		int value = offset.getNumber().getInt();
-
-		AbstractByte[] newMemory = ensureCapacity(value + WORD_SIZE);
-		AbstractByte[] result = new AbstractByte[WORD_SIZE];
-		System.arraycopy(newMemory, value, result, 0, WORD_SIZE);
-
-		if (isUnknown(result))
+		byte[] result = read(offset.getNumber().getInt(), WORD_SIZE);
+		if (result == null)
 			return StackElement.TOP;
 
 		return StackElement.fromBytes(result);
 	}
 
 	public AbstractMemory mcopy(StackElement destOffset, StackElement srcOffset, StackElement length) {
-		if (length.compareTo(new StackElement(MAX_MEMORY_SIZE)) >= 0) {
+		if (length.compareTo(MAX_MEMORY_SIZE_ELEMENT) >= 0) {
 			log.warn(
 					"length is greater than max memory size, ignoring mcopy with destOffset {}, srcOffset {}, length {}.",
 					destOffset, srcOffset, length);
 			return AbstractMemory.TOP;
-		} else if (destOffset.compareTo(new StackElement(MAX_MEMORY_SIZE)) >= 0) {
+		} else if (destOffset.compareTo(MAX_MEMORY_SIZE_ELEMENT) >= 0) {
 			log.warn(
 					"destOffset is greater than max memory size, ignoring mcopy with destOffset {}, srcOffset {}, length {}.",
 					destOffset, srcOffset, length);
 			return AbstractMemory.TOP;
-		} else if (srcOffset.compareTo(new StackElement(MAX_MEMORY_SIZE)) >= 0) {
+		} else if (srcOffset.compareTo(MAX_MEMORY_SIZE_ELEMENT) >= 0) {
 			log.warn(
 					"srcOffset is greater than max memory size, ignoring mcopy with destOffset {}, srcOffset {}, length {}.",
 					destOffset, srcOffset, length);
 			return AbstractMemory.TOP;
 		}
 
-		if (destOffset.compareTo(new StackElement(Number.MAX_INT)) >= 0) {
+		if (destOffset.compareTo(MAX_INT) >= 0) {
 			log.warn(
 					"destOffset is greater than max int representation, ignoring mcopy with destOffset {}, srcOffset {}, length {}.",
 					destOffset, srcOffset, length);
 			return AbstractMemory.BOTTOM; // fake path
-		} else if (srcOffset.compareTo(new StackElement(Number.MAX_INT)) >= 0) {
+		} else if (srcOffset.compareTo(MAX_INT) >= 0) {
 			log.warn(
 					"srcOffset is greater than max int representation, ignoring mcopy with destOffset {}, srcOffset {}, length {}.",
 					destOffset, srcOffset, length);
 			return AbstractMemory.BOTTOM; // fake path
-		} else if (length.compareTo(new StackElement(Number.MAX_INT)) >= 0) {
+		} else if (length.compareTo(MAX_INT) >= 0) {
 			log.warn(
 					"length is greater than max int representation, ignoring mcopy with destOffset {}, srcOffset {}, length {}.",
 					destOffset, srcOffset, length);
@@ -170,35 +310,111 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 		int destOffsetInt = destOffset.getNumber().getInt();
 		int lengthInt = length.getNumber().getInt();
 
-		AbstractByte[] newMemory = ensureCapacity(Math.max(destOffsetInt + lengthInt, srcOffsetInt + lengthInt));
-		int availableSrc = Math.min(srcOffsetInt + lengthInt, memory.length) - srcOffsetInt;
+		int newLength = alignedLength(Math.max(destOffsetInt + lengthInt, srcOffsetInt + lengthInt));
+		Page[] newPages = copyPages(newLength);
+		int availableSrc = Math.min(srcOffsetInt + lengthInt, this.length) - srcOffsetInt;
 		int copyLength = Math.min(availableSrc, lengthInt);
 
-		if (copyLength > 0)
-			System.arraycopy(memory, srcOffsetInt, newMemory, destOffsetInt, copyLength);
+		// the source pages are never modified, hence overlapping ranges are
+		// read before being overwritten
+		boolean[] owned = new boolean[newPages.length];
+		int copied = 0;
+		while (copied < copyLength) {
+			int src = srcOffsetInt + copied;
+			int dest = destOffsetInt + copied;
+			int srcInPage = src % PAGE_SIZE;
+			int destInPage = dest % PAGE_SIZE;
+			int chunk = Math.min(copyLength - copied, Math.min(PAGE_SIZE - srcInPage, PAGE_SIZE - destInPage));
+			Page from = page(src / PAGE_SIZE);
+			if (chunk == PAGE_SIZE) {
+				// whole aligned page: share it
+				newPages[dest / PAGE_SIZE] = from;
+				owned[dest / PAGE_SIZE] = false;
+			} else {
+				writable(newPages, owned, dest / PAGE_SIZE).copyFrom(from, srcInPage, destInPage, chunk);
+			}
+			copied += chunk;
+		}
 
-		return new AbstractMemory(newMemory);
+		return new AbstractMemory(newPages, newLength, false);
 	}
 
-	private AbstractByte[] ensureCapacity(int size) {
+	/**
+	 * Yields the size of this memory after an access reaching {@code size},
+	 * i.e., {@code size} rounded up to words, or the current size if larger.
+	 */
+	private int alignedLength(int size) {
 		int alignedSize = ((size + 31) / 32) * 32;
-		if (alignedSize <= memory.length)
-			return Arrays.copyOf(memory, memory.length);
-
-		AbstractByte[] newMemory = new AbstractByte[alignedSize];
-		AbstractMemory.fill(newMemory, (byte) 0);
-		System.arraycopy(memory, 0, newMemory, 0, memory.length);
+		return Math.max(alignedSize, this.length);
+	}
+
+	/**
+	 * Yields a copy of the page table, covering {@code newLength} bytes. Pages
+	 * are shared with this memory, new pages are zero pages.
+	 */
+	private Page[] copyPages(int newLength) {
+		Page[] newPages = Arrays.copyOf(pages, pagesFor(newLength));
+		for (int p = pages.length; p < newPages.length; p++)
+			newPages[p] = ZERO_PAGE;
+		return newPages;
+	}
+
+	/**
+	 * Yields the {@code p}-th page of the given page table, copying it at its
+	 * first write. Pages already copied are tracked in {@code owned}.
+	 */
+	private static Page writable(Page[] pages, boolean[] owned, int p) {
+		if (!owned[p]) {
+			pages[p] = pages[p].copy();
+			owned[p] = true;
+		}
+		return pages[p];
+	}
+
+	/**
+	 * Reads {@code len} bytes starting from {@code offset}, zero if they are
+	 * not in memory yet.
+	 *
+	 * @return the bytes read, or {@code null} if one of them is unknown
+	 */
+	private byte[] read(int offset, int len) {
+		byte[] out = new byte[len];
+		int done = 0;
+		while (done < len) {
+			int pos = offset + done;
+			Page page = page(pos / PAGE_SIZE);
+			int inPage = pos % PAGE_SIZE;
+			int chunk = Math.min(len - done, PAGE_SIZE - inPage);
+			for (int i = inPage; i < inPage + chunk; i++)
+				if (page.isUnknown(i))
+					return null;
+			System.arraycopy(page.values, inPage, out, done, chunk);
+			done += chunk;
+		}
+		return out;
+	}
 
-		return newMemory;
+	/**
+	 * Yields the content of this memory as a flat array.
+	 */
+	private AbstractByte[] toArray() {
+		AbstractByte[] result = new AbstractByte[length];
+		for (int i = 0; i < length; i++)
+			result[i] = page(i / PAGE_SIZE).get(i % PAGE_SIZE);
+		return result;
 	}
 
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + Arrays.hashCode(memory);
-		result = prime * result + Objects.hash(isTop);
-		return result;
+		if (hash == 0) {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + (pages == null ? 0 : Arrays.hashCode(pages));
+			result = prime * result + length;
+			result = prime * result + Objects.hash(isTop);
+			hash = result;
+		}
+		return hash;
 	}
 
 	@Override
@@ -210,7 +426,13 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 		if (getClass() != obj.getClass())
 			return false;
 		AbstractMemory other = (AbstractMemory) obj;
-		return isTop == other.isTop && Arrays.equals(memory, other.memory);
+		if (isTop != other.isTop || length != other.length)
+			return false;
+		if (pages == null || other.pages == null)
+			return pages == other.pages;
+		if (hash != 0 && other.hash != 0 && hash != other.hash)
+			return false;
+		return Arrays.equals(pages, other.pages);
 	}
 
 	@Override
@@ -219,50 +441,91 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 			return TOP;
 		else if (isBottom())
 			return BOTTOM;
-		return new AbstractMemory(Arrays.copyOf(this.memory, this.memory.length), false);
+		// pages are never modified, hence they can be shared
+		return new AbstractMemory(pages, length, false);
 	}
 
 	@Override
 	public String toString() {
 		if (isTop)
 			return Lattice.TOP_STRING;
-		else if (memory == null)
+		else if (pages == null)
 			return Lattice.BOTTOM_STRING;
 		StringBuilder hexString = new StringBuilder();
-		for (AbstractByte b : memory)
+		for (AbstractByte b : toArray())
 			hexString.append(b);
-		if (memory.length == 0 || hexString.toString().matches("^0+$"))
+		if (length == 0 || hexString.toString().matches("^0+$"))
 			return "EMPTY";
 		return hexString.toString();
 	}
 
 	@Override
 	public AbstractMemory lubAux(AbstractMemory other) {
-		int maxLength = Math.max(this.memory.length, other.memory.length);
-		AbstractByte[] result = new AbstractByte[maxLength];
-
-		for (int i = 0; i < maxLength; i++) {
-			if (i < this.memory.length && this.memory[i].isTop())
-				result[i] = AbstractByte.UNKNOWN;
-			else if (i < other.memory.length && other.memory[i].isTop())
-				result[i] = AbstractByte.UNKNOWN;
-			else {
-				AbstractByte b1 = i < this.memory.length ? this.memory[i] : new AbstractByte(0);
-				AbstractByte b2 = i < other.memory.length ? other.memory[i] : new AbstractByte(0);
-				result[i] = (b1.equals(b2)) ? b1 : AbstractByte.UNKNOWN;
-			}
+		int maxLength = Math.max(this.length, other.length);
+		Page[] result = new Page[pagesFor(maxLength)];
+
+		for (int p = 0; p < result.length; p++) {
+			Page p1 = this.page(p);
+			Page p2 = other.page(p);
+			if (p1 == p2)
+				result[p] = p1;
+			else if (p1 == TOP_PAGE || p2 == TOP_PAGE)
+				result[p] = TOP_PAGE;
+			else
+				result[p] = lubPage(p1, p2);
 		}
 
-		return new AbstractMemory(result);
+		return new AbstractMemory(result, maxLength, false);
+	}
+
+	/**
+	 * Yields the lub of two pages: a byte is unknown if it is unknown in one
+	 * of them or if their values differ. The first page is reused when it is
+	 * already greater than the second one, and pages made only of unknown
+	 * bytes become the shared top page.
+	 */
+	private static Page lubPage(Page p1, Page p2) {
+		long[] unknown = new long[PAGE_SIZE / Long.SIZE];
+		boolean same = true;
+		for (int w = 0; w < unknown.length; w++) {
+			long differ = 0;
+			for (int b = 0; b < Long.SIZE; b++)
+				if (p1.values[w * Long.SIZE + b] != p2.values[w * Long.SIZE + b])
+					differ |= 1L << b;
+			unknown[w] = p1.unknown[w] | p2.unknown[w] | differ;
+			same &= unknown[w] == p1.unknown[w];
+		}
+
+		if (same)
+			return p1;
+
+		Page result = new Page(p1.values.clone(), unknown);
+		if (result.isAllUnknown())
+			return TOP_PAGE;
+		for (int i = 0; i < PAGE_SIZE; i++)
+			if (result.isUnknown(i))
+				result.values[i] = 0;
+		return result;
 	}
 
 	@Override
 	public boolean lessOrEqualAux(AbstractMemory other) {
-		for (int i = 0; i < Math.max(this.memory.length, other.memory.length); i++) {
-			AbstractByte b1 = i < this.memory.length ? this.memory[i] : new AbstractByte(0);
-			AbstractByte b2 = i < other.memory.length ? other.memory[i] : new AbstractByte(0);
-			if (!b1.equals(b2) && !b2.isTop())
-				return false;
+		int pageCount = pagesFor(Math.max(this.length, other.length));
+		for (int p = 0; p < pageCount; p++) {
+			Page p1 = this.page(p);
+			Page p2 = other.page(p);
+			if (p1 == p2 || p2 == TOP_PAGE)
+				continue;
+			for (int w = 0; w < p1.unknown.length; w++) {
+				// a byte unknown on this side must be unknown on the other one
+				if ((p1.unknown[w] & ~p2.unknown[w]) != 0)
+					return false;
+				for (int b = 0; b < Long.SIZE; b++) {
+					int i = w * Long.SIZE + b;
+					if (p1.values[i] != p2.values[i] && (p2.unknown[w] & (1L << b)) == 0)
+						return false;
+				}
+			}
 		}
 		return true;
 	}
@@ -284,7 +547,7 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 
 	@Override
 	public boolean isBottom() {
-		return memory == null && !isTop;
+		return pages == null && !isTop;
 	}
 
 	@Override
@@ -351,10 +614,10 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 		else if (isBottom())
 			return Lattice.bottomRepresentation();
 		StringBuilder hexString = new StringBuilder("");
-		for (AbstractByte b : memory) {
+		for (AbstractByte b : toArray()) {
 			hexString.append(b);
 		}
-		if (memory.length == 0 || hexString.toString().matches("^0+$"))
+		if (length == 0 || hexString.toString().matches("^0+$"))
 			return new StringRepresentation("EMPTY");
 		return new StringRepresentation(hexString.toString());
 	}
@@ -368,22 +631,6 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 		return hexString.toString();
 	}
 
-	private AbstractByte[] convertStackElementToBytes(StackElement element) {
-		AbstractByte[] bytes = new AbstractByte[32];
-		BigInteger bigIntValue = Number.toBigInteger(element.getNumber());
-		for (int i = 0; i < 32; i++) {
-			bytes[31 - i] = new AbstractByte(bigIntValue.shiftRight(i * 8).byteValue());
-		}
-		return bytes;
-	}
-
-	private AbstractByte[] unknownBytes() {
-		AbstractByte[] bytes = new AbstractByte[32];
-		for (int i = 0; i < 32; i++)
-			bytes[i] = AbstractByte.UNKNOWN;
-		return bytes;
-	}
-
 	public static void fill(AbstractByte[] bytes, byte value) {
 		for (int i = 0; i < bytes.length; i++) {
 			bytes[i] = new AbstractByte(value);
@@ -404,16 +651,6 @@ public class AbstractMemory implements ValueDomain<AbstractMemory>, BaseLattice<
 			throw new IllegalArgumentException(
 					"Read exceeds maximum memory size: " + (offset + length));
 
-		AbstractByte[] backing = ensureCapacity(offset + length);
-
-		byte[] out = new byte[length];
-		for (int i = 0; i < length; i++) {
-			AbstractByte b = backing[offset + i];
-			// Treat TOP/unknown as 0x00
-			if (b.isTop())
-				return null;
-			out[i] = b.getValue();
-		}
-		return out;
+		return read(offset, length);
 	}
 }
\ No newline at end of file
@@ -23,6 +23,24 @@ public class AbstractStack
 	 */
 	private static int STACK_LIMIT = 32;
 
+	/**
+	 * The powers of 31 up to the stack height, used to incrementally maintain
+	 * the hash code of the stacks.
+	 */
+	private static int[] POWERS = powersOf31(STACK_LIMIT);
+
+	/**
+	 * The multiplicative inverse of 31 modulo 2^32.
+	 */
+	private static final int INVERSE_31 = 0xBDEF7BDF;
+
+	/**
+	 * Whether new stacks use the persistent representation, i.e., a linked
+	 * list of immutable nodes shared between a stack and its clones, instead
+	 * of a circular array copied on every clone.
+	 */
+	private static boolean PERSISTENT = false;
+
 	/**
 	 * The top abstract element of this domain.
 	 */
@@ -34,6 +52,12 @@ public class AbstractStack
 	 */
 	private static final AbstractStack BOTTOM = new AbstractStack(null);
 
+	/**
+	 * The top abstract element of this domain, in the persistent
+	 * representation.
+	 */
+	private static final AbstractStack PERSISTENT_TOP = new AbstractStack(null, 0, StackElement.TOP).rehash();
+
 	/**
 	 * The abstract stack as a circular array.
 	 */
@@ -57,6 +81,53 @@ public class AbstractStack
 	 */
 	private int tail;
 
+	/**
+	 * The top of the stack, in the persistent representation. Only the first
+	 * {@link #size} nodes are meaningful, deeper nodes are ignored.
+	 */
+	private Node node;
+
+	/**
+	 * The number of meaningful nodes, in the persistent representation. It
+	 * never exceeds the stack limit.
+	 */
+	private int size;
+
+	/**
+	 * The element filling the positions below the meaningful nodes, in the
+	 * persistent representation. It is either {@link StackElement#TOP} or
+	 * {@link StackElement#BOTTOM}, and it is {@code null} for the bottom
+	 * stack and for stacks in the array representation.
+	 */
+	private StackElement filler;
+
+	/**
+	 * The hash code of the logical stack, i.e., {@link Arrays#hashCode} of the
+	 * elements from the bottom to the top, maintained on push and pop.
+	 */
+	private int hash;
+
+	/**
+	 * The number of elements of the stack that are not top, maintained on
+	 * push and pop. The stack is top iff this is zero.
+	 */
+	private int nonTop;
+
+	/**
+	 * An immutable node of the persistent representation.
+	 */
+	private static final class Node {
+		private final StackElement value;
+		private final Node next;
+		private final int height;
+
+		private Node(StackElement value, Node next) {
+			this.value = value;
+			this.next = next;
+			this.height = next == null ? 1 : next.height + 1;
+		}
+	}
+
 	/**
 	 * Helper method to create and fill an array with a specific element.
 	 */
@@ -66,13 +137,26 @@ public class AbstractStack
 		return array;
 	}
 
+	/**
+	 * Helper method to compute the powers of 31 from 31^0 to 31^n.
+	 */
+	private static int[] powersOf31(int n) {
+		int[] powers = new int[n + 1];
+		powers[0] = 1;
+		for (int i = 1; i <= n; i++)
+			powers[i] = powers[i - 1] * 31;
+		return powers;
+	}
+
 	/**
 	 * Builds an initial symbolic stack.
 	 */
 	public AbstractStack() {
-		this(createFilledArray(STACK_LIMIT, StackElement.BOTTOM));
-		this.head = 0;
-		this.tail = 0;
+		this(PERSISTENT ? null : createFilledArray(STACK_LIMIT, StackElement.BOTTOM));
+		if (PERSISTENT) {
+			this.filler = StackElement.BOTTOM;
+			rehash();
+		}
 	}
 
 	/**
@@ -84,6 +168,38 @@ public class AbstractStack
 		this.circularArray = stack;
 		this.head = 0;
 		this.tail = 0;
+		if (stack != null)
+			rehash();
+	}
+
+	/**
+	 * Builds a symbolic stack starting from a given circular array, keeping
+	 * its head and tail. The hash code and the top flag are left to the
+	 * caller.
+	 *
+	 * @param stack the stack of values
+	 * @param head  the head of the circular array
+	 * @param tail  the tail of the circular array
+	 */
+	private AbstractStack(StackElement[] stack, int head, int tail) {
+		this.circularArray = stack;
+		this.head = head;
+		this.tail = tail;
+	}
+
+	/**
+	 * Builds a symbolic stack in the persistent representation. The hash code
+	 * and the top flag are left to the caller.
+	 *
+	 * @param node   the top of the stack
+	 * @param size   the number of meaningful nodes
+	 * @param filler the element below the meaningful nodes
+	 */
+	private AbstractStack(Node node, int size, StackElement filler) {
+		this.circularArray = null;
+		this.node = node;
+		this.size = size;
+		this.filler = filler;
 	}
 
 	@Override
@@ -152,7 +268,7 @@ public class AbstractStack
 
 	@Override
 	public AbstractStack top() {
-		return TOP;
+		return PERSISTENT ? PERSISTENT_TOP : TOP;
 	}
 
 	@Override
@@ -162,17 +278,12 @@ public class AbstractStack
 
 	@Override
 	public boolean isTop() {
-		if (isBottom())
-			return false;
-		for (StackElement element : this.circularArray)
-			if (!element.isTop())
-				return false;
-		return true;
+		return !isBottom() && nonTop == 0;
 	}
 
 	@Override
 	public boolean isBottom() {
-		return circularArray == null;
+		return circularArray == null && filler == null;
 	}
 
 	@Override
@@ -181,7 +292,54 @@ public class AbstractStack
 			return 0;
 		if (isTop())
 			return 1;
-		return Arrays.hashCode(toLogicalArray());
+		return hash;
+	}
+
+	/**
+	 * Recomputes the hash code and the number of non-top elements from
+	 * scratch.
+	 *
+	 * @return this stack
+	 */
+	private AbstractStack rehash() {
+		StackElement[] logical = toLogicalArray();
+		hash = Arrays.hashCode(logical);
+		nonTop = 0;
+		for (StackElement element : logical)
+			if (!element.isTop())
+				nonTop++;
+		return this;
+	}
+
+	/**
+	 * Updates the hash code and the number of non-top elements after pushing
+	 * {@code pushed} and dropping {@code dropped} from the bottom. Since the
+	 * element at depth i from the top is multiplied by 31^i, pushing
+	 * multiplies all the other elements by 31.
+	 */
+	private void onPush(StackElement pushed, StackElement dropped) {
+		int base = hash - POWERS[STACK_LIMIT] - dropped.hashCode() * POWERS[STACK_LIMIT - 1];
+		hash = POWERS[STACK_LIMIT] + pushed.hashCode() + 31 * base;
+		nonTop += (pushed.isTop() ? 0 : 1) - (dropped.isTop() ? 0 : 1);
+	}
+
+	/**
+	 * Updates the hash code and the number of non-top elements after popping
+	 * {@code popped} and adding {@code added} at the bottom. Dividing by 31 is
+	 * a multiplication by its inverse, since hash codes wrap around.
+	 */
+	private void onPop(StackElement popped, StackElement added) {
+		int base = hash - POWERS[STACK_LIMIT] - popped.hashCode();
+		hash = POWERS[STACK_LIMIT] + base * INVERSE_31 + added.hashCode() * POWERS[STACK_LIMIT - 1];
+		nonTop += (added.isTop() ? 0 : 1) - (popped.isTop() ? 0 : 1);
+	}
+
+	/**
+	 * Updates the hash code after swapping the top {@code first} with
+	 * {@code other} at depth {@code x}.
+	 */
+	private void onSwap(StackElement first, StackElement other, int x) {
+		hash += (other.hashCode() - first.hashCode()) * (1 - POWERS[x]);
 	}
 
 	@Override
@@ -198,10 +356,51 @@ public class AbstractStack
 			return isBottom() == other.isBottom();
 		if (isTop() || other.isTop())
 			return isTop() == other.isTop();
+		if (hash != other.hash)
+			return false;
+
+		if (circularArray == null) {
+			if (node == other.node && size == other.size && filler == other.filler)
+				return true;
+			Node n = node, m = other.node;
+			for (int i = 0; i < STACK_LIMIT; i++) {
+				StackElement a = filler, b = other.filler;
+				if (i < size) {
+					a = n.value;
+					n = n.next;
+				}
+				if (i < other.size) {
+					b = m.value;
+					m = m.next;
+				}
+				// interned elements are compared by identity first
+				if (a != b && !a.equals(b))
+					return false;
+			}
+			return true;
+		}
 
 		return Arrays.equals(this.toLogicalArray(), other.toLogicalArray());
 	}
 
+	/**
+	 * Yields the element at the given depth, where 0 is the top of the stack.
+	 *
+	 * @param depth the depth of the element
+	 *
+	 * @return the element at the given depth
+	 */
+	private StackElement fromTop(int depth) {
+		if (circularArray != null)
+			return circularArray[(tail - 1 - depth + STACK_LIMIT) % STACK_LIMIT];
+		if (depth >= size)
+			return filler;
+		Node n = node;
+		for (int i = 0; i < depth; i++)
+			n = n.next;
+		return n.value;
+	}
+
 	/**
 	 * Get a specific element of the stack.
 	 *
@@ -212,6 +411,8 @@ public class AbstractStack
 	public StackElement get(int index) {
 		if (index < 0 || index >= STACK_LIMIT) // not valid index
 			return StackElement.BOTTOM;
+		if (circularArray == null)
+			return fromTop(STACK_LIMIT - 1 - index);
 		return circularArray[(head + index) % STACK_LIMIT];
 	}
 
@@ -227,16 +428,25 @@ public class AbstractStack
 	 * @return the StackElement at the top of the stack.
 	 */
 	public StackElement getTop() {
+		if (circularArray == null)
+			return size > 0 ? node.value : filler;
 		return circularArray[(tail - 1 + STACK_LIMIT) % STACK_LIMIT];
 	}
 
 	@Override
 	public AbstractStack clone() {
-		if (isBottom() || isTop())
+		if (isBottom())
+			return this;
+		AbstractStack clone;
+		if (circularArray == null)
+			// cheap, since nodes are shared
+			clone = new AbstractStack(node, size, filler);
+		else if (isTop())
 			return this;
-		AbstractStack clone = new AbstractStack(circularArray.clone());
-		clone.head = this.head;
-		clone.tail = this.tail;
+		else
+			clone = new AbstractStack(circularArray.clone(), head, tail);
+		clone.hash = this.hash;
+		clone.nonTop = this.nonTop;
 		return clone;
 	}
 
@@ -251,6 +461,17 @@ public class AbstractStack
 	 * @param element the element to be pushed onto the stack
 	 */
 	public void push(StackElement element) {
+		if (circularArray == null) {
+			onPush(element, size == STACK_LIMIT ? fromTop(STACK_LIMIT - 1) : filler);
+			if (node != null && node.height > 2 * STACK_LIMIT)
+				node = copy(node, size);
+			node = new Node(element, node);
+			if (size < STACK_LIMIT)
+				size++;
+			return;
+		}
+		// the slot at tail holds the bottom of the stack, which is dropped
+		onPush(element, circularArray[tail]);
 		circularArray[tail] = element;
 		tail = (tail + 1) % STACK_LIMIT;
 		head = (head + 1) % STACK_LIMIT;
@@ -268,6 +489,17 @@ public class AbstractStack
 	 * @return the element at the top of the stack before popping
 	 */
 	public StackElement pop() {
+		if (circularArray == null) {
+			if (size == 0)
+				return filler;
+			StackElement poppedElement = node.value;
+			if (size == STACK_LIMIT)
+				filler = fromTop(STACK_LIMIT - 1).isBottom() ? StackElement.BOTTOM : StackElement.TOP;
+			onPop(poppedElement, filler);
+			node = node.next;
+			size--;
+			return poppedElement;
+		}
 		int topIndex = (tail - 1 + STACK_LIMIT) % STACK_LIMIT;
 		StackElement poppedElement = circularArray[topIndex];
 		StackElement oldBottom = circularArray[head];
@@ -276,6 +508,7 @@ public class AbstractStack
 		// tail follows head (stack remains “full” in structure)
 		tail = head;
 		circularArray[head] = oldBottom.isBottom() ? StackElement.BOTTOM : StackElement.TOP;
+		onPop(poppedElement, circularArray[head]);
 		return poppedElement;
 	}
 
@@ -306,6 +539,23 @@ public class AbstractStack
 
 	@Override
 	public boolean lessOrEqualAux(AbstractStack other) throws SemanticException {
+		if (circularArray == null) {
+			Node n = node, m = other.node;
+			for (int i = 0; i < STACK_LIMIT; i++) {
+				StackElement a = filler, b = other.filler;
+				if (i < size) {
+					a = n.value;
+					n = n.next;
+				}
+				if (i < other.size) {
+					b = m.value;
+					m = m.next;
+				}
+				if (!a.lessOrEqual(b))
+					return false;
+			}
+			return true;
+		}
 		for (int i = 0; i < STACK_LIMIT; i++) {
 			int thisIndex = (tail - 1 - i + STACK_LIMIT) % STACK_LIMIT;
 			int otherIndex = (other.tail - 1 - i + STACK_LIMIT) % STACK_LIMIT;
@@ -325,6 +575,8 @@ public class AbstractStack
 			return StackElement.BOTTOM;
 		if (isTop())
 			return StackElement.TOP;
+		if (circularArray == null)
+			return fromTop(1);
 
 		int secondElementPos = (tail - 2 + STACK_LIMIT) % STACK_LIMIT;
 		return circularArray[secondElementPos];
@@ -336,9 +588,10 @@ public class AbstractStack
 	 * @param n the new stack limit
 	 */
 	public static void setStackLimit(int n) {
-		if (n > 0)
+		if (n > 0) {
 			STACK_LIMIT = n;
-		else
+			POWERS = powersOf31(n);
+		} else
 			throw new RuntimeException("Stack height cannot be non-positive");
 	}
 
@@ -351,6 +604,27 @@ public class AbstractStack
 		return STACK_LIMIT;
 	}
 
+	/**
+	 * Sets whether the stacks built from now on use the persistent
+	 * representation.
+	 *
+	 * @param persistent {@code true} to use the persistent representation,
+	 *                       {@code false} to use the circular array
+	 */
+	public static void setPersistent(boolean persistent) {
+		PERSISTENT = persistent;
+	}
+
+	/**
+	 * Yields whether the stacks use the persistent representation.
+	 *
+	 * @return {@code true} if the stacks use the persistent representation,
+	 *             {@code false} otherwise
+	 */
+	public static boolean isPersistent() {
+		return PERSISTENT;
+	}
+
 	/**
 	 * Checks whether between 0 and x-positions of the stack an element is
 	 * bottom.
@@ -361,6 +635,17 @@ public class AbstractStack
 	 *             is bottom, {@code false} otherwise.
 	 */
 	public boolean hasBottomUntil(int x) {
+		if (circularArray == null) {
+			Node n = node;
+			for (int i = 0; i < x; i++) {
+				if (i >= size)
+					return filler.isBottom();
+				if (n.value.isBottom())
+					return true;
+				n = n.next;
+			}
+			return false;
+		}
 		for (int i = 0; i < x; i++) {
 			int pos = (tail - 1 - i + STACK_LIMIT) % STACK_LIMIT;
 			if (circularArray[pos].isBottom())
@@ -386,9 +671,8 @@ public class AbstractStack
 	public AbstractStack dupX(int x) {
 		if (hasBottomUntil(x))
 			return bottom();
-		int posX = (tail - x + STACK_LIMIT) % STACK_LIMIT;
 		AbstractStack clone = clone();
-		clone.push(circularArray[posX]);
+		clone.push(fromTop(x - 1));
 		return clone;
 	}
 
@@ -403,6 +687,8 @@ public class AbstractStack
 	public AbstractStack swapX(int x) {
 		if (hasBottomUntil(x + 1))
 			return bottom();
+		if (circularArray == null)
+			return swapPersistent(x);
 		x++;
 		int posX = (tail - x + STACK_LIMIT) % STACK_LIMIT; // Index of the
 		// element to swap
@@ -413,18 +699,75 @@ public class AbstractStack
 		StackElement temp = clone.circularArray[posX];
 		clone.circularArray[posX] = clone.circularArray[topIndex];
 		clone.circularArray[topIndex] = temp;
+		clone.onSwap(clone.circularArray[posX], temp, x - 1);
 		return clone;
 	}
 
+	/**
+	 * Swaps the 1st with the (x + 1)-th element from the top of the stack in
+	 * the persistent representation, rebuilding only the nodes above the
+	 * (x + 2)-th element.
+	 */
+	private AbstractStack swapPersistent(int x) {
+		StackElement[] above = new StackElement[x + 1];
+		Node n = node;
+		for (int i = 0; i <= x; i++) {
+			if (i < size) {
+				above[i] = n.value;
+				n = n.next;
+			} else
+				above[i] = filler;
+		}
+
+		StackElement temp = above[0];
+		above[0] = above[x];
+		above[x] = temp;
+
+		Node rebuilt = size > x + 1 ? n : null;
+		for (int i = x; i >= 0; i--)
+			rebuilt = new Node(above[i], rebuilt);
+		AbstractStack swapped = new AbstractStack(rebuilt, Math.max(size, x + 1), filler);
+		swapped.hash = hash;
+		swapped.nonTop = nonTop;
+		swapped.onSwap(above[x], above[0], x);
+		return swapped;
+	}
+
+	/**
+	 * Copies the first {@code n} nodes of a list, dropping the deeper ones.
+	 */
+	private static Node copy(Node list, int n) {
+		StackElement[] values = new StackElement[n];
+		for (int i = 0; i < n; i++, list = list.next)
+			values[i] = list.value;
+		Node copied = null;
+		for (int i = n - 1; i >= 0; i--)
+			copied = new Node(values[i], copied);
+		return copied;
+	}
+
 	private StackElement[] toLogicalArray() {
 		StackElement[] logical = new StackElement[STACK_LIMIT];
+		if (circularArray == null) {
+			Arrays.fill(logical, 0, STACK_LIMIT - size, filler);
+			Node n = node;
+			for (int i = 0; i < size; i++, n = n.next)
+				logical[STACK_LIMIT - 1 - i] = n.value;
+			return logical;
+		}
 		for (int i = 0; i < STACK_LIMIT; i++)
 			logical[i] = circularArray[(head + i) % STACK_LIMIT];
 		return logical;
 	}
 
+	/**
+	 * Orders the stacks by their cached hash code, which is maintained on
+	 * push and pop, hence the ordering never scans the stacks.
+	 */
 	@Override
 	public int compareTo(AbstractStack o) {
+		if (this == o)
+			return 0;
 		return Integer.compare(hashCode(), o.hashCode());
 	}
 }
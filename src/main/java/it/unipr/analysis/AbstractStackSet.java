@@ -3,6 +3,7 @@ package it.unipr.analysis;
 import it.unive.lisa.analysis.SemanticException;
 import it.unive.lisa.analysis.lattices.SetLattice;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -69,10 +70,15 @@ public class AbstractStackSet extends SetLattice<AbstractStackSet, AbstractStack
 
 	@Override
 	public AbstractStackSet lubAux(AbstractStackSet other) throws SemanticException {
-		AbstractStackSet lubAux = super.lubAux(other);
-		if (lubAux.size() > SIZE)
+		// stacks cache their hash code, hence adding them is cheap: stop as
+		// soon as the limit is exceeded instead of building the whole union
+		Set<AbstractStack> lub = new HashSet<>(elements);
+		if (lub.size() > SIZE)
 			return TOP;
-		return lubAux;
+		for (AbstractStack stack : other.elements)
+			if (lub.add(stack) && lub.size() > SIZE)
+				return TOP;
+		return mk(lub);
 	}
 
 	@Override
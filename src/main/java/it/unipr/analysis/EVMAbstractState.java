@@ -1,7 +1,7 @@
 package it.unipr.analysis;
 
+import it.unipr.analysis.operator.EVMOperator;
 import it.unipr.cfg.EVMCFG;
-import it.unipr.cfg.ProgramCounterLocation;
 import it.unipr.utils.EtherscanAPIManager;
 import it.unipr.utils.MyCache;
 import it.unive.lisa.analysis.BaseLattice;
@@ -20,7 +20,6 @@ import it.unive.lisa.symbolic.value.Constant;
 import it.unive.lisa.symbolic.value.Identifier;
 import it.unive.lisa.symbolic.value.UnaryExpression;
 import it.unive.lisa.symbolic.value.ValueExpression;
-import it.unive.lisa.symbolic.value.operator.unary.UnaryOperator;
 import it.unive.lisa.util.representation.StringRepresentation;
 import it.unive.lisa.util.representation.StructuredRepresentation;
 import java.io.IOException;
@@ -41,6 +40,14 @@ public class EVMAbstractState
 
 	private static final Logger log = LogManager.getLogger(EVMAbstractState.class);
 
+	private static final StackElement MAX_INT = StackElement.valueOf(Number.MAX_INT);
+
+	/**
+	 * Serializes the live-storage requests of all the analyses, to comply
+	 * with the rate limit of the API.
+	 */
+	private static final Object STORAGE_REQUEST_LOCK = new Object();
+
 	private static final EVMAbstractState TOP = new EVMAbstractState(true, "");
 	private static final EVMAbstractState BOTTOM = new EVMAbstractState(new AbstractStackSet().bottom(),
 			new AbstractMemory().bottom(), new AbstractStorage().bottom());
@@ -140,6 +147,10 @@ public class EVMAbstractState
 		USE_STORAGE_LIVE = true;
 	}
 
+	public static boolean isUseStorageLive() {
+		return USE_STORAGE_LIVE;
+	}
+
 	@Override
 	public EVMAbstractState assign(Identifier id, ValueExpression expression, ProgramPoint pp, SemanticOracle oracle) {
 		// nothing to do here
@@ -160,14 +171,14 @@ public class EVMAbstractState
 			return this;
 		} else if (expression instanceof UnaryExpression) {
 			UnaryExpression un = (UnaryExpression) expression;
-			UnaryOperator op = un.getOperator();
+			EVMOperator code = EVMOperator.of(un.getOperator());
 			AbstractStackSet result = new AbstractStackSet(new TreeSet<>(), false);
 
-			if (op != null) {
+			if (code != null) {
 
 				EVMCFG cfg = (EVMCFG) pp.getCFG();
-				switch (op.getClass().getSimpleName()) {
-				case "Push0Operator": { // PUSH0
+				switch (code) {
+				case PUSH0: { // PUSH0
 
 					for (AbstractStack stack : stacks) {
 						AbstractStack resultStack = stack.clone();
@@ -177,9 +188,9 @@ public class EVMAbstractState
 
 					return new EVMAbstractState(result, memory, storage);
 				}
-				case "PushOperator": { // PUSH
+				case PUSH: { // PUSH
 
-					StackElement toPush = new StackElement(toBigInteger(un.getExpression()));
+					StackElement toPush = StackElement.valueOf(toBigInteger(un.getExpression()));
 
 					for (AbstractStack stack : stacks) {
 						AbstractStack resultStack = stack.clone();
@@ -189,13 +200,13 @@ public class EVMAbstractState
 
 					return new EVMAbstractState(result, memory, storage);
 				}
-				case "AddressOperator": { // ADDRESS
+				case ADDRESS: { // ADDRESS
 
 					StackElement hex;
 					if (CONTRACT_ADDRESS == null)
 						hex = StackElement.TOP;
 					else
-						hex = new StackElement(toBigInteger(CONTRACT_ADDRESS));
+						hex = StackElement.valueOf(toBigInteger(CONTRACT_ADDRESS));
 
 					for (AbstractStack stack : stacks) {
 						AbstractStack resultStack = stack.clone();
@@ -206,23 +217,23 @@ public class EVMAbstractState
 					return new EVMAbstractState(result, memory, storage);
 				}
 
-				case "BlobBaseFeeOperator": // BLOBBASEFEE
-				case "GasOperator": // GAS
-				case "MsizeOperator": // MSIZE
-				case "BasefeeOperator": // BASEFEE
-				case "CoinbaseOperator": // COINBASE
-				case "TimestampOperator": // TIMESTAMP
-				case "NumberOperator": // NUMBER
-				case "DifficultyOperator": // DIFFICULTY
-				case "GaslimitOperator": // GASLIMIT
-				case "ChainidOperator": // CHAINID
-				case "SelfbalanceOperator": // SELFBALANCE
-				case "GaspriceOperator": // GASPRICE
-				case "CodesizeOperator": // CODESIZE
-				case "OriginOperator": // ORIGIN
-				case "CallerOperator": // CALLER
-				case "CalldatasizeOperator": // CALLDATASIZE
-				case "CallvalueOperator": { // CALLVALUE
+				case BLOBBASEFEE: // BLOBBASEFEE
+				case GAS: // GAS
+				case MSIZE: // MSIZE
+				case BASEFEE: // BASEFEE
+				case COINBASE: // COINBASE
+				case TIMESTAMP: // TIMESTAMP
+				case NUMBER: // NUMBER
+				case DIFFICULTY: // DIFFICULTY
+				case GASLIMIT: // GASLIMIT
+				case CHAINID: // CHAINID
+				case SELFBALANCE: // SELFBALANCE
+				case GASPRICE: // GASPRICE
+				case CODESIZE: // CODESIZE
+				case ORIGIN: // ORIGIN
+				case CALLER: // CALLER
+				case CALLDATASIZE: // CALLDATASIZE
+				case CALLVALUE: { // CALLVALUE
 					for (AbstractStack stack : stacks) {
 						AbstractStack resultStack = stack.clone();
 						resultStack.push(StackElement.NOT_JUMPDEST_TOP);
@@ -232,7 +243,7 @@ public class EVMAbstractState
 					return new EVMAbstractState(result, memory, storage);
 				}
 
-				case "ReturndatasizeOperator": { // RETURNDATASIZE
+				case RETURNDATASIZE: { // RETURNDATASIZE
 					for (AbstractStack stack : stacks) {
 						// stack corresponding to the case when
 						// last call failed
@@ -249,25 +260,25 @@ public class EVMAbstractState
 
 					return new EVMAbstractState(result, memory, storage);
 				}
-				case "PcOperator": { // PC
+				case PC: { // PC
 					for (AbstractStack stack : stacks) {
 						AbstractStack resultStack = stack.clone();
 						Integer i = (Integer) ((Constant) un.getExpression()).getValue();
-						resultStack.push(new StackElement(BigInteger.valueOf(i)));
+						resultStack.push(StackElement.valueOf(i));
 						result.add(resultStack);
 					}
 
 					return new EVMAbstractState(result, memory, storage);
 				}
 
-				case "JumpdestOperator": { // JUMPDEST
+				case JUMPDEST: { // JUMPDEST
 					return this;
 				}
 
 				// Above, operators that do not perform pop()
 				// Below, operators that perform pop operation on the stack
 
-				case "JumpOperator": { // JUMP
+				case JUMP: { // JUMP
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
@@ -281,15 +292,12 @@ public class EVMAbstractState
 
 						if (jmpDest.isTop() || cfg.getAllPushedJumps().contains(pp))
 							result.add(resultStack);
-						else if (cfg.getAllJumpdestLocations().contains(jmpDest.getNumber())) {
-							Statement dest = cfg.getAllJumpdest().stream()
-									.filter(j -> new Number(((ProgramCounterLocation) j.getLocation()).getPc())
-											.equals(jmpDest.getNumber()))
-									.findFirst().get();
-
-							if (!cfg.getEdges().contains(new SequentialEdge((Statement) pp, dest)))
-								cfg.addEdge(new SequentialEdge((Statement) pp, dest));
-							result.add(resultStack);
+						else {
+							Statement dest = cfg.getJumpdest(jmpDest.getNumber());
+							if (dest != null) {
+								cfg.addEdgeIfAbsent(new SequentialEdge((Statement) pp, dest));
+								result.add(resultStack);
+							}
 						}
 					}
 
@@ -298,7 +306,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "JumpiOperator": { // JUMPI
+				case JUMPI: { // JUMPI
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
@@ -312,15 +320,12 @@ public class EVMAbstractState
 
 						if (jmpDest.isTop() || cfg.getAllPushedJumps().contains(pp))
 							result.add(resultStack);
-						else if (cfg.getAllJumpdestLocations().contains(jmpDest.getNumber())) {
-							Statement dest = cfg.getAllJumpdest().stream()
-									.filter(j -> new Number(((ProgramCounterLocation) j.getLocation()).getPc())
-											.equals(jmpDest.getNumber()))
-									.findFirst().get();
-
-							if (!cfg.getEdges().contains(new TrueEdge((Statement) pp, dest)))
-								cfg.addEdge(new TrueEdge((Statement) pp, dest));
-							result.add(resultStack);
+						else {
+							Statement dest = cfg.getJumpdest(jmpDest.getNumber());
+							if (dest != null) {
+								cfg.addEdgeIfAbsent(new TrueEdge((Statement) pp, dest));
+								result.add(resultStack);
+							}
 						}
 					}
 
@@ -329,7 +334,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "AddOperator": { // ADD
+				case ADD: { // ADD
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
@@ -347,7 +352,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "SubOperator": { // SUB
+				case SUB: { // SUB
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
@@ -365,7 +370,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "MulOperator": { // MUL
+				case MUL: { // MUL
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
@@ -383,7 +388,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "DivOperator": { // DIV
+				case DIV: { // DIV
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -404,7 +409,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "SdivOperator": { // SDIV
+				case SDIV: { // SDIV
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -425,7 +430,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "ModOperator": { // MOD
+				case MOD: { // MOD
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -442,7 +447,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "SmodOperator": { // SMOD
+				case SMOD: { // SMOD
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -459,7 +464,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "AddmodOperator": { // ADDMOD
+				case ADDMOD: { // ADDMOD
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(3))
 							continue;
@@ -476,7 +481,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "MulmodOperator": { // MULMOD
+				case MULMOD: { // MULMOD
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(3))
 							continue;
@@ -494,7 +499,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "ExpOperator": { // EXP
+				case EXP: { // EXP
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -511,7 +516,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "SignextendOperator": { // SIGNEXTEND
+				case SIGNEXTEND: { // SIGNEXTEND
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -528,7 +533,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "LtOperator": { // LT
+				case LT: { // LT
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -545,7 +550,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "SltOperator": { // SLT
+				case SLT: { // SLT
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -562,7 +567,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "GtOperator": { // GT
+				case GT: { // GT
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -579,7 +584,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "SgtOperator": { // SGT
+				case SGT: { // SGT
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -596,7 +601,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "EqOperator": { // EQ
+				case EQ: { // EQ
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -613,7 +618,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "IszeroOperator": { // ISZERO
+				case ISZERO: { // ISZERO
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -629,7 +634,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "AndOperator": { // AND
+				case AND: { // AND
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -646,7 +651,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "OrOperator": { // OR
+				case OR: { // OR
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -663,7 +668,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "XorOperator": { // XOR
+				case XOR: { // XOR
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -680,7 +685,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "NotOperator": { // NOT
+				case NOT: { // NOT
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -696,7 +701,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "ByteOperator": { // BYTE
+				case BYTE: { // BYTE
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -714,7 +719,7 @@ public class EVMAbstractState
 
 							if (indexOfByte.compareTo(new StackElement(valueAsByteArray.length)) >= 0)
 								resultStackElement.lub(StackElement.ZERO);
-							else if (indexOfByte.compareTo(new StackElement(Number.MAX_INT)) < 0) {
+							else if (indexOfByte.compareTo(MAX_INT) < 0) {
 								int selectedByteAsInt = valueAsByteArray[indexOfByte.getNumber().getInt()];
 								resultStackElement.lub(new StackElement(selectedByteAsInt));
 							}
@@ -730,7 +735,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "ShlOperator": { // SHL
+				case SHL: { // SHL
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -747,7 +752,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "ShrOperator": { // SHR
+				case SHR: { // SHR
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -764,7 +769,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "SarOperator": { // SAR
+				case SAR: { // SAR
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
@@ -783,7 +788,7 @@ public class EVMAbstractState
 						return new EVMAbstractState(result, memory, storage);
 				}
 
-				case "BlobHashOperator": { // BLOBHASH
+				case BLOBHASH: { // BLOBHASH
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -800,7 +805,7 @@ public class EVMAbstractState
 						return new EVMAbstractState(result, memory, storage);
 				}
 
-				case "Sha3Operator": { // SHA3
+				case SHA3: { // SHA3
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -811,8 +816,8 @@ public class EVMAbstractState
 						if (offset.isTop() || size.isTop() || offset.isTopNotJumpdest() || size.isTopNotJumpdest()
 								|| memory.isTop())
 							resultStack.push(StackElement.NOT_JUMPDEST_TOP);
-						else if (offset.compareTo(new StackElement(Number.MAX_INT)) <= 0
-								&& size.compareTo(new StackElement(Number.MAX_INT)) <= 0) {
+						else if (offset.compareTo(MAX_INT) <= 0
+								&& size.compareTo(MAX_INT) <= 0) {
 
 							/*
 							 * Read exactly size bytes from your abstract
@@ -843,7 +848,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "BalanceOperator": { // BALANCE
+				case BALANCE: { // BALANCE
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -859,7 +864,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "CalldataloadOperator": { // CALLDATALOAD
+				case CALLDATALOAD: { // CALLDATALOAD
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -875,7 +880,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "CalldatacopyOperator": { // CALLDATACOPY
+				case CALLDATACOPY: { // CALLDATACOPY
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(3))
 							continue;
@@ -891,7 +896,7 @@ public class EVMAbstractState
 						// setting memory to top
 						return new EVMAbstractState(result, memory.top(), storage);
 				}
-				case "CodecopyOperator": { // CODECOPY
+				case CODECOPY: { // CODECOPY
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(3))
 							continue;
@@ -907,7 +912,7 @@ public class EVMAbstractState
 						// setting memory to top
 						return new EVMAbstractState(result, memory.top(), storage);
 				}
-				case "ExtcodesizeOperator": { // EXTCODESIZE
+				case EXTCODESIZE: { // EXTCODESIZE
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -923,7 +928,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "ExtcodecopyOperator": { // EXTCODECOPY
+				case EXTCODECOPY: { // EXTCODECOPY
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(4))
 							continue;
@@ -939,7 +944,7 @@ public class EVMAbstractState
 						// setting memory to top
 						return new EVMAbstractState(result, memory.top(), storage);
 				}
-				case "ReturndatacopyOperator": { // RETURNDATACOPY
+				case RETURNDATACOPY: { // RETURNDATACOPY
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(3))
 							continue;
@@ -955,7 +960,7 @@ public class EVMAbstractState
 						// setting memory to top
 						return new EVMAbstractState(result, memory.top(), storage);
 				}
-				case "ExtcodehashOperator": { // EXTCODEHASH
+				case EXTCODEHASH: { // EXTCODEHASH
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -971,7 +976,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "BlockhashOperator": { // BLOCKHASH
+				case BLOCKHASH: { // BLOCKHASH
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -987,7 +992,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "PopOperator": { // POP
+				case POP: { // POP
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -1001,7 +1006,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "TloadOperator": { // TLOAD
+				case TLOAD: { // TLOAD
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -1018,7 +1023,7 @@ public class EVMAbstractState
 						return new EVMAbstractState(result, memory, storage);
 				}
 
-				case "TstoreOperator": { // TSTORE
+				case TSTORE: { // TSTORE
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -1034,7 +1039,7 @@ public class EVMAbstractState
 						return new EVMAbstractState(result, memory, storage);
 				}
 
-				case "MloadOperator": { // MLOAD
+				case MLOAD: { // MLOAD
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -1061,7 +1066,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "MstoreOperator": { // MSTORE
+				case MSTORE: { // MSTORE
 					AbstractMemory memoryResult = memory.bottom();
 
 					for (AbstractStack stack : stacks) {
@@ -1089,7 +1094,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memoryResult, storage);
 				}
-				case "Mstore8Operator": { // MSTORE8
+				case MSTORE8: { // MSTORE8
 					AbstractMemory memoryResult = memory.bottom();
 
 					for (AbstractStack stack : stacks) {
@@ -1116,7 +1121,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memoryResult, storage);
 				}
-				case "McopyOperator": { // MCOPY
+				case MCOPY: { // MCOPY
 					AbstractMemory memoryResult = memory.bottom();
 
 					for (AbstractStack stack : stacks) {
@@ -1148,7 +1153,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memoryResult, storage);
 				}
-				case "SloadOperator": { // SLOAD
+				case SLOAD: { // SLOAD
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
@@ -1197,7 +1202,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "SstoreOperator": { // SSTORE
+				case SSTORE: { // SSTORE
 
 					AbstractStorage storageResult = storage.bottom();
 
@@ -1221,7 +1226,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storageResult);
 				}
-				case "Dup1Operator": { // DUP1
+				case DUP1: { // DUP1
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
@@ -1235,7 +1240,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup2Operator": { // DUP2
+				case DUP2: { // DUP2
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
@@ -1249,7 +1254,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup3Operator": { // DUP3
+				case DUP3: { // DUP3
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(3))
@@ -1263,7 +1268,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup4Operator": { // DUP4
+				case DUP4: { // DUP4
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(4))
@@ -1277,7 +1282,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup5Operator": { // DUP5
+				case DUP5: { // DUP5
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(5))
@@ -1291,7 +1296,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup6Operator": { // DUP6
+				case DUP6: { // DUP6
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(6))
@@ -1305,7 +1310,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup7Operator": { // DUP7
+				case DUP7: { // DUP7
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(7))
@@ -1319,7 +1324,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup8Operator": { // DUP8
+				case DUP8: { // DUP8
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(8))
@@ -1333,7 +1338,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup9Operator": { // DUP9
+				case DUP9: { // DUP9
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(9))
@@ -1347,7 +1352,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup10Operator": { // DUP10
+				case DUP10: { // DUP10
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(10))
@@ -1361,7 +1366,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup11Operator": { // DUP11
+				case DUP11: { // DUP11
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(11))
@@ -1375,7 +1380,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup12Operator": { // DUP12
+				case DUP12: { // DUP12
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(12))
@@ -1389,7 +1394,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup13Operator": { // DUP13
+				case DUP13: { // DUP13
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(13))
@@ -1403,7 +1408,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup14Operator": { // DUP14
+				case DUP14: { // DUP14
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(14))
@@ -1417,7 +1422,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup15Operator": { // DUP15
+				case DUP15: { // DUP15
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(15))
@@ -1431,7 +1436,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Dup16Operator": { // DUP16
+				case DUP16: { // DUP16
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(16))
@@ -1445,7 +1450,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap1Operator": { // SWAP1
+				case SWAP1: { // SWAP1
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
@@ -1459,7 +1464,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap2Operator": { // SWAP2
+				case SWAP2: { // SWAP2
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(3))
@@ -1473,7 +1478,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap3Operator": { // SWAP3
+				case SWAP3: { // SWAP3
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(4))
@@ -1487,7 +1492,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap4Operator": { // SWAP4
+				case SWAP4: { // SWAP4
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(5))
@@ -1501,7 +1506,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap5Operator": { // SWAP5
+				case SWAP5: { // SWAP5
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(6))
@@ -1515,7 +1520,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap6Operator": { // SWAP6
+				case SWAP6: { // SWAP6
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(7))
@@ -1529,7 +1534,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap7Operator": { // SWAP7
+				case SWAP7: { // SWAP7
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(8))
@@ -1543,7 +1548,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap8Operator": { // SWAP8
+				case SWAP8: { // SWAP8
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(9))
@@ -1557,7 +1562,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap9Operator": { // SWAP9
+				case SWAP9: { // SWAP9
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(10))
@@ -1571,7 +1576,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap10Operator": { // SWAP10
+				case SWAP10: { // SWAP10
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(11))
@@ -1585,7 +1590,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap11Operator": { // SWAP11
+				case SWAP11: { // SWAP11
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(12))
@@ -1599,7 +1604,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap12Operator": { // SWAP12
+				case SWAP12: { // SWAP12
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(13))
@@ -1613,7 +1618,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap13Operator": { // SWAP13
+				case SWAP13: { // SWAP13
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(14))
@@ -1627,7 +1632,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap14Operator": { // SWAP14
+				case SWAP14: { // SWAP14
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(15))
@@ -1641,7 +1646,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap15Operator": { // SWAP15
+				case SWAP15: { // SWAP15
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(16))
@@ -1655,7 +1660,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Swap16Operator": { // SWAP16
+				case SWAP16: { // SWAP16
 
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(17))
@@ -1669,7 +1674,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Log0Operator": { // LOG0
+				case LOG0: { // LOG0
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -1684,7 +1689,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Log1Operator": { // LOG1
+				case LOG1: { // LOG1
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(3))
 							continue;
@@ -1699,7 +1704,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Log2Operator": { // LOG2
+				case LOG2: { // LOG2
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(4))
 							continue;
@@ -1714,7 +1719,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Log3Operator": { // LOG3
+				case LOG3: { // LOG3
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(5))
 							continue;
@@ -1729,7 +1734,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Log4Operator": { // LOG4
+				case LOG4: { // LOG4
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(6))
 							continue;
@@ -1744,7 +1749,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "CreateOperator": { // CREATE
+				case CREATE: { // CREATE
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(3))
 							continue;
@@ -1760,7 +1765,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "Create2Operator": { // CREATE2
+				case CREATE2: { // CREATE2
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(4))
 							continue;
@@ -1776,7 +1781,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "CallOperator": { // CALL
+				case CALL: { // CALL
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(7))
 							continue;
@@ -1792,7 +1797,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "CallcodeOperator": { // CALLCODE
+				case CALLCODE: { // CALLCODE
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(7))
 							continue;
@@ -1808,7 +1813,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "ReturnOperator": { // RETURN
+				case RETURN: { // RETURN
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -1824,7 +1829,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "DelegatecallOperator": { // DELEGATECALL
+				case DELEGATECALL: { // DELEGATECALL
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(6))
 							continue;
@@ -1840,7 +1845,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "StaticcallOperator": { // STATICCALL
+				case STATICCALL: { // STATICCALL
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(6))
 							continue;
@@ -1856,7 +1861,7 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "RevertOperator": { // REVERT
+				case REVERT: { // REVERT
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(2))
 							continue;
@@ -1871,10 +1876,10 @@ public class EVMAbstractState
 					else
 						return new EVMAbstractState(result, memory, storage);
 				}
-				case "InvalidOperator": { // INVALID
+				case INVALID: { // INVALID
 					return this;
 				}
-				case "SelfdestructOperator": { // SELFDESTRUCT
+				case SELFDESTRUCT: { // SELFDESTRUCT
 					for (AbstractStack stack : stacks) {
 						if (stack.hasBottomUntil(1))
 							continue;
@@ -2127,7 +2132,7 @@ public class EVMAbstractState
 			String hexString = "0x" + toHex.toString(16);
 
 			String getStorageAtRequest;
-			synchronized (MyCache.getInstance()) {
+			synchronized (STORAGE_REQUEST_LOCK) {
 				Thread.sleep(500);
 				getStorageAtRequest = EtherscanAPIManager.etherscanRequest("proxy", "eth_getStorageAt", hexString,
 						address);
@@ -4,8 +4,9 @@ import java.math.BigInteger;
 import java.util.Objects;
 
 /**
- * Custom class representing a number that can be implemented as an {@code int},
- * {@code long}, or {@code BigInteger}.
+ * Custom class representing an EVM word, implemented either as an {@code int}
+ * (for values below 2^31) or as a fixed-width {@link UInt256}. Arithmetic
+ * operations wrap around modulo 2^256, as in the EVM.
  * 
  * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
  * @author <a href="mailto:saveriomattia.merenda@studenti.unipr.it">Mattia
@@ -22,11 +23,11 @@ public class Number implements Comparable<Number> {
 
 	public enum Type {
 		INT,
-		BIGINTEGER
+		UINT256
 	}
 
 	private final int i;
-	private final BigInteger b;
+	private final UInt256 w;
 
 	/**
 	 * Builds a number starting from an integer value.
@@ -35,27 +36,59 @@ public class Number implements Comparable<Number> {
 	 */
 	public Number(int i) {
 		this.i = i;
-		this.b = null;
+		this.w = null;
 	}
 
+	/**
+	 * Builds a number starting from a big integer, reduced modulo 2^256 when
+	 * it does not fit an {@code int}.
+	 * 
+	 * @param other the big integer value
+	 */
 	public Number(BigInteger other) {
 		if (other.compareTo(MAX_INT) < 0) {
 			this.i = other.intValue();
-			this.b = null;
+			this.w = null;
+		} else {
+			UInt256 word = UInt256.valueOf(other);
+			this.i = word.fitsInt() ? word.intValue() : -1;
+			this.w = word.fitsInt() ? null : word;
+		}
+	}
+
+	/**
+	 * Builds a number starting from a 256-bit word.
+	 * 
+	 * @param word the word
+	 */
+	public Number(UInt256 word) {
+		if (word.fitsInt()) {
+			this.i = word.intValue();
+			this.w = null;
 		} else {
 			this.i = -1;
-			this.b = other;
+			this.w = word;
 		}
 	}
 
+	/**
+	 * Yields a number starting from a {@code long} value, that must be
+	 * non-negative.
+	 */
+	private static Number of(long l) {
+		if (l <= Integer.MAX_VALUE)
+			return new Number((int) l);
+		return new Number(UInt256.valueOf(l));
+	}
+
 	/**
 	 * Yields the backing implementation of the number.
 	 * 
 	 * @return the backing implementation of the number
 	 */
 	public Type getType() {
-		if (b != null)
-			return Type.BIGINTEGER;
+		if (w != null)
+			return Type.UINT256;
 
 		return Type.INT;
 	}
@@ -75,80 +108,100 @@ public class Number implements Comparable<Number> {
 	 * @return the big integer value
 	 */
 	public BigInteger getBigInteger() {
-		return b;
+		return w == null ? null : w.toBigInteger();
+	}
+
+	/**
+	 * Yields this number as a 256-bit word. Negative integers yield their
+	 * two's complement representation.
+	 * 
+	 * @return this number as a 256-bit word
+	 */
+	public UInt256 toUInt256() {
+		if (w != null)
+			return w;
+		return UInt256.valueOf(i);
 	}
 
 	public static BigInteger toBigInteger(Number other) {
-		BigInteger ot;
 		if (other.getType() == Type.INT)
-			ot = BigInteger.valueOf(other.getInt());
-		else
-			ot = other.getBigInteger();
+			return BigInteger.valueOf(other.getInt());
+		return other.w.toBigInteger();
+	}
 
-		return ot;
+	private boolean bothInt(Number other) {
+		return w == null && other.w == null;
 	}
 
 	/**
-	 * Adds two numbers and returns the result as a {@code Number}.
+	 * Adds two numbers and returns the result as a {@code Number}, modulo
+	 * 2^256.
 	 * 
 	 * @param other the number to add
 	 * 
 	 * @return the sum as a {@code Number}
 	 */
 	public Number add(Number other) {
-		if (this.getType() == other.getType() && other.getType() == Type.INT)
-			return new Number(i + other.getInt());
-
-		BigInteger me = toBigInteger(this);
-		BigInteger ot = toBigInteger(other);
+		if (bothInt(other) && i >= 0 && other.i >= 0)
+			return of((long) i + other.i);
 
-		return new Number(me.add(ot));
+		return new Number(toUInt256().add(other.toUInt256()));
 	}
 
 	/**
-	 * Subtracts another number from this one and returns the result.
+	 * Subtracts another number from this one and returns the result, modulo
+	 * 2^256.
 	 * 
 	 * @param other the number to subtract
 	 * 
 	 * @return the result as a {@code Number}
 	 */
 	public Number subtract(Number other) {
-		if (this.getType() == other.getType() && other.getType() == Type.INT)
-			return new Number(i - other.getInt());
-
-		BigInteger me = toBigInteger(this);
-		BigInteger ot = toBigInteger(other);
+		if (bothInt(other) && other.i >= 0 && i >= other.i)
+			return new Number(i - other.i);
 
-		return new Number(me.subtract(ot));
+		return new Number(toUInt256().subtract(other.toUInt256()));
 	}
 
 	/**
-	 * Multiplies this number by another.
+	 * Multiplies this number by another, modulo 2^256.
 	 * 
 	 * @param other the number to multiply by
 	 * 
 	 * @return the product as a {@code Number}
 	 */
 	public Number multiply(Number other) {
-		BigInteger me = toBigInteger(this);
-		BigInteger ot = toBigInteger(other);
-		return new Number(me.multiply(ot));
+		if (bothInt(other) && i >= 0 && other.i >= 0)
+			return of((long) i * other.i);
+
+		return new Number(toUInt256().multiply(other.toUInt256()));
 	}
 
 	/**
-	 * Multiplies this number by another.
+	 * Divides this number by another. As in the EVM, the division by zero
+	 * yields zero.
 	 * 
-	 * @param other the number to multiply by
+	 * @param other the divisor
 	 * 
-	 * @return the product as a {@code Number}
+	 * @return the quotient as a {@code Number}
 	 */
 	public Number divide(Number other) {
-		if (this.getType() == other.getType() && other.getType() == Type.INT)
-			return new Number(i / other.getInt());
+		if (bothInt(other) && i >= 0 && other.i > 0)
+			return new Number(i / other.i);
 
-		BigInteger me = toBigInteger(this);
-		BigInteger ot = toBigInteger(other);
-		return new Number(me.divide(ot));
+		return new Number(toUInt256().divide(other.toUInt256()));
+	}
+
+	/**
+	 * Signed division of this number by another, interpreting both in two's
+	 * complement. The division by zero yields zero.
+	 * 
+	 * @param other the divisor
+	 * 
+	 * @return the quotient as a {@code Number}
+	 */
+	public Number sdivide(Number other) {
+		return new Number(toUInt256().sdiv(other.toUInt256()));
 	}
 
 	/**
@@ -159,9 +212,10 @@ public class Number implements Comparable<Number> {
 	 * @return the result as a {@code Number}
 	 */
 	public Number and(Number other) {
-		BigInteger me = toBigInteger(this);
-		BigInteger ot = toBigInteger(other);
-		return new Number(me.and(ot));
+		if (bothInt(other) && i >= 0 && other.i >= 0)
+			return new Number(i & other.i);
+
+		return new Number(toUInt256().and(other.toUInt256()));
 	}
 
 	/**
@@ -172,9 +226,10 @@ public class Number implements Comparable<Number> {
 	 * @return the result as a {@code Number}
 	 */
 	public Number or(Number other) {
-		BigInteger me = toBigInteger(this);
-		BigInteger ot = toBigInteger(other);
-		return new Number(me.or(ot));
+		if (bothInt(other) && i >= 0 && other.i >= 0)
+			return new Number(i | other.i);
+
+		return new Number(toUInt256().or(other.toUInt256()));
 	}
 
 	/**
@@ -185,36 +240,76 @@ public class Number implements Comparable<Number> {
 	 * @return the result as a {@code Number}
 	 */
 	public Number xor(Number other) {
-		BigInteger me = toBigInteger(this);
-		BigInteger ot = toBigInteger(other);
-		return new Number(me.xor(ot));
+		if (bothInt(other) && i >= 0 && other.i >= 0)
+			return new Number(i ^ other.i);
+
+		return new Number(toUInt256().xor(other.toUInt256()));
 	}
 
 	/**
-	 * Returns the bitwise NOT of this number.
+	 * Returns the 256-bit bitwise NOT of this number.
 	 *
 	 * @return the bitwise complement as a {@code Number}
 	 */
 	public Number not() {
-		BigInteger me = toBigInteger(this);
-		return new Number(me.not());
+		return new Number(toUInt256().not());
 	}
 
 	/**
-	 * Computes the modulo of this number by another number.
+	 * Computes the modulo of this number by another number. As in the EVM,
+	 * the modulo by zero yields zero.
 	 *
 	 * @param other the number to divide by
 	 * 
 	 * @return the result as a {@code Number}
 	 */
 	public Number modulo(Number other) {
-		BigInteger me = toBigInteger(this);
-		BigInteger ot = toBigInteger(other);
-		return new Number(me.mod(ot));
+		if (bothInt(other) && i >= 0 && other.i > 0)
+			return new Number(i % other.i);
+
+		return new Number(toUInt256().mod(other.toUInt256()));
 	}
 
 	/**
-	 * Converts this number into a byte array.
+	 * Computes {@code (this + that) % modulus} without wrapping the
+	 * intermediate sum.
+	 *
+	 * @param that    the number to add
+	 * @param modulus the modulus
+	 * 
+	 * @return the result as a {@code Number}
+	 */
+	public Number addmod(Number that, Number modulus) {
+		return new Number(toUInt256().addmod(that.toUInt256(), modulus.toUInt256()));
+	}
+
+	/**
+	 * Computes {@code (this * that) % modulus} without wrapping the
+	 * intermediate product.
+	 *
+	 * @param that    the number to multiply by
+	 * @param modulus the modulus
+	 * 
+	 * @return the result as a {@code Number}
+	 */
+	public Number mulmod(Number that, Number modulus) {
+		return new Number(toUInt256().mulmod(that.toUInt256(), modulus.toUInt256()));
+	}
+
+	/**
+	 * Raises this number to the given exponent, modulo 2^256.
+	 *
+	 * @param exponent the exponent
+	 * 
+	 * @return the result as a {@code Number}
+	 */
+	public Number pow(Number exponent) {
+		return new Number(toUInt256().pow(exponent.toUInt256()));
+	}
+
+	/**
+	 * Converts this number into a byte array, with the same layout of
+	 * {@link BigInteger#toByteArray()}.
 	 * 
 	 * @return the byte array representation
 	 */
@@ -231,49 +326,71 @@ public class Number implements Comparable<Number> {
 	 * @return the shifted number
 	 */
 	public Number shiftRight(int other) {
-		BigInteger me = toBigInteger(this);
-		return new Number(me.shiftRight(other));
+		return new Number(toUInt256().shiftRight(other));
+	}
+
+	/**
+	 * Shifts this number right by a specified number of bits, preserving its
+	 * sign when interpreted in two's complement.
+	 * 
+	 * @param other the number of positions to shift
+	 * 
+	 * @return the shifted number
+	 */
+	public Number shiftRightArithmetic(int other) {
+		return new Number(toUInt256().shiftRightArithmetic(other));
 	}
 
 	/**
-	 * Shifts this number left by a specified number of bits.
+	 * Shifts this number left by a specified number of bits, modulo 2^256.
 	 * 
 	 * @param other the number of positions to shift
 	 * 
 	 * @return the shifted number
 	 */
 	public Number shiftLeft(int other) {
-		BigInteger me = toBigInteger(this);
-		BigInteger shifted = me.shiftLeft(other);
-		BigInteger mask = BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE);
-		BigInteger evmResult = shifted.and(mask);
-		return new Number(evmResult);
+		return new Number(toUInt256().shiftLeft(other));
+	}
 
+	/**
+	 * Compares this number with another one, interpreting both as 256-bit
+	 * two's complement values.
+	 * 
+	 * @param other the other number
+	 * 
+	 * @return a negative integer, zero, or a positive integer as this number
+	 *             is less than, equal to, or greater than {@code other}
+	 */
+	public int signedCompareTo(Number other) {
+		if (bothInt(other))
+			return Integer.compare(i, other.i);
+		return toUInt256().signedCompareTo(other.toUInt256());
 	}
 
 	@Override
 	public String toString() {
-		if (b != null)
-			return b.toString();
+		if (w != null)
+			return w.toString();
 		return i + "";
 	}
 
 	@Override
 	public int compareTo(Number other) {
-		if (getType() == other.getType()) {
-			if (getType() == Type.INT)
-				return Integer.compare(this.i, other.i);
-		}
-
-		// Otherwise, fall back to BigInteger comparisons.
-		BigInteger me = toBigInteger(this);
-		BigInteger ot = toBigInteger(other);
-		return me.compareTo(ot);
+		if (bothInt(other))
+			return Integer.compare(this.i, other.i);
+		// a word is always greater than any integer
+		else if (w == null)
+			return -1;
+		else if (other.w == null)
+			return 1;
+		return w.compareTo(other.w);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(toBigInteger(this));
+		if (w != null)
+			return w.hashCode();
+		return Integer.hashCode(i);
 	}
 
 	@Override
@@ -285,6 +402,8 @@ public class Number implements Comparable<Number> {
 		if (getClass() != obj.getClass())
 			return false;
 		Number other = (Number) obj;
-		return Objects.equals(toBigInteger(this), toBigInteger(other));
+		if (bothInt(other))
+			return i == other.i;
+		return Objects.equals(w, other.w);
 	}
-}
\ No newline at end of file
+}
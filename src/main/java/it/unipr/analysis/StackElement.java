@@ -1,6 +1,5 @@
 package it.unipr.analysis;
 
-import it.unipr.utils.BitManager;
 import it.unive.lisa.analysis.BaseLattice;
 import it.unive.lisa.analysis.Lattice;
 import it.unive.lisa.analysis.SemanticException;
@@ -16,11 +15,9 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 	private static final Logger log = LogManager.getLogger(StackElement.class);
 
 	private static final Number ZERO_INT = new Number(0);
-	private static final Number ONE_INT = new Number(1);
-	private static final Number MAX = new Number(BigInteger.valueOf(2).pow(256));
 
-	public static final StackElement ZERO = new StackElement(0);
-	public static final StackElement ONE = new StackElement(1);
+	public static final StackElement ZERO = StackElementPool.intern(0);
+	public static final StackElement ONE = StackElementPool.intern(1);
 
 	public static final StackElement NOT_JUMPDEST_TOP = new StackElement(-10);
 
@@ -94,6 +91,42 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		this(new Number(i));
 	}
 
+	/**
+	 * Yields the stack element holding the given number, shared through the
+	 * {@link StackElementPool}.
+	 * 
+	 * @param n the number
+	 * 
+	 * @return the stack element holding {@code n}
+	 */
+	public static StackElement valueOf(Number n) {
+		return StackElementPool.intern(n);
+	}
+
+	/**
+	 * Yields the stack element holding the given integer, shared through the
+	 * {@link StackElementPool}.
+	 * 
+	 * @param i the integer value
+	 * 
+	 * @return the stack element holding {@code i}
+	 */
+	public static StackElement valueOf(int i) {
+		return StackElementPool.intern(i);
+	}
+
+	/**
+	 * Yields the stack element holding the given big integer, shared through
+	 * the {@link StackElementPool}.
+	 * 
+	 * @param i the big integer value
+	 * 
+	 * @return the stack element holding {@code i}
+	 */
+	public static StackElement valueOf(BigInteger i) {
+		return StackElementPool.intern(i);
+	}
+
 	@Override
 	public StackElement top() {
 		return TOP;
@@ -211,11 +244,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		Number add = this.n.add(other.n);
-		if (add.compareTo(MAX) >= 0)
-			add = add.subtract(MAX);
-
-		return new StackElement(add);
+		return valueOf(this.n.add(other.n));
 	}
 
 	/**
@@ -236,14 +265,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		Number sub;
-		if (this.n.compareTo(other.n) < 0) {
-			sub = MAX.subtract(other.n);
-			sub = sub.add(this.n);
-		} else
-			sub = this.n.subtract(other.n);
-
-		return new StackElement(sub);
+		return valueOf(this.n.subtract(other.n));
 	}
 
 	/**
@@ -268,10 +290,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		Number mul = this.n.multiply(other.n);
-		mul = mul.modulo(MAX);
-
-		return new StackElement(mul);
+		return valueOf(this.n.multiply(other.n));
 	}
 
 	/**
@@ -300,9 +319,9 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 			return NOT_JUMPDEST_TOP;
 
 		if (other.n.equals(ZERO_INT))
-			return new StackElement(ZERO_INT);
+			return ZERO;
 		else
-			return new StackElement(this.n.divide(other.n));
+			return valueOf(this.n.divide(other.n));
 	}
 
 	/**
@@ -325,15 +344,9 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 			return NOT_JUMPDEST_TOP;
 
 		if (other.n.equals(ZERO_INT))
-			return new StackElement(ZERO_INT);
-
-		int[] thisBits = BitManager.toBitArray(Number.toBigInteger(this.n));
-		int[] otherBits = BitManager.toBitArray(Number.toBigInteger(other.n));
-
-		int[] sdivBits = BitManager.sdiv(thisBits, otherBits);
-		BigInteger result = BitManager.fromBitArray(sdivBits);
+			return ZERO;
 
-		return new StackElement(new Number(result));
+		return valueOf(this.n.sdivide(other.n));
 	}
 
 	/**
@@ -361,9 +374,9 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 			return NOT_JUMPDEST_TOP;
 
 		if (other.n.equals(ZERO_INT))
-			return new StackElement(this.n);
+			return valueOf(this.n);
 		else
-			return new StackElement(this.n.subtract(other.n.multiply(this.n.divide(other.n))));
+			return valueOf(this.n.modulo(other.n));
 	}
 
 	/**
@@ -393,10 +406,9 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 			return NOT_JUMPDEST_TOP;
 
 		if (other.n.equals(ZERO_INT))
-			return new StackElement(ZERO_INT);
+			return ZERO;
 		else
-			return new StackElement(this.n.add(that.n).subtract(other.n.multiply(this.n.add(that.n).divide(other.n))));
-
+			return valueOf(this.n.addmod(that.n, other.n));
 	}
 
 	/**
@@ -426,10 +438,9 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 			return NOT_JUMPDEST_TOP;
 
 		if (other.n.equals(ZERO_INT))
-			return new StackElement(ZERO_INT);
+			return ZERO;
 		else
-			return new StackElement(
-					this.n.multiply(that.n).subtract(other.n.multiply(this.n.multiply(that.n).divide(other.n))));
+			return valueOf(this.n.mulmod(that.n, other.n));
 	}
 
 	/**
@@ -446,8 +457,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 	 *             either the base or the exponent is top, returns top. - If
 	 *             either the base or the exponent is "top, not jump
 	 *             destination", returns "not jump destination top". -
-	 *             Otherwise, performs numeric exponentiation while checking for
-	 *             overflow.
+	 *             Otherwise, performs numeric exponentiation modulo 2^256.
 	 */
 	public StackElement exp(StackElement other) {
 		if (isBottom() || other.isBottom())
@@ -459,15 +469,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		Number r = this.n;
-
-		for (int k = 0; other.n.compareTo(new Number(k)) > 0; k++)
-			if (r.compareTo(MAX) > 0)
-				return TOP;
-			else
-				r = r.multiply(this.n);
-
-		return new StackElement(r);
+		return valueOf(this.n.pow(other.n));
 	}
 
 	/**
@@ -590,7 +592,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		return new StackElement(this.n.and(other.n));
+		return valueOf(this.n.and(other.n));
 	}
 
 	/**
@@ -616,7 +618,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		return new StackElement(this.n.or(other.n));
+		return valueOf(this.n.or(other.n));
 
 	}
 
@@ -644,7 +646,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		return new StackElement(this.n.xor(other.n));
+		return valueOf(this.n.xor(other.n));
 	}
 
 	/**
@@ -670,10 +672,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		if (this.n.compareTo(ZERO_INT) >= 0)
-			return new StackElement(MAX.subtract(this.n.add(ONE_INT)));
-		else
-			return new StackElement(this.n.not());
+		return valueOf(this.n.not());
 	}
 
 	/**
@@ -700,17 +699,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		BigInteger a = Number.toBigInteger(this.n);
-		BigInteger b = Number.toBigInteger(other.n);
-
-		BigInteger HALF = BigInteger.valueOf(2).pow(255);
-		BigInteger MOD = BigInteger.valueOf(2).pow(256);
-		if (a.compareTo(HALF) >= 0)
-			a = a.subtract(MOD);
-		if (b.compareTo(HALF) >= 0)
-			b = b.subtract(MOD);
-
-		return (a.compareTo(b) < 0 ? ONE : ZERO);
+		return (this.n.signedCompareTo(other.n) < 0 ? ONE : ZERO);
 	}
 
 	/**
@@ -737,17 +726,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
 
-		BigInteger a = Number.toBigInteger(this.n);
-		BigInteger b = Number.toBigInteger(other.n);
-
-		BigInteger HALF = BigInteger.valueOf(2).pow(255);
-		BigInteger MOD = BigInteger.valueOf(2).pow(256);
-		if (a.compareTo(HALF) >= 0)
-			a = a.subtract(MOD);
-		if (b.compareTo(HALF) >= 0)
-			b = b.subtract(MOD);
-
-		return (a.compareTo(b) > 0 ? ONE : ZERO);
+		return (this.n.signedCompareTo(other.n) > 0 ? ONE : ZERO);
 	}
 
 	/**
@@ -771,11 +750,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (n.compareTo(new Number(256)) > 0)
 			return ZERO;
 
-		int[] bits = BitManager.toBitArray(Number.toBigInteger(other.n));
-		int[] shiftedBits = BitManager.shiftLeft(bits, n.getInt());
-		BigInteger result = BitManager.fromBitArray(shiftedBits);
-
-		return new StackElement(new Number(result));
+		return valueOf(other.n.shiftLeft(n.getInt()));
 	}
 
 	/**
@@ -800,11 +775,7 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		else if (n.compareTo(new Number(256)) > 0)
 			return ZERO;
 
-		int[] bits = BitManager.toBitArray(Number.toBigInteger(other.n));
-		int[] shiftedBits = BitManager.shiftRight(bits, n.getInt());
-		BigInteger result = BitManager.fromBitArray(shiftedBits);
-
-		return new StackElement(new Number(result));
+		return valueOf(other.n.shiftRight(n.getInt()));
 	}
 
 	/**
@@ -828,14 +799,10 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 			return top();
 		else if (isTopNotJumpdest() || other.isTopNotJumpdest())
 			return NOT_JUMPDEST_TOP;
-		else if (n.compareTo(new Number(Number.MAX_INT)) > 0)
+		else if (n.compareTo(new Number(Number.MAX_INT)) >= 0)
 			return bottom(); // fake path
 
-		int[] bits = BitManager.toBitArray(Number.toBigInteger(other.n));
-		int[] shiftedBits = BitManager.arithmeticShiftRight(bits, n.getInt());
-		BigInteger result = BitManager.fromBitArray(shiftedBits);
-
-		return new StackElement(new Number(result));
+		return valueOf(other.n.shiftRightArithmetic(n.getInt()));
 	}
 
 	/**
@@ -858,9 +825,27 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 		byte[] tmp = new byte[bytes.length];
 		for (int i = 0; i < bytes.length; i++)
 			tmp[i] = bytes[i].getValue();
-		BigInteger value = new BigInteger(1, tmp);
 
-		return new StackElement(new Number(value));
+		return fromBytes(tmp);
+	}
+
+	/**
+	 * Creates a new StackElement interpreting the given 32 bytes as an
+	 * unsigned big-endian integer.
+	 *
+	 * @param bytes a 32-element array of bytes
+	 *
+	 * @return a StackElement whose numeric value corresponds to the given
+	 *             bytes
+	 *
+	 * @throws IllegalArgumentException if the input array is null or its length
+	 *                                      is not exactly 32 elements
+	 */
+	public static StackElement fromBytes(byte[] bytes) {
+		if (bytes == null || bytes.length != 32)
+			throw new IllegalArgumentException("Invalid byte array: must be exactly 32 bytes");
+
+		return valueOf(new Number(UInt256.fromBytes(bytes)));
 	}
 
 	/**
@@ -948,6 +933,8 @@ public class StackElement implements BaseLattice<StackElement>, Comparable<Stack
 
 	@Override
 	public int compareTo(StackElement o) {
+		if (this == o)
+			return 0;
 		if (this.isBottom())
 			return o.isBottom() ? 0 : -1;
 		else if (this.isTop())
@@ -0,0 +1,155 @@
+package it.unipr.analysis;
+
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe intern pool of numeric {@link StackElement}s, keyed on
+ * their numeric value. Stack elements are immutable, hence the same instance
+ * can be shared by all the stacks of all the analyses running in parallel.
+ * <p>
+ * Values smaller than {@link #DIRECT_LIMIT} (e.g., jump destinations and
+ * memory offsets) are stored in a directly indexed table, while larger values
+ * (e.g., function selectors, masks and hashes) are stored in a concurrent map
+ * that stops growing once {@link #getMaxSize()} entries are reached.
+ */
+public final class StackElementPool {
+
+	/**
+	 * The values below this limit are stored in a directly indexed table. It
+	 * corresponds to the maximum size of a deployed contract (EIP-170), so that
+	 * every program counter has its own slot.
+	 */
+	public static final int DIRECT_LIMIT = 0x6000;
+
+	/**
+	 * The maximum number of values stored in the map of large values.
+	 */
+	private static final int MAX_SIZE = 1 << 16;
+
+	private static final AtomicReferenceArray<StackElement> DIRECT = new AtomicReferenceArray<>(DIRECT_LIMIT);
+	private static final ConcurrentHashMap<Number, StackElement> POOL = new ConcurrentHashMap<>();
+
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+
+	private StackElementPool() {
+	}
+
+	/**
+	 * Yields the interned stack element holding {@code n}.
+	 *
+	 * @param n the numeric value
+	 *
+	 * @return the interned stack element holding {@code n}, or a fresh one if
+	 *             the pool is full
+	 */
+	static StackElement intern(Number n) {
+		if (n.getType() == Number.Type.INT && n.getInt() >= 0 && n.getInt() < DIRECT_LIMIT) {
+			int i = n.getInt();
+			StackElement cached = DIRECT.get(i);
+			if (cached != null) {
+				HITS.increment();
+				return cached;
+			}
+
+			MISSES.increment();
+			StackElement fresh = new StackElement(n);
+			return DIRECT.compareAndSet(i, null, fresh) ? fresh : DIRECT.get(i);
+		}
+
+		StackElement cached = POOL.get(n);
+		if (cached != null) {
+			HITS.increment();
+			return cached;
+		}
+
+		MISSES.increment();
+		StackElement fresh = new StackElement(n);
+		if (POOL.size() < MAX_SIZE) {
+			StackElement previous = POOL.putIfAbsent(n, fresh);
+			if (previous != null)
+				return previous;
+		}
+
+		return fresh;
+	}
+
+	/**
+	 * Yields the interned stack element holding {@code i}.
+	 *
+	 * @param i the integer value
+	 *
+	 * @return the interned stack element holding {@code i}
+	 */
+	static StackElement intern(int i) {
+		if (i >= 0 && i < DIRECT_LIMIT) {
+			StackElement cached = DIRECT.get(i);
+			if (cached != null) {
+				HITS.increment();
+				return cached;
+			}
+		}
+		return intern(new Number(i));
+	}
+
+	/**
+	 * Yields the interned stack element holding {@code i}.
+	 *
+	 * @param i the big integer value
+	 *
+	 * @return the interned stack element holding {@code i}
+	 */
+	static StackElement intern(BigInteger i) {
+		return intern(new Number(i));
+	}
+
+	/**
+	 * Yields the number of lookups that found an interned element.
+	 *
+	 * @return the number of hits
+	 */
+	public static long getHits() {
+		return HITS.sum();
+	}
+
+	/**
+	 * Yields the number of lookups that had to build a new element.
+	 *
+	 * @return the number of misses
+	 */
+	public static long getMisses() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * Yields the number of large values currently interned.
+	 *
+	 * @return the number of large values currently interned
+	 */
+	public static int size() {
+		return POOL.size();
+	}
+
+	/**
+	 * Yields the maximum number of large values that can be interned.
+	 *
+	 * @return the maximum number of large values that can be interned
+	 */
+	public static int getMaxSize() {
+		return MAX_SIZE;
+	}
+
+	/**
+	 * Empties the map of large values and resets the counters, to be called
+	 * once a batch of analyses has ended, so that the values of its contracts
+	 * do not fill the pool for the next ones.
+	 */
+	public static void clear() {
+		POOL.clear();
+		HITS.reset();
+		MISSES.reset();
+	}
+}
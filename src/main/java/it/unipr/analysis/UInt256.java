@@ -0,0 +1,655 @@
+package it.unipr.analysis;
+
+import java.math.BigInteger;
+
+/**
+ * Immutable 256-bit unsigned EVM word, backed by four {@code long} limbs
+ * (least significant first). All the arithmetic operations wrap around modulo
+ * 2^256, as the EVM does, and the signed operations interpret the word in
+ * two's complement.
+ */
+public final class UInt256 implements Comparable<UInt256> {
+
+	/**
+	 * The number of bits of an EVM word.
+	 */
+	public static final int SIZE = 256;
+
+	/**
+	 * The number of bytes of an EVM word.
+	 */
+	public static final int BYTES = 32;
+
+	/**
+	 * The word 0.
+	 */
+	public static final UInt256 ZERO = new UInt256(0, 0, 0, 0);
+
+	/**
+	 * The word 1.
+	 */
+	public static final UInt256 ONE = new UInt256(1, 0, 0, 0);
+
+	/**
+	 * The maximal representable value, i.e., 2^256 - 1.
+	 */
+	public static final UInt256 MAX_VALUE = new UInt256(-1L, -1L, -1L, -1L);
+
+	/**
+	 * The minimal signed value, i.e., -2^255.
+	 */
+	private static final UInt256 MIN_SIGNED = new UInt256(0, 0, 0, Long.MIN_VALUE);
+
+	private final long l0, l1, l2, l3;
+
+	private UInt256(long l0, long l1, long l2, long l3) {
+		this.l0 = l0;
+		this.l1 = l1;
+		this.l2 = l2;
+		this.l3 = l3;
+	}
+
+	private UInt256(long[] limbs) {
+		this(limbs[0], limbs[1], limbs[2], limbs[3]);
+	}
+
+	/**
+	 * Builds a word from a {@code long} value. Negative values are sign
+	 * extended, i.e., they yield their two's complement representation.
+	 *
+	 * @param value the value
+	 *
+	 * @return the word corresponding to {@code value}
+	 */
+	public static UInt256 valueOf(long value) {
+		if (value == 0)
+			return ZERO;
+		else if (value == 1)
+			return ONE;
+		long ext = value < 0 ? -1L : 0L;
+		return new UInt256(value, ext, ext, ext);
+	}
+
+	/**
+	 * Builds a word from a big integer, reduced modulo 2^256.
+	 *
+	 * @param value the big integer
+	 *
+	 * @return the word corresponding to {@code value} modulo 2^256
+	 */
+	public static UInt256 valueOf(BigInteger value) {
+		if (value.signum() >= 0 && value.bitLength() < 64)
+			return valueOf(value.longValue());
+		return new UInt256(
+				value.longValue(),
+				value.shiftRight(64).longValue(),
+				value.shiftRight(128).longValue(),
+				value.shiftRight(192).longValue());
+	}
+
+	/**
+	 * Builds a word from its big-endian byte representation. Arrays shorter
+	 * than {@link #BYTES} are zero-extended on the left.
+	 *
+	 * @param bytes the big-endian bytes, at most {@link #BYTES} long
+	 *
+	 * @return the word represented by {@code bytes}
+	 *
+	 * @throws IllegalArgumentException if {@code bytes} is longer than
+	 *                                      {@link #BYTES}
+	 */
+	public static UInt256 fromBytes(byte[] bytes) {
+		if (bytes.length > BYTES)
+			throw new IllegalArgumentException("Invalid byte array: at most 32 bytes are allowed");
+
+		long[] limbs = new long[4];
+		for (int i = 0; i < bytes.length; i++) {
+			int pos = bytes.length - 1 - i;
+			limbs[i >>> 3] |= (bytes[pos] & 0xFFL) << ((i & 7) << 3);
+		}
+		return new UInt256(limbs);
+	}
+
+	private long limb(int i) {
+		switch (i) {
+		case 0:
+			return l0;
+		case 1:
+			return l1;
+		case 2:
+			return l2;
+		default:
+			return l3;
+		}
+	}
+
+	private long[] limbs() {
+		return new long[] { l0, l1, l2, l3 };
+	}
+
+	/**
+	 * Yields the {@code index}-th byte of this word, in big-endian order, i.e.,
+	 * index {@code 0} is the most significant byte.
+	 *
+	 * @param index the index of the byte, between 0 and 31
+	 *
+	 * @return the selected byte
+	 */
+	public byte getByte(int index) {
+		int fromRight = BYTES - 1 - index;
+		return (byte) (limb(fromRight >>> 3) >>> ((fromRight & 7) << 3));
+	}
+
+	/**
+	 * Yields the 32-byte big-endian representation of this word.
+	 *
+	 * @return the big-endian bytes of this word
+	 */
+	public byte[] toBytes() {
+		byte[] result = new byte[BYTES];
+		for (int i = 0; i < BYTES; i++)
+			result[i] = getByte(i);
+		return result;
+	}
+
+	/**
+	 * Yields the (unsigned) big integer corresponding to this word.
+	 *
+	 * @return the big integer corresponding to this word
+	 */
+	public BigInteger toBigInteger() {
+		if (l1 == 0 && l2 == 0 && l3 == 0 && l0 >= 0)
+			return BigInteger.valueOf(l0);
+		return new BigInteger(1, toBytes());
+	}
+
+	/**
+	 * Checks whether this word is zero.
+	 *
+	 * @return {@code true} if this word is zero, {@code false} otherwise
+	 */
+	public boolean isZero() {
+		return (l0 | l1 | l2 | l3) == 0;
+	}
+
+	/**
+	 * Checks whether this word fits a non-negative {@code int}, i.e., whether
+	 * it is smaller than 2^31.
+	 *
+	 * @return {@code true} if this word fits a non-negative {@code int},
+	 *             {@code false} otherwise
+	 */
+	public boolean fitsInt() {
+		return l1 == 0 && l2 == 0 && l3 == 0 && (l0 >>> 31) == 0;
+	}
+
+	/**
+	 * Yields the lowest 32 bits of this word.
+	 *
+	 * @return the lowest 32 bits of this word
+	 */
+	public int intValue() {
+		return (int) l0;
+	}
+
+	/**
+	 * Checks whether this word is negative, when interpreted in two's
+	 * complement.
+	 *
+	 * @return {@code true} if the most significant bit is set
+	 */
+	public boolean isNegative() {
+		return l3 < 0;
+	}
+
+	/**
+	 * Yields the number of significant bits of this word.
+	 *
+	 * @return the position of the highest set bit plus one, or zero if this
+	 *             word is zero
+	 */
+	public int bitLength() {
+		for (int i = 3; i >= 0; i--) {
+			long l = limb(i);
+			if (l != 0)
+				return i * 64 + 64 - Long.numberOfLeadingZeros(l);
+		}
+		return 0;
+	}
+
+	/**
+	 * Checks whether the {@code n}-th bit (from the least significant) is set.
+	 *
+	 * @param n the bit index, between 0 and 255
+	 *
+	 * @return {@code true} if the bit is set
+	 */
+	public boolean testBit(int n) {
+		return ((limb(n >>> 6) >>> (n & 63)) & 1L) != 0;
+	}
+
+	/**
+	 * Adds {@code other} to this word, modulo 2^256.
+	 *
+	 * @param other the word to add
+	 *
+	 * @return the wrapped sum
+	 */
+	public UInt256 add(UInt256 other) {
+		long r0 = l0 + other.l0;
+		long c = Long.compareUnsigned(r0, l0) < 0 ? 1 : 0;
+		long r1 = l1 + other.l1 + c;
+		c = (c == 0 ? Long.compareUnsigned(r1, l1) < 0 : Long.compareUnsigned(r1, l1) <= 0) ? 1 : 0;
+		long r2 = l2 + other.l2 + c;
+		c = (c == 0 ? Long.compareUnsigned(r2, l2) < 0 : Long.compareUnsigned(r2, l2) <= 0) ? 1 : 0;
+		long r3 = l3 + other.l3 + c;
+		return new UInt256(r0, r1, r2, r3);
+	}
+
+	/**
+	 * Subtracts {@code other} from this word, modulo 2^256.
+	 *
+	 * @param other the word to subtract
+	 *
+	 * @return the wrapped difference
+	 */
+	public UInt256 subtract(UInt256 other) {
+		long r0 = l0 - other.l0;
+		long b = Long.compareUnsigned(l0, other.l0) < 0 ? 1 : 0;
+		long r1 = l1 - other.l1 - b;
+		b = (b == 0 ? Long.compareUnsigned(l1, other.l1) < 0 : Long.compareUnsigned(l1, other.l1) <= 0) ? 1 : 0;
+		long r2 = l2 - other.l2 - b;
+		b = (b == 0 ? Long.compareUnsigned(l2, other.l2) < 0 : Long.compareUnsigned(l2, other.l2) <= 0) ? 1 : 0;
+		long r3 = l3 - other.l3 - b;
+		return new UInt256(r0, r1, r2, r3);
+	}
+
+	/**
+	 * Yields the two's complement negation of this word.
+	 *
+	 * @return {@code 2^256 - this}, modulo 2^256
+	 */
+	public UInt256 negate() {
+		return ZERO.subtract(this);
+	}
+
+	/**
+	 * Multiplies this word by {@code other}, modulo 2^256.
+	 *
+	 * @param other the word to multiply by
+	 *
+	 * @return the wrapped product
+	 */
+	public UInt256 multiply(UInt256 other) {
+		if (isZero() || other.isZero())
+			return ZERO;
+
+		long[] a = limbs();
+		long[] b = other.limbs();
+		long[] r = new long[4];
+
+		for (int i = 0; i < 4; i++) {
+			if (a[i] == 0)
+				continue;
+			long carry = 0;
+			for (int j = 0; i + j < 4; j++) {
+				long lo = a[i] * b[j];
+				long hi = unsignedMultiplyHigh(a[i], b[j]);
+				long s = r[i + j] + lo;
+				if (Long.compareUnsigned(s, lo) < 0)
+					hi++;
+				long s2 = s + carry;
+				if (Long.compareUnsigned(s2, s) < 0)
+					hi++;
+				r[i + j] = s2;
+				carry = hi;
+			}
+		}
+
+		return new UInt256(r);
+	}
+
+	/**
+	 * Unsigned division. As in the EVM, the division by zero yields zero.
+	 *
+	 * @param other the divisor
+	 *
+	 * @return the unsigned quotient
+	 */
+	public UInt256 divide(UInt256 other) {
+		if (other.isZero())
+			return ZERO;
+		if (fitsLong() && other.fitsLong())
+			return new UInt256(Long.divideUnsigned(l0, other.l0), 0, 0, 0);
+		if (compareTo(other) < 0)
+			return ZERO;
+
+		long[] q = new long[4];
+		divRem(limbs(), other.limbs(), q);
+		return new UInt256(q);
+	}
+
+	/**
+	 * Unsigned remainder. As in the EVM, the remainder modulo zero yields zero.
+	 *
+	 * @param other the modulus
+	 *
+	 * @return the unsigned remainder
+	 */
+	public UInt256 mod(UInt256 other) {
+		if (other.isZero())
+			return ZERO;
+		if (fitsLong() && other.fitsLong())
+			return new UInt256(Long.remainderUnsigned(l0, other.l0), 0, 0, 0);
+		if (compareTo(other) < 0)
+			return this;
+
+		return new UInt256(divRem(limbs(), other.limbs(), new long[4]));
+	}
+
+	/**
+	 * Signed division (SDIV), truncating towards zero. The division by zero
+	 * yields zero and {@code -2^255 / -1} yields {@code -2^255}.
+	 *
+	 * @param other the divisor
+	 *
+	 * @return the signed quotient
+	 */
+	public UInt256 sdiv(UInt256 other) {
+		if (other.isZero())
+			return ZERO;
+		if (equals(MIN_SIGNED) && other.equals(MAX_VALUE))
+			return MIN_SIGNED;
+
+		UInt256 q = abs().divide(other.abs());
+		return isNegative() != other.isNegative() ? q.negate() : q;
+	}
+
+	/**
+	 * Signed remainder (SMOD). The sign of the result is the sign of the
+	 * dividend, and the remainder modulo zero yields zero.
+	 *
+	 * @param other the modulus
+	 *
+	 * @return the signed remainder
+	 */
+	public UInt256 smod(UInt256 other) {
+		if (other.isZero())
+			return ZERO;
+
+		UInt256 r = abs().mod(other.abs());
+		return isNegative() ? r.negate() : r;
+	}
+
+	/**
+	 * Computes {@code (this + that) % modulus} without wrapping the
+	 * intermediate sum, as ADDMOD does.
+	 *
+	 * @param that    the second addend
+	 * @param modulus the modulus
+	 *
+	 * @return the modular sum, or zero if {@code modulus} is zero
+	 */
+	public UInt256 addmod(UInt256 that, UInt256 modulus) {
+		if (modulus.isZero())
+			return ZERO;
+
+		UInt256 sum = add(that);
+		if (sum.compareTo(this) >= 0)
+			return sum.mod(modulus);
+
+		// the 257-bit sum overflowed
+		return valueOf(toBigInteger().add(that.toBigInteger()).mod(modulus.toBigInteger()));
+	}
+
+	/**
+	 * Computes {@code (this * that) % modulus} without wrapping the
+	 * intermediate product, as MULMOD does.
+	 *
+	 * @param that    the second factor
+	 * @param modulus the modulus
+	 *
+	 * @return the modular product, or zero if {@code modulus} is zero
+	 */
+	public UInt256 mulmod(UInt256 that, UInt256 modulus) {
+		if (modulus.isZero())
+			return ZERO;
+		if (bitLength() + that.bitLength() <= SIZE)
+			return multiply(that).mod(modulus);
+
+		return valueOf(toBigInteger().multiply(that.toBigInteger()).mod(modulus.toBigInteger()));
+	}
+
+	/**
+	 * Exponentiation modulo 2^256, by square-and-multiply.
+	 *
+	 * @param exponent the exponent
+	 *
+	 * @return {@code this^exponent} modulo 2^256
+	 */
+	public UInt256 pow(UInt256 exponent) {
+		UInt256 result = ONE;
+		UInt256 base = this;
+		int bits = exponent.bitLength();
+		for (int i = 0; i < bits; i++) {
+			if (exponent.testBit(i))
+				result = result.multiply(base);
+			if (i + 1 < bits)
+				base = base.multiply(base);
+		}
+		return result;
+	}
+
+	/**
+	 * Bitwise AND.
+	 *
+	 * @param other the other word
+	 *
+	 * @return {@code this & other}
+	 */
+	public UInt256 and(UInt256 other) {
+		return new UInt256(l0 & other.l0, l1 & other.l1, l2 & other.l2, l3 & other.l3);
+	}
+
+	/**
+	 * Bitwise OR.
+	 *
+	 * @param other the other word
+	 *
+	 * @return {@code this | other}
+	 */
+	public UInt256 or(UInt256 other) {
+		return new UInt256(l0 | other.l0, l1 | other.l1, l2 | other.l2, l3 | other.l3);
+	}
+
+	/**
+	 * Bitwise XOR.
+	 *
+	 * @param other the other word
+	 *
+	 * @return {@code this ^ other}
+	 */
+	public UInt256 xor(UInt256 other) {
+		return new UInt256(l0 ^ other.l0, l1 ^ other.l1, l2 ^ other.l2, l3 ^ other.l3);
+	}
+
+	/**
+	 * Bitwise NOT.
+	 *
+	 * @return {@code ~this}
+	 */
+	public UInt256 not() {
+		return new UInt256(~l0, ~l1, ~l2, ~l3);
+	}
+
+	/**
+	 * Logical left shift (SHL). Shifting by 256 or more bits yields zero.
+	 *
+	 * @param n the number of bits to shift
+	 *
+	 * @return the shifted word
+	 */
+	public UInt256 shiftLeft(int n) {
+		if (n <= 0)
+			return n == 0 ? this : shiftRight(-n);
+		if (n >= SIZE)
+			return ZERO;
+
+		int limbShift = n >>> 6, bitShift = n & 63;
+		long[] r = new long[4];
+		for (int i = 3; i >= limbShift; i--) {
+			long v = limb(i - limbShift) << bitShift;
+			if (bitShift != 0 && i - limbShift - 1 >= 0)
+				v |= limb(i - limbShift - 1) >>> (64 - bitShift);
+			r[i] = v;
+		}
+		return new UInt256(r);
+	}
+
+	/**
+	 * Logical right shift (SHR). Shifting by 256 or more bits yields zero.
+	 *
+	 * @param n the number of bits to shift
+	 *
+	 * @return the shifted word
+	 */
+	public UInt256 shiftRight(int n) {
+		if (n <= 0)
+			return n == 0 ? this : shiftLeft(-n);
+		if (n >= SIZE)
+			return ZERO;
+
+		int limbShift = n >>> 6, bitShift = n & 63;
+		long[] r = new long[4];
+		for (int i = 0; i + limbShift < 4; i++) {
+			long v = limb(i + limbShift) >>> bitShift;
+			if (bitShift != 0 && i + limbShift + 1 < 4)
+				v |= limb(i + limbShift + 1) << (64 - bitShift);
+			r[i] = v;
+		}
+		return new UInt256(r);
+	}
+
+	/**
+	 * Arithmetic right shift (SAR), filling the vacated bits with the sign
+	 * bit.
+	 *
+	 * @param n the number of bits to shift, non-negative
+	 *
+	 * @return the shifted word
+	 */
+	public UInt256 shiftRightArithmetic(int n) {
+		if (!isNegative())
+			return shiftRight(n);
+		if (n >= SIZE)
+			return MAX_VALUE;
+		if (n == 0)
+			return this;
+		return shiftRight(n).or(MAX_VALUE.shiftLeft(SIZE - n));
+	}
+
+	/**
+	 * Compares this word with {@code other}, interpreting both in two's
+	 * complement.
+	 *
+	 * @param other the other word
+	 *
+	 * @return a negative integer, zero, or a positive integer as this word is
+	 *             less than, equal to, or greater than {@code other}
+	 */
+	public int signedCompareTo(UInt256 other) {
+		if (l3 != other.l3)
+			return Long.compare(l3, other.l3);
+		return compareTo(other);
+	}
+
+	@Override
+	public int compareTo(UInt256 other) {
+		if (l3 != other.l3)
+			return Long.compareUnsigned(l3, other.l3);
+		if (l2 != other.l2)
+			return Long.compareUnsigned(l2, other.l2);
+		if (l1 != other.l1)
+			return Long.compareUnsigned(l1, other.l1);
+		return Long.compareUnsigned(l0, other.l0);
+	}
+
+	@Override
+	public int hashCode() {
+		long h = l0 ^ (l1 * 31) ^ (l2 * 961) ^ (l3 * 29791);
+		return (int) (h ^ (h >>> 32));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof UInt256))
+			return false;
+		UInt256 other = (UInt256) obj;
+		return l0 == other.l0 && l1 == other.l1 && l2 == other.l2 && l3 == other.l3;
+	}
+
+	@Override
+	public String toString() {
+		if (fitsLong() && l0 >= 0)
+			return Long.toString(l0);
+		return toBigInteger().toString();
+	}
+
+	private boolean fitsLong() {
+		return l1 == 0 && l2 == 0 && l3 == 0;
+	}
+
+	private UInt256 abs() {
+		return isNegative() ? negate() : this;
+	}
+
+	private static long unsignedMultiplyHigh(long a, long b) {
+		return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+	}
+
+	/**
+	 * Binary long division over little-endian limbs. Fills {@code q} with the
+	 * quotient and yields the remainder.
+	 */
+	private static long[] divRem(long[] n, long[] d, long[] q) {
+		long[] r = new long[4];
+		int bits = new UInt256(n).bitLength();
+		for (int i = bits - 1; i >= 0; i--) {
+			boolean carry = r[3] < 0;
+			shiftLeftOne(r);
+			r[0] |= (n[i >>> 6] >>> (i & 63)) & 1L;
+			if (carry || compare(r, d) >= 0) {
+				subtractInPlace(r, d);
+				q[i >>> 6] |= 1L << (i & 63);
+			}
+		}
+		return r;
+	}
+
+	private static void shiftLeftOne(long[] x) {
+		x[3] = (x[3] << 1) | (x[2] >>> 63);
+		x[2] = (x[2] << 1) | (x[1] >>> 63);
+		x[1] = (x[1] << 1) | (x[0] >>> 63);
+		x[0] = x[0] << 1;
+	}
+
+	private static int compare(long[] a, long[] b) {
+		for (int i = 3; i >= 0; i--)
+			if (a[i] != b[i])
+				return Long.compareUnsigned(a[i], b[i]);
+		return 0;
+	}
+
+	private static void subtractInPlace(long[] a, long[] b) {
+		long borrow = 0;
+		for (int i = 0; i < 4; i++) {
+			long ai = a[i];
+			long r = ai - b[i] - borrow;
+			borrow = (borrow == 0 ? Long.compareUnsigned(ai, b[i]) < 0 : Long.compareUnsigned(ai, b[i]) <= 0) ? 1
+					: 0;
+			a[i] = r;
+		}
+	}
+}
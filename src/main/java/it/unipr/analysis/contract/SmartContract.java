@@ -1,19 +1,28 @@
 package it.unipr.analysis.contract;
 
 import it.unipr.EVMLiSA;
+import it.unipr.analysis.EVMAbstractState;
 import it.unipr.cfg.EVMCFG;
 import it.unipr.cfg.push.Push;
 import it.unipr.frontend.EVMFrontend;
 import it.unipr.utils.*;
+import it.unive.lisa.analysis.AnalyzedCFG;
+import it.unive.lisa.analysis.SimpleAbstractState;
+import it.unive.lisa.analysis.heap.MonolithicHeap;
+import it.unive.lisa.analysis.nonrelational.value.TypeEnvironment;
+import it.unive.lisa.analysis.types.InferredTypes;
 import it.unive.lisa.program.cfg.statement.Statement;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.json.JSONArray;
@@ -45,6 +54,9 @@ public class SmartContract {
 	/** Base directory for storing contract analysis results. */
 	private static Path _workingDirectory = Path.of("execution", "results");
 
+	/** Whether the mnemonic bytecode file is written for each contract. */
+	private static boolean _writeMnemonicBytecodeFile = true;
+
 	/** Path to the contract's ABI file. */
 	private Path _abiFilePath;
 
@@ -57,6 +69,10 @@ public class SmartContract {
 	/** Control flow graph of the contract. */
 	private EVMCFG _cfg;
 
+	/** Results of the analysis that has built the CFG, until checked. */
+	private Collection<AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+			TypeEnvironment<InferredTypes>>>> _analysisResults;
+
 	/** Basic blocks extracted from the CFG. */
 	private Set<BasicBlock> _basicBlocks;
 
@@ -171,8 +187,7 @@ public class SmartContract {
 		}
 
 		try {
-			EVMFrontend.opcodesFromBytecode(_bytecode, _mnemonicBytecodeFilePath.toString());
-			this._mnemonicBytecode = new String(Files.readAllBytes(Paths.get(_mnemonicBytecodeFilePath.toString())));
+			generateMnemonicBytecode();
 		} catch (IOException e) {
 			log.error("Failed to save mnemonic bytecode to file for contract {}", address);
 			System.err.println(
@@ -220,8 +235,7 @@ public class SmartContract {
 
 		try {
 			this._bytecode = new String(Files.readAllBytes(Paths.get(bytecodeFilePath.toString())));
-			EVMFrontend.opcodesFromBytecode(_bytecode, _mnemonicBytecodeFilePath.toString());
-			this._mnemonicBytecode = new String(Files.readAllBytes(Paths.get(_mnemonicBytecodeFilePath.toString())));
+			generateMnemonicBytecode();
 		} catch (IOException e) {
 			log.warn("Failed to read bytecode from files: {}", _bytecodeFilePath);
 		}
@@ -350,6 +364,16 @@ public class SmartContract {
 		return this._cfg;
 	}
 
+	/**
+	 * Returns the results of the analysis that has built the CFG.
+	 *
+	 * @return The analysis results, or {@code null} if not available.
+	 */
+	public Collection<AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+			TypeEnvironment<InferredTypes>>>> getAnalysisResults() {
+		return this._analysisResults;
+	}
+
 	/**
 	 * Returns the basic blocks of the contract.
 	 *
@@ -443,8 +467,7 @@ public class SmartContract {
 			Files.writeString(this._bytecodeFilePath, this._bytecode, StandardOpenOption.CREATE,
 					StandardOpenOption.TRUNCATE_EXISTING);
 
-			EVMFrontend.opcodesFromBytecode(_bytecode, _mnemonicBytecodeFilePath.toString());
-			this._mnemonicBytecode = new String(Files.readAllBytes(Paths.get(_mnemonicBytecodeFilePath.toString())));
+			generateMnemonicBytecode();
 		} catch (IOException e) {
 			log.error("Failed to write bytecode or mnemonic bytecode to files {}", outputDir);
 			System.err.println(JSONManager
@@ -527,6 +550,21 @@ public class SmartContract {
 		return this;
 	}
 
+	/**
+	 * Sets the results of the analysis that has built the CFG, so that the
+	 * checkers can reuse them.
+	 *
+	 * @param analysisResults The analysis results, or {@code null} to release
+	 *                            them.
+	 * 
+	 * @return This SmartContract instance for method chaining.
+	 */
+	public SmartContract setAnalysisResults(Collection<AnalyzedCFG<SimpleAbstractState<MonolithicHeap,
+			EVMAbstractState, TypeEnvironment<InferredTypes>>>> analysisResults) {
+		this._analysisResults = analysisResults;
+		return this;
+	}
+
 	/**
 	 * Sets the statistical information.
 	 *
@@ -608,6 +646,32 @@ public class SmartContract {
 		_workingDirectory = workingDirectory;
 	}
 
+	/**
+	 * Disables the mnemonic bytecode (i.e., {@code .opcode}) file of all the
+	 * contracts. The CFG is built from the bytecode anyway, hence the file is
+	 * only needed to inspect the disassembled contract.
+	 */
+	public static void setSkipMnemonicBytecodeFile() {
+		_writeMnemonicBytecodeFile = false;
+	}
+
+	/**
+	 * Disassembles the contract bytecode and writes the mnemonic bytecode to
+	 * its file, unless disabled by {@link #setSkipMnemonicBytecodeFile()}.
+	 *
+	 * @throws IOException if an I/O error occurs while writing the file
+	 */
+	private void generateMnemonicBytecode() throws IOException {
+		if (!_writeMnemonicBytecodeFile)
+			return;
+
+		StringWriter writer = new StringWriter();
+		EVMFrontend.opcodesFromBytecode(_bytecode, writer);
+		this._mnemonicBytecode = writer.toString();
+		Files.writeString(_mnemonicBytecodeFilePath, _mnemonicBytecode, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+	}
+
 	/**
 	 * Sets the execution time for this contract.
 	 *
@@ -631,12 +695,47 @@ public class SmartContract {
 			return;
 		}
 
-		for (Statement node : _cfg.getNodes())
+		forEachFunctionEntryPoint(_cfg, Signature::addEntryPoint);
+	}
+
+	/**
+	 * Finds the entry points of the functions of the contract in the given
+	 * CFG, in the same way as {@link #computeFunctionsSignatureEntryPoints()},
+	 * without associating them to the signatures. It can be called before the
+	 * CFG is analyzed, as the dispatcher jumps are pushed ones.
+	 *
+	 * @param cfg the CFG of the contract
+	 *
+	 * @return the entry points of the functions, empty if the signatures are
+	 *             unknown
+	 */
+	public Set<Statement> findFunctionsEntryPoints(EVMCFG cfg) {
+		Set<Statement> entryPoints = new HashSet<>();
+		if (_functionsSignature == null)
+			return entryPoints;
+
+		forEachFunctionEntryPoint(cfg, (signature, entryPoint) -> {
+			if (entryPoint != null)
+				entryPoints.add(entryPoint);
+		});
+		return entryPoints;
+	}
+
+	/**
+	 * Matches the selectors of the function signatures against the Push
+	 * statements of the given CFG, passing each matching signature to
+	 * {@code action} together with the closest JUMPDEST to the Push, i.e.,
+	 * the entry point of the function ({@code null} if there is none).
+	 *
+	 * @param cfg    the CFG of the contract
+	 * @param action the action to perform on each signature and entry point
+	 */
+	private void forEachFunctionEntryPoint(EVMCFG cfg, BiConsumer<Signature, Statement> action) {
+		for (Statement node : cfg.getNodes())
 			if (node instanceof Push)
 				for (Signature signature : _functionsSignature)
 					if (node.toString().contains(signature.getSelector()))
-						signature.addEntryPoint(_cfg.getCloserJumpdest(node));
-
+						action.accept(signature, cfg.getCloserJumpdest(node));
 	}
 
 	/**
@@ -770,6 +869,23 @@ public class SmartContract {
 		return "";
 	}
 
+	/**
+	 * Releases the bytecode, the ABI, the CFG and everything derived from it,
+	 * keeping only the statistics and the vulnerabilities. To be called once
+	 * the results of this contract have been saved.
+	 */
+	public void release() {
+		this._bytecode = null;
+		this._mnemonicBytecode = null;
+		this._abi = null;
+		this._cfg = null;
+		this._analysisResults = null;
+		this._basicBlocks = null;
+		this._functionsSignature = null;
+		this._eventsSignature = null;
+		this._allFunctionsEntryPoints = null;
+	}
+
 	/**
 	 * Converts this SmartContract to a JSON object. Includes all fields of the
 	 * contract, including bytecode, ABI, signatures, and analysis results.
@@ -814,7 +930,7 @@ public class SmartContract {
 		jsonObject.put("basic_blocks_pc", _basicBlocks != null ? BasicBlock.basicBlocksToLongArrayToString(
 				BasicBlock.basicBlocksToLongArray(_basicBlocks)) : new JSONArray());
 
-		jsonObject.put("last_pc", this._cfg.getLastOpcodePc());
+		jsonObject.put("last_pc", _cfg != null ? _cfg.getLastOpcodePc() : -1);
 
 		jsonObject.put("execution_time", _executionTime);
 
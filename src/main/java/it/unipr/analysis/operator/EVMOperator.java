@@ -0,0 +1,639 @@
+package it.unipr.analysis.operator;
+
+import it.unive.lisa.symbolic.value.operator.unary.UnaryOperator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Dispatch table from the EVM symbolic operator singletons to an enumerated
+ * operator code. The table is filled once at class-load time, so that the
+ * abstract domains can switch over the operator code (a plain ordinal
+ * lookup) instead of switching over the simple name of the operator class.
+ */
+public enum EVMOperator {
+
+	/**
+	 * The {@link AddOperator}.
+	 */
+	ADD(AddOperator.INSTANCE),
+
+	/**
+	 * The {@link AddmodOperator}.
+	 */
+	ADDMOD(AddmodOperator.INSTANCE),
+
+	/**
+	 * The {@link AddressOperator}.
+	 */
+	ADDRESS(AddressOperator.INSTANCE),
+
+	/**
+	 * The {@link AndOperator}.
+	 */
+	AND(AndOperator.INSTANCE),
+
+	/**
+	 * The {@link BalanceOperator}.
+	 */
+	BALANCE(BalanceOperator.INSTANCE),
+
+	/**
+	 * The {@link BasefeeOperator}.
+	 */
+	BASEFEE(BasefeeOperator.INSTANCE),
+
+	/**
+	 * The {@link BlobBaseFeeOperator}.
+	 */
+	BLOBBASEFEE(BlobBaseFeeOperator.INSTANCE),
+
+	/**
+	 * The {@link BlobHashOperator}.
+	 */
+	BLOBHASH(BlobHashOperator.INSTANCE),
+
+	/**
+	 * The {@link BlockhashOperator}.
+	 */
+	BLOCKHASH(BlockhashOperator.INSTANCE),
+
+	/**
+	 * The {@link ByteOperator}.
+	 */
+	BYTE(ByteOperator.INSTANCE),
+
+	/**
+	 * The {@link CallOperator}.
+	 */
+	CALL(CallOperator.INSTANCE),
+
+	/**
+	 * The {@link CallcodeOperator}.
+	 */
+	CALLCODE(CallcodeOperator.INSTANCE),
+
+	/**
+	 * The {@link CalldatacopyOperator}.
+	 */
+	CALLDATACOPY(CalldatacopyOperator.INSTANCE),
+
+	/**
+	 * The {@link CalldataloadOperator}.
+	 */
+	CALLDATALOAD(CalldataloadOperator.INSTANCE),
+
+	/**
+	 * The {@link CalldatasizeOperator}.
+	 */
+	CALLDATASIZE(CalldatasizeOperator.INSTANCE),
+
+	/**
+	 * The {@link CallerOperator}.
+	 */
+	CALLER(CallerOperator.INSTANCE),
+
+	/**
+	 * The {@link CallvalueOperator}.
+	 */
+	CALLVALUE(CallvalueOperator.INSTANCE),
+
+	/**
+	 * The {@link ChainidOperator}.
+	 */
+	CHAINID(ChainidOperator.INSTANCE),
+
+	/**
+	 * The {@link CodecopyOperator}.
+	 */
+	CODECOPY(CodecopyOperator.INSTANCE),
+
+	/**
+	 * The {@link CodesizeOperator}.
+	 */
+	CODESIZE(CodesizeOperator.INSTANCE),
+
+	/**
+	 * The {@link CoinbaseOperator}.
+	 */
+	COINBASE(CoinbaseOperator.INSTANCE),
+
+	/**
+	 * The {@link Create2Operator}.
+	 */
+	CREATE2(Create2Operator.INSTANCE),
+
+	/**
+	 * The {@link CreateOperator}.
+	 */
+	CREATE(CreateOperator.INSTANCE),
+
+	/**
+	 * The {@link DelegatecallOperator}.
+	 */
+	DELEGATECALL(DelegatecallOperator.INSTANCE),
+
+	/**
+	 * The {@link DifficultyOperator}.
+	 */
+	DIFFICULTY(DifficultyOperator.INSTANCE),
+
+	/**
+	 * The {@link DivOperator}.
+	 */
+	DIV(DivOperator.INSTANCE),
+
+	/**
+	 * The {@link Dup10Operator}.
+	 */
+	DUP10(Dup10Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup11Operator}.
+	 */
+	DUP11(Dup11Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup12Operator}.
+	 */
+	DUP12(Dup12Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup13Operator}.
+	 */
+	DUP13(Dup13Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup14Operator}.
+	 */
+	DUP14(Dup14Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup15Operator}.
+	 */
+	DUP15(Dup15Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup16Operator}.
+	 */
+	DUP16(Dup16Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup1Operator}.
+	 */
+	DUP1(Dup1Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup2Operator}.
+	 */
+	DUP2(Dup2Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup3Operator}.
+	 */
+	DUP3(Dup3Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup4Operator}.
+	 */
+	DUP4(Dup4Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup5Operator}.
+	 */
+	DUP5(Dup5Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup6Operator}.
+	 */
+	DUP6(Dup6Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup7Operator}.
+	 */
+	DUP7(Dup7Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup8Operator}.
+	 */
+	DUP8(Dup8Operator.INSTANCE),
+
+	/**
+	 * The {@link Dup9Operator}.
+	 */
+	DUP9(Dup9Operator.INSTANCE),
+
+	/**
+	 * The {@link EqOperator}.
+	 */
+	EQ(EqOperator.INSTANCE),
+
+	/**
+	 * The {@link ExpOperator}.
+	 */
+	EXP(ExpOperator.INSTANCE),
+
+	/**
+	 * The {@link ExtcodecopyOperator}.
+	 */
+	EXTCODECOPY(ExtcodecopyOperator.INSTANCE),
+
+	/**
+	 * The {@link ExtcodehashOperator}.
+	 */
+	EXTCODEHASH(ExtcodehashOperator.INSTANCE),
+
+	/**
+	 * The {@link ExtcodesizeOperator}.
+	 */
+	EXTCODESIZE(ExtcodesizeOperator.INSTANCE),
+
+	/**
+	 * The {@link GasOperator}.
+	 */
+	GAS(GasOperator.INSTANCE),
+
+	/**
+	 * The {@link GaslimitOperator}.
+	 */
+	GASLIMIT(GaslimitOperator.INSTANCE),
+
+	/**
+	 * The {@link GaspriceOperator}.
+	 */
+	GASPRICE(GaspriceOperator.INSTANCE),
+
+	/**
+	 * The {@link GtOperator}.
+	 */
+	GT(GtOperator.INSTANCE),
+
+	/**
+	 * The {@link InvalidOperator}.
+	 */
+	INVALID(InvalidOperator.INSTANCE),
+
+	/**
+	 * The {@link IszeroOperator}.
+	 */
+	ISZERO(IszeroOperator.INSTANCE),
+
+	/**
+	 * The {@link JumpOperator}.
+	 */
+	JUMP(JumpOperator.INSTANCE),
+
+	/**
+	 * The {@link JumpdestOperator}.
+	 */
+	JUMPDEST(JumpdestOperator.INSTANCE),
+
+	/**
+	 * The {@link JumpiOperator}.
+	 */
+	JUMPI(JumpiOperator.INSTANCE),
+
+	/**
+	 * The {@link Log0Operator}.
+	 */
+	LOG0(Log0Operator.INSTANCE),
+
+	/**
+	 * The {@link Log1Operator}.
+	 */
+	LOG1(Log1Operator.INSTANCE),
+
+	/**
+	 * The {@link Log2Operator}.
+	 */
+	LOG2(Log2Operator.INSTANCE),
+
+	/**
+	 * The {@link Log3Operator}.
+	 */
+	LOG3(Log3Operator.INSTANCE),
+
+	/**
+	 * The {@link Log4Operator}.
+	 */
+	LOG4(Log4Operator.INSTANCE),
+
+	/**
+	 * The {@link LtOperator}.
+	 */
+	LT(LtOperator.INSTANCE),
+
+	/**
+	 * The {@link McopyOperator}.
+	 */
+	MCOPY(McopyOperator.INSTANCE),
+
+	/**
+	 * The {@link MloadOperator}.
+	 */
+	MLOAD(MloadOperator.INSTANCE),
+
+	/**
+	 * The {@link ModOperator}.
+	 */
+	MOD(ModOperator.INSTANCE),
+
+	/**
+	 * The {@link MsizeOperator}.
+	 */
+	MSIZE(MsizeOperator.INSTANCE),
+
+	/**
+	 * The {@link Mstore8Operator}.
+	 */
+	MSTORE8(Mstore8Operator.INSTANCE),
+
+	/**
+	 * The {@link MstoreOperator}.
+	 */
+	MSTORE(MstoreOperator.INSTANCE),
+
+	/**
+	 * The {@link MulOperator}.
+	 */
+	MUL(MulOperator.INSTANCE),
+
+	/**
+	 * The {@link MulmodOperator}.
+	 */
+	MULMOD(MulmodOperator.INSTANCE),
+
+	/**
+	 * The {@link NotOperator}.
+	 */
+	NOT(NotOperator.INSTANCE),
+
+	/**
+	 * The {@link NumberOperator}.
+	 */
+	NUMBER(NumberOperator.INSTANCE),
+
+	/**
+	 * The {@link OrOperator}.
+	 */
+	OR(OrOperator.INSTANCE),
+
+	/**
+	 * The {@link OriginOperator}.
+	 */
+	ORIGIN(OriginOperator.INSTANCE),
+
+	/**
+	 * The {@link PcOperator}.
+	 */
+	PC(PcOperator.INSTANCE),
+
+	/**
+	 * The {@link PopOperator}.
+	 */
+	POP(PopOperator.INSTANCE),
+
+	/**
+	 * The {@link Push0Operator}.
+	 */
+	PUSH0(Push0Operator.INSTANCE),
+
+	/**
+	 * The {@link PushOperator}.
+	 */
+	PUSH(PushOperator.INSTANCE),
+
+	/**
+	 * The {@link ReturnOperator}.
+	 */
+	RETURN(ReturnOperator.INSTANCE),
+
+	/**
+	 * The {@link ReturndatacopyOperator}.
+	 */
+	RETURNDATACOPY(ReturndatacopyOperator.INSTANCE),
+
+	/**
+	 * The {@link ReturndatasizeOperator}.
+	 */
+	RETURNDATASIZE(ReturndatasizeOperator.INSTANCE),
+
+	/**
+	 * The {@link RevertOperator}.
+	 */
+	REVERT(RevertOperator.INSTANCE),
+
+	/**
+	 * The {@link SarOperator}.
+	 */
+	SAR(SarOperator.INSTANCE),
+
+	/**
+	 * The {@link SdivOperator}.
+	 */
+	SDIV(SdivOperator.INSTANCE),
+
+	/**
+	 * The {@link SelfbalanceOperator}.
+	 */
+	SELFBALANCE(SelfbalanceOperator.INSTANCE),
+
+	/**
+	 * The {@link SelfdestructOperator}.
+	 */
+	SELFDESTRUCT(SelfdestructOperator.INSTANCE),
+
+	/**
+	 * The {@link SgtOperator}.
+	 */
+	SGT(SgtOperator.INSTANCE),
+
+	/**
+	 * The {@link Sha3Operator}.
+	 */
+	SHA3(Sha3Operator.INSTANCE),
+
+	/**
+	 * The {@link ShlOperator}.
+	 */
+	SHL(ShlOperator.INSTANCE),
+
+	/**
+	 * The {@link ShrOperator}.
+	 */
+	SHR(ShrOperator.INSTANCE),
+
+	/**
+	 * The {@link SignextendOperator}.
+	 */
+	SIGNEXTEND(SignextendOperator.INSTANCE),
+
+	/**
+	 * The {@link SloadOperator}.
+	 */
+	SLOAD(SloadOperator.INSTANCE),
+
+	/**
+	 * The {@link SltOperator}.
+	 */
+	SLT(SltOperator.INSTANCE),
+
+	/**
+	 * The {@link SmodOperator}.
+	 */
+	SMOD(SmodOperator.INSTANCE),
+
+	/**
+	 * The {@link SstoreOperator}.
+	 */
+	SSTORE(SstoreOperator.INSTANCE),
+
+	/**
+	 * The {@link StaticcallOperator}.
+	 */
+	STATICCALL(StaticcallOperator.INSTANCE),
+
+	/**
+	 * The {@link SubOperator}.
+	 */
+	SUB(SubOperator.INSTANCE),
+
+	/**
+	 * The {@link Swap10Operator}.
+	 */
+	SWAP10(Swap10Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap11Operator}.
+	 */
+	SWAP11(Swap11Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap12Operator}.
+	 */
+	SWAP12(Swap12Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap13Operator}.
+	 */
+	SWAP13(Swap13Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap14Operator}.
+	 */
+	SWAP14(Swap14Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap15Operator}.
+	 */
+	SWAP15(Swap15Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap16Operator}.
+	 */
+	SWAP16(Swap16Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap1Operator}.
+	 */
+	SWAP1(Swap1Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap2Operator}.
+	 */
+	SWAP2(Swap2Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap3Operator}.
+	 */
+	SWAP3(Swap3Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap4Operator}.
+	 */
+	SWAP4(Swap4Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap5Operator}.
+	 */
+	SWAP5(Swap5Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap6Operator}.
+	 */
+	SWAP6(Swap6Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap7Operator}.
+	 */
+	SWAP7(Swap7Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap8Operator}.
+	 */
+	SWAP8(Swap8Operator.INSTANCE),
+
+	/**
+	 * The {@link Swap9Operator}.
+	 */
+	SWAP9(Swap9Operator.INSTANCE),
+
+	/**
+	 * The {@link TimestampOperator}.
+	 */
+	TIMESTAMP(TimestampOperator.INSTANCE),
+
+	/**
+	 * The {@link TloadOperator}.
+	 */
+	TLOAD(TloadOperator.INSTANCE),
+
+	/**
+	 * The {@link TstoreOperator}.
+	 */
+	TSTORE(TstoreOperator.INSTANCE),
+
+	/**
+	 * The {@link XorOperator}.
+	 */
+	XOR(XorOperator.INSTANCE);
+
+	/**
+	 * Maps each operator singleton to its code.
+	 */
+	private static final Map<UnaryOperator, EVMOperator> TABLE = new IdentityHashMap<>();
+
+	static {
+		for (EVMOperator code : values())
+			TABLE.put(code.operator, code);
+	}
+
+	/**
+	 * The operator singleton associated with this code.
+	 */
+	private final UnaryOperator operator;
+
+	private EVMOperator(UnaryOperator operator) {
+		this.operator = operator;
+	}
+
+	/**
+	 * Yields the operator singleton associated with this code.
+	 * 
+	 * @return the operator singleton associated with this code
+	 */
+	public UnaryOperator getOperator() {
+		return operator;
+	}
+
+	/**
+	 * Yields the code of the given operator.
+	 * 
+	 * @param op the operator
+	 * 
+	 * @return the code of {@code op}, or {@code null} if {@code op} is not an
+	 *             EVM operator
+	 */
+	public static EVMOperator of(UnaryOperator op) {
+		return TABLE.get(op);
+	}
+}
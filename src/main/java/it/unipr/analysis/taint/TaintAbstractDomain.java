@@ -1,5 +1,6 @@
 package it.unipr.analysis.taint;
 
+import it.unipr.analysis.operator.EVMOperator;
 import it.unive.lisa.analysis.BaseLattice;
 import it.unive.lisa.analysis.Lattice;
 import it.unive.lisa.analysis.ScopeToken;
@@ -14,7 +15,6 @@ import it.unive.lisa.symbolic.value.Identifier;
 import it.unive.lisa.symbolic.value.Operator;
 import it.unive.lisa.symbolic.value.UnaryExpression;
 import it.unive.lisa.symbolic.value.ValueExpression;
-import it.unive.lisa.symbolic.value.operator.unary.UnaryOperator;
 import it.unive.lisa.util.representation.StringRepresentation;
 import it.unive.lisa.util.representation.StructuredRepresentation;
 import java.util.Arrays;
@@ -119,32 +119,32 @@ public abstract class TaintAbstractDomain
 			return this;
 		} else if (expression instanceof UnaryExpression) {
 			UnaryExpression un = (UnaryExpression) expression;
-			UnaryOperator op = un.getOperator();
-
-			if (op != null) {
-				switch (op.getClass().getSimpleName()) {
-				case "TimestampOperator":
-				case "OriginOperator":
-				case "CodesizeOperator":
-				case "GaspriceOperator":
-				case "ReturndatasizeOperator":
-				case "CoinbaseOperator":
-				case "NumberOperator":
-				case "DifficultyOperator":
-				case "GaslimitOperator":
-				case "ChainidOperator":
-				case "SelfbalanceOperator":
-				case "PcOperator":
-				case "GasOperator":
-				case "MsizeOperator":
-				case "BlobBaseFeeOperator":
-				case "BasefeeOperator":
-				case "CalldatasizeOperator":
-				case "CallvalueOperator":
-				case "CallerOperator":
-				case "AddressOperator":
-				case "PushOperator":
-				case "Push0Operator": {
+			EVMOperator code = EVMOperator.of(un.getOperator());
+
+			if (code != null) {
+				switch (code) {
+				case TIMESTAMP:
+				case ORIGIN:
+				case CODESIZE:
+				case GASPRICE:
+				case RETURNDATASIZE:
+				case COINBASE:
+				case NUMBER:
+				case DIFFICULTY:
+				case GASLIMIT:
+				case CHAINID:
+				case SELFBALANCE:
+				case PC:
+				case GAS:
+				case MSIZE:
+				case BLOBBASEFEE:
+				case BASEFEE:
+				case CALLDATASIZE:
+				case CALLVALUE:
+				case CALLER:
+				case ADDRESS:
+				case PUSH:
+				case PUSH0: {
 					TaintAbstractDomain resultStack = clone();
 					if (this.isTainted((Statement) pp))
 						resultStack.push(TaintElement.TAINT);
@@ -153,14 +153,14 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "JumpdestOperator": { // JUMPDEST
+				case JUMPDEST: { // JUMPDEST
 					return this;
 				}
 
 				// Above, operators that do not perform pop()
 				// Below, operators that perform pop operation on the stack
 
-				case "JumpOperator": { // JUMP
+				case JUMP: { // JUMP
 					if (hasBottomUntil(1))
 						return bottom();
 
@@ -170,8 +170,8 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "TstoreOperator":
-				case "JumpiOperator": {
+				case TSTORE:
+				case JUMPI: {
 					if (hasBottomUntil(2))
 						return bottom();
 
@@ -181,7 +181,7 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "TloadOperator": {
+				case TLOAD: {
 					if (hasBottomUntil(2))
 						return bottom();
 
@@ -191,7 +191,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "CalldatacopyOperator": {
+				case CALLDATACOPY: {
 					if (hasBottomUntil(3))
 						return bottom();
 
@@ -204,13 +204,13 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "BlobHashOperator":
-				case "BalanceOperator":
-				case "BlockhashOperator":
-				case "NotOperator":
-				case "CalldataloadOperator":
-				case "SloadOperator":
-				case "IszeroOperator": { // pop 1, push 1
+				case BLOBHASH:
+				case BALANCE:
+				case BLOCKHASH:
+				case NOT:
+				case CALLDATALOAD:
+				case SLOAD:
+				case ISZERO: { // pop 1, push 1
 					if (hasBottomUntil(1))
 						return bottom();
 
@@ -223,7 +223,7 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "MloadOperator": { // pop 1, push 1
+				case MLOAD: { // pop 1, push 1
 					if (hasBottomUntil(1))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -236,8 +236,8 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "MstoreOperator":
-				case "Mstore8Operator": { // pops 2
+				case MSTORE:
+				case MSTORE8: { // pops 2
 					if (hasBottomUntil(2))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -249,7 +249,7 @@ public abstract class TaintAbstractDomain
 					else if (value.isClean())
 						return resultStack;
 				}
-				case "McopyOperator": { // pops 3
+				case MCOPY: { // pops 3
 					if (hasBottomUntil(3))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -258,28 +258,28 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "ByteOperator":
-				case "ShlOperator":
-				case "ShrOperator":
-				case "SarOperator":
-				case "Sha3Operator":
-				case "AndOperator":
-				case "OrOperator":
-				case "XorOperator":
-				case "ExpOperator":
-				case "SignextendOperator":
-				case "LtOperator":
-				case "SltOperator":
-				case "GtOperator":
-				case "SgtOperator":
-				case "EqOperator":
-				case "SmodOperator":
-				case "ModOperator":
-				case "SdivOperator":
-				case "DivOperator":
-				case "MulOperator":
-				case "SubOperator":
-				case "AddOperator": { // pops 2, push 1
+				case BYTE:
+				case SHL:
+				case SHR:
+				case SAR:
+				case SHA3:
+				case AND:
+				case OR:
+				case XOR:
+				case EXP:
+				case SIGNEXTEND:
+				case LT:
+				case SLT:
+				case GT:
+				case SGT:
+				case EQ:
+				case SMOD:
+				case MOD:
+				case SDIV:
+				case DIV:
+				case MUL:
+				case SUB:
+				case ADD: { // pops 2, push 1
 					if (hasBottomUntil(2))
 						return bottom();
 
@@ -291,8 +291,8 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "MulmodOperator":
-				case "AddmodOperator": { // pops 3, push 1
+				case MULMOD:
+				case ADDMOD: { // pops 3, push 1
 					if (hasBottomUntil(3))
 						return bottom();
 
@@ -305,7 +305,7 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "PopOperator": { // POP
+				case POP: { // POP
 					if (hasBottomUntil(1))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -313,7 +313,7 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "SstoreOperator": { // pops 2
+				case SSTORE: { // pops 2
 					if (hasBottomUntil(2))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -322,103 +322,103 @@ public abstract class TaintAbstractDomain
 					return resultStack;
 				}
 
-				case "Dup1Operator": { // DUP1
+				case DUP1: { // DUP1
 					return dupXoperator(1, this);
 				}
-				case "Dup2Operator": { // DUP2
+				case DUP2: { // DUP2
 					return dupXoperator(2, this);
 				}
-				case "Dup3Operator": { // DUP3
+				case DUP3: { // DUP3
 					return dupXoperator(3, this);
 				}
-				case "Dup4Operator": { // DUP4
+				case DUP4: { // DUP4
 					return dupXoperator(4, this);
 				}
-				case "Dup5Operator": { // DUP5
+				case DUP5: { // DUP5
 					return dupXoperator(5, this);
 				}
-				case "Dup6Operator": { // DUP6
+				case DUP6: { // DUP6
 					return dupXoperator(6, this);
 				}
-				case "Dup7Operator": { // DUP7
+				case DUP7: { // DUP7
 					return dupXoperator(7, this);
 				}
-				case "Dup8Operator": { // DUP8
+				case DUP8: { // DUP8
 					return dupXoperator(8, this);
 				}
-				case "Dup9Operator": { // DUP9
+				case DUP9: { // DUP9
 					return dupXoperator(9, this);
 				}
-				case "Dup10Operator": { // DUP10
+				case DUP10: { // DUP10
 					return dupXoperator(10, this);
 				}
-				case "Dup11Operator": { // DUP11
+				case DUP11: { // DUP11
 					return dupXoperator(11, this);
 				}
-				case "Dup12Operator": { // DUP12
+				case DUP12: { // DUP12
 					return dupXoperator(12, this);
 				}
-				case "Dup13Operator": { // DUP13
+				case DUP13: { // DUP13
 					return dupXoperator(13, this);
 				}
-				case "Dup14Operator": { // DUP14
+				case DUP14: { // DUP14
 					return dupXoperator(14, this);
 				}
-				case "Dup15Operator": { // DUP15
+				case DUP15: { // DUP15
 					return dupXoperator(15, this);
 				}
-				case "Dup16Operator": { // DUP16
+				case DUP16: { // DUP16
 					return dupXoperator(16, this);
 				}
-				case "Swap1Operator": { // SWAP1
+				case SWAP1: { // SWAP1
 					return swapXoperator(1, this);
 				}
-				case "Swap2Operator": { // SWAP2
+				case SWAP2: { // SWAP2
 					return swapXoperator(2, this);
 				}
-				case "Swap3Operator": { // SWAP3
+				case SWAP3: { // SWAP3
 					return swapXoperator(3, this);
 				}
-				case "Swap4Operator": { // SWAP4
+				case SWAP4: { // SWAP4
 					return swapXoperator(4, this);
 				}
-				case "Swap5Operator": { // SWAP5
+				case SWAP5: { // SWAP5
 					return swapXoperator(5, this);
 				}
-				case "Swap6Operator": { // SWAP6
+				case SWAP6: { // SWAP6
 					return swapXoperator(6, this);
 				}
-				case "Swap7Operator": { // SWAP7
+				case SWAP7: { // SWAP7
 					return swapXoperator(7, this);
 				}
-				case "Swap8Operator": { // SWAP8
+				case SWAP8: { // SWAP8
 					return swapXoperator(8, this);
 				}
-				case "Swap9Operator": { // SWAP9
+				case SWAP9: { // SWAP9
 					return swapXoperator(9, this);
 				}
-				case "Swap10Operator": { // SWAP10
+				case SWAP10: { // SWAP10
 					return swapXoperator(10, this);
 				}
-				case "Swap11Operator": { // SWAP11
+				case SWAP11: { // SWAP11
 					return swapXoperator(11, this);
 				}
-				case "Swap12Operator": { // SWAP12
+				case SWAP12: { // SWAP12
 					return swapXoperator(12, this);
 				}
-				case "Swap13Operator": { // SWAP13
+				case SWAP13: { // SWAP13
 					return swapXoperator(13, this);
 				}
-				case "Swap14Operator": { // SWAP14
+				case SWAP14: { // SWAP14
 					return swapXoperator(14, this);
 				}
-				case "Swap15Operator": { // SWAP15
+				case SWAP15: { // SWAP15
 					return swapXoperator(15, this);
 				}
-				case "Swap16Operator": { // SWAP16
+				case SWAP16: { // SWAP16
 					return swapXoperator(16, this);
 				}
-				case "Log0Operator": { // LOG0
+				case LOG0: { // LOG0
 					if (hasBottomUntil(2))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -426,7 +426,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "Log1Operator": { // LOG1
+				case LOG1: { // LOG1
 					if (hasBottomUntil(3))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -434,7 +434,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "Log2Operator": { // LOG2
+				case LOG2: { // LOG2
 					if (hasBottomUntil(4))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -442,7 +442,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "Log3Operator": { // LOG3
+				case LOG3: { // LOG3
 					if (hasBottomUntil(5))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -450,7 +450,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "Log4Operator": { // LOG4
+				case LOG4: { // LOG4
 					if (hasBottomUntil(6))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -458,7 +458,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "CreateOperator": { // CREATE
+				case CREATE: { // CREATE
 					if (hasBottomUntil(3))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -472,7 +472,7 @@ public abstract class TaintAbstractDomain
 						resultStack.push(TaintElement.semantics(value, offset, length));
 					return resultStack;
 				}
-				case "Create2Operator": { // CREATE2
+				case CREATE2: { // CREATE2
 					if (hasBottomUntil(4))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -487,8 +487,8 @@ public abstract class TaintAbstractDomain
 						resultStack.push(TaintElement.semantics(value, offset, length, salt));
 					return resultStack;
 				}
-				case "CallOperator":
-				case "CallcodeOperator": { // pops 7, push 1
+				case CALL:
+				case CALLCODE: { // pops 7, push 1
 					if (hasBottomUntil(7))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -507,7 +507,7 @@ public abstract class TaintAbstractDomain
 								.push(TaintElement.semantics(gas, to, value, inOffset, inLength, outOffset, outLength));
 					return resultStack;
 				}
-				case "ReturnOperator": { // RETURN
+				case RETURN: { // RETURN
 					if (hasBottomUntil(2))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -516,8 +516,8 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "DelegatecallOperator":
-				case "StaticcallOperator": { // pops 6, push 1
+				case DELEGATECALL:
+				case STATICCALL: { // pops 6, push 1
 					if (hasBottomUntil(6))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -534,7 +534,7 @@ public abstract class TaintAbstractDomain
 						resultStack.push(TaintElement.semantics(gas, to, inOffset, inLength, outOffset, outLength));
 					return resultStack;
 				}
-				case "RevertOperator": { // REVERT
+				case REVERT: { // REVERT
 					if (hasBottomUntil(2))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -542,10 +542,10 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "InvalidOperator": { // INVALID
+				case INVALID: { // INVALID
 					return this;
 				}
-				case "SelfdestructOperator": { // SELFDESTRUCT
+				case SELFDESTRUCT: { // SELFDESTRUCT
 					if (hasBottomUntil(1))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -553,7 +553,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "CodecopyOperator": { // CODECOPY
+				case CODECOPY: { // CODECOPY
 					if (hasBottomUntil(3))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -561,7 +561,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "ExtcodesizeOperator": { // EXTCODESIZE
+				case EXTCODESIZE: { // EXTCODESIZE
 					if (hasBottomUntil(1))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -573,7 +573,7 @@ public abstract class TaintAbstractDomain
 						resultStack.push(TaintElement.semantics(address));
 					return resultStack;
 				}
-				case "ExtcodecopyOperator": { // EXTCODECOPY
+				case EXTCODECOPY: { // EXTCODECOPY
 					if (hasBottomUntil(4))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -581,7 +581,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "ReturndatacopyOperator": { // RETURNDATACOPY
+				case RETURNDATACOPY: { // RETURNDATACOPY
 					if (hasBottomUntil(3))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -589,7 +589,7 @@ public abstract class TaintAbstractDomain
 
 					return resultStack;
 				}
-				case "ExtcodehashOperator": { // EXTCODEHASH
+				case EXTCODEHASH: { // EXTCODEHASH
 					if (hasBottomUntil(1))
 						return bottom();
 					TaintAbstractDomain resultStack = clone();
@@ -0,0 +1,224 @@
+package it.unipr.analysis.taint;
+
+import it.unive.lisa.analysis.BaseLattice;
+import it.unive.lisa.analysis.Lattice;
+import it.unive.lisa.analysis.ScopeToken;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.SemanticOracle;
+import it.unive.lisa.analysis.lattices.Satisfiability;
+import it.unive.lisa.analysis.value.ValueDomain;
+import it.unive.lisa.program.cfg.ProgramPoint;
+import it.unive.lisa.symbolic.value.Identifier;
+import it.unive.lisa.symbolic.value.ValueExpression;
+import it.unive.lisa.util.representation.StringRepresentation;
+import it.unive.lisa.util.representation.StructuredRepresentation;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * The cartesian product of several {@link TaintAbstractDomain}s, so that the
+ * taint analyses of different sources (e.g., {@link TxOriginAbstractDomain}
+ * and {@link RandomnessDependencyAbstractDomain}) are computed by a single
+ * fixpoint over the CFG. Each operation is applied to each component
+ * independently.
+ *
+ * @see TaintAbstractDomain
+ */
+public class TaintProductAbstractDomain
+		implements ValueDomain<TaintProductAbstractDomain>, BaseLattice<TaintProductAbstractDomain> {
+
+	/**
+	 * The components of the product.
+	 */
+	private final TaintAbstractDomain[] domains;
+
+	/**
+	 * Builds the product of the given taint domains.
+	 *
+	 * @param domains the components of the product
+	 */
+	public TaintProductAbstractDomain(TaintAbstractDomain... domains) {
+		this.domains = domains;
+	}
+
+	/**
+	 * Yields the component of this product of the given type.
+	 *
+	 * @param <T>  the type of the component
+	 * @param type the class of the component
+	 *
+	 * @return the component of type {@code type}, {@code null} if this product
+	 *             has none
+	 */
+	public <T extends TaintAbstractDomain> T getDomain(Class<T> type) {
+		for (TaintAbstractDomain domain : domains)
+			if (type.isInstance(domain))
+				return type.cast(domain);
+		return null;
+	}
+
+	@Override
+	public TaintProductAbstractDomain assign(Identifier id, ValueExpression expression, ProgramPoint pp,
+			SemanticOracle oracle) throws SemanticException {
+		return map(domain -> domain.assign(id, expression, pp, oracle));
+	}
+
+	@Override
+	public TaintProductAbstractDomain smallStepSemantics(ValueExpression expression, ProgramPoint pp,
+			SemanticOracle oracle) throws SemanticException {
+		return map(domain -> domain.smallStepSemantics(expression, pp, oracle));
+	}
+
+	@Override
+	public TaintProductAbstractDomain assume(ValueExpression expression, ProgramPoint src, ProgramPoint dest,
+			SemanticOracle oracle) throws SemanticException {
+		return map(domain -> domain.assume(expression, src, dest, oracle));
+	}
+
+	@Override
+	public boolean knowsIdentifier(Identifier id) {
+		for (TaintAbstractDomain domain : domains)
+			if (domain.knowsIdentifier(id))
+				return true;
+		return false;
+	}
+
+	@Override
+	public TaintProductAbstractDomain forgetIdentifier(Identifier id) throws SemanticException {
+		return map(domain -> domain.forgetIdentifier(id));
+	}
+
+	@Override
+	public TaintProductAbstractDomain forgetIdentifiersIf(Predicate<Identifier> test) throws SemanticException {
+		return map(domain -> domain.forgetIdentifiersIf(test));
+	}
+
+	@Override
+	public Satisfiability satisfies(ValueExpression expression, ProgramPoint pp, SemanticOracle oracle)
+			throws SemanticException {
+		// nothing to do here
+		return Satisfiability.UNKNOWN;
+	}
+
+	@Override
+	public TaintProductAbstractDomain pushScope(ScopeToken token) throws SemanticException {
+		return map(domain -> domain.pushScope(token));
+	}
+
+	@Override
+	public TaintProductAbstractDomain popScope(ScopeToken token) throws SemanticException {
+		return map(domain -> domain.popScope(token));
+	}
+
+	@Override
+	public TaintProductAbstractDomain top() {
+		TaintAbstractDomain[] result = new TaintAbstractDomain[domains.length];
+		for (int i = 0; i < domains.length; i++)
+			result[i] = domains[i].top();
+		return new TaintProductAbstractDomain(result);
+	}
+
+	@Override
+	public TaintProductAbstractDomain bottom() {
+		TaintAbstractDomain[] result = new TaintAbstractDomain[domains.length];
+		for (int i = 0; i < domains.length; i++)
+			result[i] = domains[i].bottom();
+		return new TaintProductAbstractDomain(result);
+	}
+
+	@Override
+	public boolean isTop() {
+		for (TaintAbstractDomain domain : domains)
+			if (!domain.isTop())
+				return false;
+		return true;
+	}
+
+	@Override
+	public boolean isBottom() {
+		for (TaintAbstractDomain domain : domains)
+			if (!domain.isBottom())
+				return false;
+		return true;
+	}
+
+	@Override
+	public TaintProductAbstractDomain lubAux(TaintProductAbstractDomain other) throws SemanticException {
+		TaintAbstractDomain[] result = new TaintAbstractDomain[domains.length];
+		for (int i = 0; i < domains.length; i++)
+			result[i] = domains[i].lub(other.domains[i]);
+		return new TaintProductAbstractDomain(result);
+	}
+
+	@Override
+	public TaintProductAbstractDomain wideningAux(TaintProductAbstractDomain other) throws SemanticException {
+		TaintAbstractDomain[] result = new TaintAbstractDomain[domains.length];
+		for (int i = 0; i < domains.length; i++)
+			result[i] = domains[i].widening(other.domains[i]);
+		return new TaintProductAbstractDomain(result);
+	}
+
+	@Override
+	public TaintProductAbstractDomain glbAux(TaintProductAbstractDomain other) throws SemanticException {
+		TaintAbstractDomain[] result = new TaintAbstractDomain[domains.length];
+		for (int i = 0; i < domains.length; i++)
+			result[i] = domains[i].glb(other.domains[i]);
+		return new TaintProductAbstractDomain(result);
+	}
+
+	@Override
+	public boolean lessOrEqualAux(TaintProductAbstractDomain other) throws SemanticException {
+		for (int i = 0; i < domains.length; i++)
+			if (!domains[i].lessOrEqual(other.domains[i]))
+				return false;
+		return true;
+	}
+
+	@Override
+	public StructuredRepresentation representation() {
+		if (isBottom())
+			return Lattice.bottomRepresentation();
+		else if (isTop())
+			return Lattice.topRepresentation();
+
+		return new StringRepresentation(this.toString());
+	}
+
+	@Override
+	public String toString() {
+		if (isBottom())
+			return Lattice.BOTTOM_STRING;
+		if (isTop())
+			return Lattice.TOP_STRING;
+		return Arrays.toString(domains);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof TaintProductAbstractDomain))
+			return false;
+		return Arrays.equals(domains, ((TaintProductAbstractDomain) obj).domains);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(domains);
+	}
+
+	/**
+	 * Applies the given operation to each component of this product.
+	 */
+	private TaintProductAbstractDomain map(Operation operation) throws SemanticException {
+		TaintAbstractDomain[] result = new TaintAbstractDomain[domains.length];
+		for (int i = 0; i < domains.length; i++)
+			result[i] = operation.apply(domains[i]);
+		return new TaintProductAbstractDomain(result);
+	}
+
+	@FunctionalInterface
+	private interface Operation {
+		TaintAbstractDomain apply(TaintAbstractDomain domain) throws SemanticException;
+	}
+}
@@ -0,0 +1,187 @@
+package it.unipr.cfg;
+
+import it.unipr.analysis.EVMAbstractState;
+import it.unive.lisa.analysis.AnalysisState;
+import it.unive.lisa.analysis.SimpleAbstractState;
+
+/**
+ * Cooperative budget of the analysis of a CFG, bounding its wall-clock time,
+ * the number of fixpoint iterations and the size of the stack sets it
+ * computes. The budget is consumed by {@link EVMAscendingFixpoint} at each
+ * evaluation of a statement, the first ones included: once it is exceeded,
+ * the fixpoint goes to top, so that the analysis terminates quickly with a
+ * sound, but less precise, result instead of running unbounded. The limits
+ * are shared by all the analyses, while the consumption is tracked per
+ * fixpoint run, so that each run of the analysis of a CFG (e.g., the re-runs
+ * of the jump solver) starts from a fresh budget.
+ * Only the analyses computing {@link EVMAbstractState}s are bounded: the taint
+ * analyses of the checkers are not.
+ */
+public class AnalysisBudget {
+
+	/**
+	 * The wall-clock limit in milliseconds, negative if unbounded.
+	 */
+	private static long TIMEOUT = -1;
+
+	/**
+	 * The limit on the fixpoint iterations, negative if unbounded.
+	 */
+	private static long MAX_ITERATIONS = -1;
+
+	/**
+	 * The limit on the size of the stack sets, negative if unbounded.
+	 */
+	private static int MAX_STACK_SET_SIZE = -1;
+
+	private long start = -1;
+	private long iterations;
+	private volatile boolean exceeded;
+
+	/**
+	 * Whether the fixpoint has ended: the statements evaluated afterwards,
+	 * to recompute the states that have not been stored, are not counted.
+	 */
+	private boolean stopped;
+
+	/**
+	 * Sets the wall-clock limit of the analysis of each CFG.
+	 *
+	 * @param millis the limit in milliseconds, negative if unbounded
+	 */
+	public static void setTimeout(long millis) {
+		TIMEOUT = millis;
+	}
+
+	/**
+	 * Sets the limit on the fixpoint iterations of the analysis of each CFG.
+	 *
+	 * @param iterations the limit, negative if unbounded
+	 */
+	public static void setMaxIterations(long iterations) {
+		MAX_ITERATIONS = iterations;
+	}
+
+	/**
+	 * Sets the limit on the size of the stack sets computed by the analysis
+	 * of each CFG.
+	 *
+	 * @param size the limit, negative if unbounded
+	 */
+	public static void setMaxStackSetSize(int size) {
+		MAX_STACK_SET_SIZE = size;
+	}
+
+	/**
+	 * Yields the wall-clock limit of the analysis of each CFG.
+	 *
+	 * @return the limit in milliseconds, negative if unbounded
+	 */
+	public static long getTimeout() {
+		return TIMEOUT;
+	}
+
+	/**
+	 * Yields the limit on the fixpoint iterations of the analysis of each CFG.
+	 *
+	 * @return the limit, negative if unbounded
+	 */
+	public static long getMaxIterations() {
+		return MAX_ITERATIONS;
+	}
+
+	/**
+	 * Yields the limit on the size of the stack sets computed by the analysis
+	 * of each CFG.
+	 *
+	 * @return the limit, negative if unbounded
+	 */
+	public static int getMaxStackSetSize() {
+		return MAX_STACK_SET_SIZE;
+	}
+
+	/**
+	 * Yields whether at least one limit is set.
+	 *
+	 * @return {@code true} if at least one limit is set, {@code false}
+	 *             otherwise
+	 */
+	public static boolean isBounded() {
+		return TIMEOUT >= 0 || MAX_ITERATIONS >= 0 || MAX_STACK_SET_SIZE >= 0;
+	}
+
+	/**
+	 * Yields a fresh budget for a fixpoint computing the given states.
+	 *
+	 * @param singleton an instance of the computed states
+	 *
+	 * @return the budget, {@code null} if no limit is set or the states are
+	 *             not {@link EVMAbstractState}s
+	 */
+	static AnalysisBudget forFixpoint(AnalysisState<?> singleton) {
+		if (!isBounded() || !(singleton.getState() instanceof SimpleAbstractState))
+			return null;
+		Object value = ((SimpleAbstractState<?, ?, ?>) singleton.getState()).getValueState();
+		return value instanceof EVMAbstractState ? new AnalysisBudget() : null;
+	}
+
+	/**
+	 * Starts the wall-clock, if not already started.
+	 */
+	synchronized void start() {
+		if (start < 0)
+			start = System.currentTimeMillis();
+	}
+
+	/**
+	 * Stops consuming this budget, once the fixpoint has ended.
+	 */
+	synchronized void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * Consumes one fixpoint iteration that computed a state holding
+	 * {@code stackSetSize} stacks. Nothing is consumed once the budget has
+	 * been stopped.
+	 *
+	 * @param stackSetSize the size of the computed stack set
+	 *
+	 * @return {@code true} if the budget is exceeded while the fixpoint is
+	 *             running, {@code false} otherwise
+	 */
+	synchronized boolean consume(int stackSetSize) {
+		if (stopped)
+			return false;
+		if (exceeded)
+			return true;
+
+		++iterations;
+		if ((MAX_ITERATIONS >= 0 && iterations > MAX_ITERATIONS)
+				|| (MAX_STACK_SET_SIZE >= 0 && stackSetSize > MAX_STACK_SET_SIZE)
+				|| (TIMEOUT >= 0 && start >= 0 && System.currentTimeMillis() - start > TIMEOUT))
+			exceeded = true;
+
+		return exceeded;
+	}
+
+	/**
+	 * Yields whether the budget has been exceeded, that is, whether the
+	 * results of the analysis have been widened to top.
+	 *
+	 * @return {@code true} if the budget has been exceeded, {@code false}
+	 *             otherwise
+	 */
+	public boolean isExceeded() {
+		return exceeded;
+	}
+
+	/**
+	 * Yields the number of fixpoint iterations consumed so far.
+	 *
+	 * @return the number of fixpoint iterations
+	 */
+	public synchronized long getIterations() {
+		return iterations;
+	}
+}
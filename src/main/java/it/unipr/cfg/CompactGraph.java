@@ -0,0 +1,195 @@
+package it.unipr.cfg;
+
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.edge.Edge;
+import it.unive.lisa.program.cfg.statement.Statement;
+import it.unive.lisa.util.datastructures.graph.code.NodeList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Compact view of the nodes and edges of an {@link EVMCFG}, used by its
+ * traversals instead of hashing statements. Each statement is identified by a
+ * dense integer id, its index in program counter order, and the edges are
+ * stored in CSR (compressed sparse row) form: the outgoing edges of the
+ * statement {@code id} are the ones between {@code outOffsets[id]} and
+ * {@code outOffsets[id + 1]}, in the same order as the ones of the underlying
+ * node list, and the same holds for the ingoing edges. Sets of statements are
+ * {@code long[]} bitsets indexed by id.
+ * <p>
+ * The ids never change once the CFG is built, while the edges reflect the CFG
+ * when the view is built: the view must be rebuilt if an edge is added.
+ */
+final class CompactGraph {
+
+	/**
+	 * The statements, indexed by id.
+	 */
+	private final Statement[] nodes;
+
+	/**
+	 * The id of the statement at each program counter, {@code -1} if none.
+	 */
+	private final int[] idByPc;
+
+	/**
+	 * The outgoing edges: offsets by id, destination ids and edges.
+	 */
+	final int[] outOffsets;
+	final int[] outTargets;
+	final Edge[] outEdges;
+
+	/**
+	 * The ingoing edges: offsets by id, source ids and edges.
+	 */
+	final int[] inOffsets;
+	final int[] inSources;
+	final Edge[] inEdges;
+
+	/**
+	 * Builds the view of the given nodes and edges.
+	 *
+	 * @param nodes  the statements, sorted by program counter
+	 * @param idByPc the id of the statement at each program counter
+	 * @param list   the node list holding the edges
+	 */
+	CompactGraph(Statement[] nodes, int[] idByPc, NodeList<CFG, Statement, Edge> list) {
+		this.nodes = nodes;
+		this.idByPc = idByPc;
+		int n = nodes.length;
+
+		outOffsets = new int[n + 1];
+		inOffsets = new int[n + 1];
+		for (int i = 0; i < n; i++) {
+			outOffsets[i + 1] = outOffsets[i] + list.getOutgoingEdges(nodes[i]).size();
+			inOffsets[i + 1] = inOffsets[i] + list.getIngoingEdges(nodes[i]).size();
+		}
+
+		outTargets = new int[outOffsets[n]];
+		outEdges = new Edge[outOffsets[n]];
+		inSources = new int[inOffsets[n]];
+		inEdges = new Edge[inOffsets[n]];
+		for (int i = 0; i < n; i++) {
+			int k = outOffsets[i];
+			for (Edge edge : list.getOutgoingEdges(nodes[i])) {
+				outEdges[k] = edge;
+				outTargets[k++] = id(edge.getDestination());
+			}
+			k = inOffsets[i];
+			for (Edge edge : list.getIngoingEdges(nodes[i])) {
+				inEdges[k] = edge;
+				inSources[k++] = id(edge.getSource());
+			}
+		}
+	}
+
+	/**
+	 * Yields the number of statements.
+	 *
+	 * @return the number of statements
+	 */
+	int size() {
+		return nodes.length;
+	}
+
+	/**
+	 * Yields the statement with the given id.
+	 *
+	 * @param id the id
+	 *
+	 * @return the statement
+	 */
+	Statement node(int id) {
+		return nodes[id];
+	}
+
+	/**
+	 * Yields the id of the given statement.
+	 *
+	 * @param st the statement
+	 *
+	 * @return the id of {@code st}, or {@code -1} if it is not a statement of
+	 *             this graph
+	 */
+	int id(Statement st) {
+		if (!(st.getLocation() instanceof ProgramCounterLocation))
+			return -1;
+		int pc = ((ProgramCounterLocation) st.getLocation()).getPc();
+		if (pc < 0 || pc >= idByPc.length || idByPc[pc] < 0 || !nodes[idByPc[pc]].equals(st))
+			return -1;
+		return idByPc[pc];
+	}
+
+	/**
+	 * Yields the statements with more ingoing edges than in a previous view
+	 * of the same CFG, i.e., the destinations of the edges added since then.
+	 *
+	 * @param previous the previous view
+	 *
+	 * @return the destinations of the added edges
+	 */
+	Set<Statement> newDestinations(CompactGraph previous) {
+		Set<Statement> destinations = new HashSet<>();
+		for (int i = 0; i < nodes.length; i++)
+			if (inOffsets[i + 1] - inOffsets[i] > previous.inOffsets[i + 1] - previous.inOffsets[i])
+				destinations.add(nodes[i]);
+		return destinations;
+	}
+
+	/**
+	 * Yields the bitset of the given statements of this graph, ignoring the
+	 * others.
+	 *
+	 * @param statements the statements
+	 *
+	 * @return the bitset
+	 */
+	long[] bitset(Collection<Statement> statements) {
+		long[] set = newBitset();
+		for (Statement st : statements) {
+			int id = id(st);
+			if (id >= 0)
+				mark(set, id);
+		}
+		return set;
+	}
+
+	/**
+	 * Yields an empty bitset of statements of this graph.
+	 *
+	 * @return the bitset
+	 */
+	long[] newBitset() {
+		return new long[(nodes.length + 63) >>> 6];
+	}
+
+	/**
+	 * Adds an id to a bitset.
+	 *
+	 * @param set the bitset
+	 * @param id  the id
+	 *
+	 * @return {@code true} if the id was not in the bitset, {@code false}
+	 *             otherwise
+	 */
+	static boolean mark(long[] set, int id) {
+		long bit = 1L << id;
+		if ((set[id >>> 6] & bit) != 0)
+			return false;
+		set[id >>> 6] |= bit;
+		return true;
+	}
+
+	/**
+	 * Yields whether an id is in a bitset.
+	 *
+	 * @param set the bitset
+	 * @param id  the id
+	 *
+	 * @return {@code true} if the id is in the bitset, {@code false} otherwise
+	 */
+	static boolean isMarked(long[] set, int id) {
+		return (set[id >>> 6] & (1L << id)) != 0;
+	}
+}
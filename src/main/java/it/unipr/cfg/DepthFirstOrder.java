@@ -0,0 +1,154 @@
+package it.unipr.cfg;
+
+import it.unive.lisa.program.cfg.edge.Edge;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.Collection;
+
+/**
+ * Depth-first order of the statements of an {@link EVMCFG}, computed from its
+ * entrypoints: the reverse post-order of the statements, used to schedule
+ * the fixpoint, and the loop heads, i.e., the destinations of the edges
+ * retreating to a statement on the current path of the visit, where the
+ * fixpoint applies widening.
+ * <p>
+ * The order is kept up to date with the edges added by the semantics of the
+ * jumps: an edge between statements already visited that does not follow
+ * the order makes its destination a loop head, while an edge towards a
+ * statement not visited yet makes the order stale, so that it is recomputed
+ * the next time it is needed (see {@link EVMCFG#getDepthFirstOrder()}).
+ */
+final class DepthFirstOrder {
+
+	private final CompactGraph graph;
+
+	/**
+	 * The position of each statement in reverse post-order, by id: the
+	 * statements reached by the visit come first, the others follow by id.
+	 */
+	private final int[] rank;
+	private final int reached;
+
+	/**
+	 * The loop heads, as a bitset of ids.
+	 */
+	private final long[] heads;
+	private volatile boolean stale;
+
+	/**
+	 * Computes the order of the given graph with an iterative depth-first
+	 * visit from the given entrypoints.
+	 *
+	 * @param graph       the compact view of the CFG
+	 * @param entrypoints the entrypoints of the CFG
+	 */
+	DepthFirstOrder(CompactGraph graph, Collection<Statement> entrypoints) {
+		this.graph = graph;
+		int n = graph.size();
+		int[] post = new int[n];
+		int[] stack = new int[n];
+		int[] edge = new int[n];
+		long[] visited = graph.newBitset();
+		long[] onPath = graph.newBitset();
+		heads = graph.newBitset();
+		int count = 0;
+
+		for (Statement entry : entrypoints) {
+			int root = graph.id(entry);
+			if (root < 0 || !CompactGraph.mark(visited, root))
+				continue;
+
+			int top = 0;
+			stack[top++] = root;
+			CompactGraph.mark(onPath, root);
+			edge[root] = graph.outOffsets[root];
+			while (top > 0) {
+				int v = stack[top - 1];
+				if (edge[v] < graph.outOffsets[v + 1]) {
+					int w = graph.outTargets[edge[v]++];
+					if (w < 0)
+						continue;
+					if (CompactGraph.mark(visited, w)) {
+						CompactGraph.mark(onPath, w);
+						edge[w] = graph.outOffsets[w];
+						stack[top++] = w;
+					} else if (CompactGraph.isMarked(onPath, w))
+						CompactGraph.mark(heads, w);
+				} else {
+					post[count++] = stack[--top];
+					onPath[v >>> 6] &= ~(1L << v);
+				}
+			}
+		}
+
+		rank = new int[n];
+		for (int i = 0; i < count; i++)
+			rank[post[i]] = count - 1 - i;
+		for (int v = 0, next = count; v < n; v++)
+			if (!CompactGraph.isMarked(visited, v))
+				rank[v] = next++;
+		reached = count;
+	}
+
+	/**
+	 * Updates this order with an edge added to the CFG. It must be called
+	 * while holding the lock of the CFG.
+	 *
+	 * @param edge the added edge
+	 */
+	void edgeAdded(Edge edge) {
+		int source = graph.id(edge.getSource()), destination = graph.id(edge.getDestination());
+		if (source < 0 || destination < 0 || rank[source] >= reached)
+			return;
+		if (rank[destination] >= reached)
+			stale = true;
+		else if (rank[destination] <= rank[source])
+			synchronized (heads) {
+				CompactGraph.mark(heads, destination);
+			}
+	}
+
+	/**
+	 * Yields whether this order misses statements reached by the edges added
+	 * after it has been computed.
+	 *
+	 * @return {@code true} if the order must be recomputed, {@code false}
+	 *             otherwise
+	 */
+	boolean isStale() {
+		return stale;
+	}
+
+	/**
+	 * Yields the compact view this order has been computed on.
+	 *
+	 * @return the compact view
+	 */
+	CompactGraph graph() {
+		return graph;
+	}
+
+	/**
+	 * Yields the position of a statement in reverse post-order.
+	 *
+	 * @param id the id of the statement
+	 *
+	 * @return the position of the statement
+	 */
+	int rank(int id) {
+		return rank[id];
+	}
+
+	/**
+	 * Yields whether a statement is a loop head.
+	 *
+	 * @param id the id of the statement
+	 *
+	 * @return {@code true} if the statement is a loop head, {@code false}
+	 *             otherwise
+	 */
+	boolean isLoopHead(int id) {
+		synchronized (heads) {
+			return CompactGraph.isMarked(heads, id);
+		}
+	}
+}
@@ -1,44 +1,140 @@
 package it.unipr.cfg;
 
+import it.unipr.analysis.AbstractStackSet;
+import it.unipr.analysis.EVMAbstractState;
 import it.unive.lisa.analysis.AbstractState;
+import it.unive.lisa.analysis.AnalysisState;
 import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.SimpleAbstractState;
 import it.unive.lisa.interprocedural.InterproceduralAnalysis;
 import it.unive.lisa.program.cfg.CFG;
 import it.unive.lisa.program.cfg.fixpoints.CFGFixpoint;
 import it.unive.lisa.program.cfg.statement.Statement;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
 
 public class EVMAscendingFixpoint<A extends AbstractState<A>> extends CFGFixpoint<A> {
 
+	private final EVMCFG cfg;
 	private final int widenAfter;
-	private final Map<Statement, Integer> lubs;
+
+	/**
+	 * The lubs left before widening each loop head, by id. The entries are
+	 * decremented without synchronization also when the regions of the CFG
+	 * are solved concurrently (see {@link EVMRegionFixpoint}): this is safe
+	 * only because each statement belongs to exactly one component, whose
+	 * statements are all evaluated by the same task.
+	 */
+	private final int[] lubs;
+	private final AnalysisBudget budget;
+	private final LongAdder iterations = new LongAdder();
+
+	/**
+	 * The depth-first order of the CFG, fetched once per fixpoint: the loop
+	 * heads closed by the edges added meanwhile are marked in place, and it
+	 * is fetched again only if those edges have made it stale.
+	 */
+	private volatile DepthFirstOrder order;
 
 	/**
 	 * Builds the fixpoint implementation.
 	 * 
-	 * @param target          the target of the implementation
+	 * @param graph           the target of the implementation, an
+	 *                            {@link EVMCFG}
 	 * @param widenAfter      the widening threshold
 	 * @param interprocedural the {@link InterproceduralAnalysis} to use for
 	 *                            semantics computations
 	 */
 	public EVMAscendingFixpoint(CFG graph, InterproceduralAnalysis<A> interprocedural, int widenAfter) {
+		this(graph, interprocedural, widenAfter, null);
+	}
+
+	/**
+	 * Builds the fixpoint implementation, bounded by the given budget, which
+	 * is consumed at every evaluation of a statement until {@link #stop()}.
+	 * Once the budget is exceeded, every post state is widened to top.
+	 * Widening is applied only at the loop heads of the CFG, after
+	 * {@code widenAfter} lubs.
+	 * 
+	 * @param graph           the target of the implementation, an
+	 *                            {@link EVMCFG}
+	 * @param widenAfter      the widening threshold
+	 * @param interprocedural the {@link InterproceduralAnalysis} to use for
+	 *                            semantics computations
+	 * @param budget          the budget of the analysis, {@code null} if
+	 *                            unbounded
+	 */
+	public EVMAscendingFixpoint(CFG graph, InterproceduralAnalysis<A> interprocedural, int widenAfter,
+			AnalysisBudget budget) {
 		super(graph, interprocedural);
+		this.cfg = (EVMCFG) graph;
 		this.widenAfter = widenAfter;
-		this.lubs = new HashMap<>(graph.getNodesCount());
+		this.lubs = new int[cfg.getCompactGraph().size()];
+		this.order = cfg.getDepthFirstOrder();
+		Arrays.fill(lubs, widenAfter);
+		this.budget = budget;
+		if (budget != null)
+			budget.start();
+	}
+
+	@Override
+	public CompoundState<A> semantics(Statement node, CompoundState<A> entrystate) throws SemanticException {
+		iterations.increment();
+		CompoundState<A> result = super.semantics(node, entrystate);
+
+		// out of budget: jump to top, which is stable, so that the fixpoint
+		// terminates as soon as top has been propagated; the budget is
+		// checked at every evaluation, as the first visits of the statements
+		// are most of the work on large acyclic CFGs
+		if (budget != null && budget.consume(stackSetSize(result.postState)))
+			return CompoundState.of(result.postState.top(), result.intermediateStates);
+		return result;
+	}
+
+	/**
+	 * Stops consuming the budget, once the fixpoint has ended, so that the
+	 * statements evaluated to recompute the states that have not been stored
+	 * are neither counted nor widened to top.
+	 */
+	public void stop() {
+		if (budget != null)
+			budget.stop();
+	}
+
+	/**
+	 * Yields the number of statements evaluated so far.
+	 *
+	 * @return the number of statements evaluated
+	 */
+	public long getIterations() {
+		return iterations.sum();
 	}
 
 	@Override
 	public CompoundState<A> operation(Statement node,
 			CompoundState<A> approx,
 			CompoundState<A> old) throws SemanticException {
+		// out of budget: the post state of the statement has already been
+		// widened to top by its evaluation, and so is the stored one
+		if (budget != null && budget.isExceeded())
+			return CompoundState.of(
+					approx.postState.top(),
+					old.intermediateStates.lub(approx.intermediateStates));
+
 		// optimization: never apply widening on normal instructions,
 		// save time and precision and only apply to widening points
 		if (widenAfter < 0)
 			return old.lub(approx);
 
-		int lub = lubs.computeIfAbsent(node, st -> widenAfter);
-		if (lub == 0)
+		// the loop heads include the ones closed by the jumps solved so far
+		DepthFirstOrder order = this.order;
+		if (order.isStale())
+			this.order = order = cfg.getDepthFirstOrder();
+		int id = order.graph().id(node);
+		if (id < 0 || !order.isLoopHead(id))
+			return old.lub(approx);
+
+		if (lubs[id] == 0)
 			return CompoundState.of(
 					old.postState.widening(approx.postState),
 					// no need to widen the intermediate expressions as
@@ -46,7 +142,7 @@ public class EVMAscendingFixpoint<A extends AbstractState<A>> extends CFGFixpoin
 					// only, to recover as much precision as possible
 					old.intermediateStates.lub(approx.intermediateStates));
 
-		lubs.put(node, --lub);
+		lubs[id]--;
 		return old.lub(approx);
 	}
 
@@ -55,4 +151,21 @@ public class EVMAscendingFixpoint<A extends AbstractState<A>> extends CFGFixpoin
 			CompoundState<A> old) throws SemanticException {
 		return approx.lessOrEqual(old);
 	}
+
+	/**
+	 * Yields the number of stacks held by the given state, {@code 0} if it is
+	 * not an EVM state or its stack set is top or bottom.
+	 */
+	private static int stackSetSize(AnalysisState<?> state) {
+		if (state.getState() instanceof SimpleAbstractState) {
+			Object value = ((SimpleAbstractState<?, ?, ?>) state.getState()).getValueState();
+			if (value instanceof EVMAbstractState) {
+				AbstractStackSet stacks = ((EVMAbstractState) value).getStacks();
+				if (stacks != null && !stacks.isTop() && !stacks.isBottom())
+					return stacks.size();
+			}
+		}
+
+		return 0;
+	}
 }
@@ -0,0 +1,97 @@
+package it.unipr.cfg;
+
+import it.unive.lisa.analysis.AbstractState;
+import it.unive.lisa.analysis.AnalysisState;
+import it.unive.lisa.analysis.AnalyzedCFG;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.interprocedural.ScopeId;
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.statement.Statement;
+import it.unive.lisa.util.datastructures.graph.algorithms.FixpointException;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.collections4.map.LRUMap;
+
+/**
+ * The results of an {@link EVMBlockFixpoint}. Only the exit states of the
+ * basic blocks are stored: the state before or after any other statement is
+ * recomputed on demand, from the entry state of its block, and the states of
+ * the most recently queried blocks are cached. The statements with side
+ * effects form a block on their own (see {@link EVMBlockFixpoint}), hence
+ * querying this object never runs them again.
+ *
+ * @param <A> the type of {@link AbstractState} computed
+ */
+public class EVMBlockAnalyzedCFG<A extends AbstractState<A>> extends AnalyzedCFG<A> {
+	/**
+	 * The number of blocks whose states are cached.
+	 */
+	private static final int REPLAY_CACHE_SIZE = 128;
+
+	private final EVMBlockFixpoint<A> fixpoint;
+	private final AnalysisState<A> singleton;
+	private final LRUMap<Integer, List<AnalysisState<A>>> replayed;
+
+	/**
+	 * Builds the results of the given fixpoint.
+	 *
+	 * @param cfg            the analyzed CFG
+	 * @param id             the scope of the analysis
+	 * @param singleton      an instance of the computed states
+	 * @param startingPoints the entry states of the starting statements
+	 * @param fixpoint       the completed fixpoint
+	 */
+	public EVMBlockAnalyzedCFG(CFG cfg, ScopeId id, AnalysisState<A> singleton,
+			Map<Statement, AnalysisState<A>> startingPoints, EVMBlockFixpoint<A> fixpoint) {
+		super(cfg, id, singleton, startingPoints, fixpoint.getExitStates());
+		this.fixpoint = fixpoint;
+		this.singleton = singleton;
+		this.replayed = new LRUMap<>(REPLAY_CACHE_SIZE);
+	}
+
+	@Override
+	public AnalysisState<A> getAnalysisStateBefore(Statement st) throws SemanticException {
+		int b = fixpoint.blockOf(st);
+		if (b < 0)
+			return super.getAnalysisStateBefore(st);
+
+		try {
+			List<AnalysisState<A>> states = statesOf(b);
+			return states == null ? singleton.bottom() : states.get(2 * fixpoint.positionOf(st));
+		} catch (FixpointException e) {
+			throw new SemanticException("Unable to recompute the state before " + st, e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalStateException if the state cannot be recomputed
+	 */
+	@Override
+	public AnalysisState<A> getAnalysisStateAfter(Statement st) {
+		int b = fixpoint.blockOf(st);
+		if (b < 0)
+			return super.getAnalysisStateAfter(st);
+
+		try {
+			List<AnalysisState<A>> states = statesOf(b);
+			return states == null ? singleton.bottom() : states.get(2 * fixpoint.positionOf(st) + 1);
+		} catch (FixpointException e) {
+			throw new IllegalStateException("Unable to recompute the state after " + st, e);
+		}
+	}
+
+	private List<AnalysisState<A>> statesOf(int block) throws FixpointException {
+		synchronized (replayed) {
+			if (replayed.containsKey(block))
+				return replayed.get(block);
+		}
+
+		List<AnalysisState<A>> states = fixpoint.replay(block);
+		synchronized (replayed) {
+			replayed.put(block, states);
+		}
+		return states;
+	}
+}
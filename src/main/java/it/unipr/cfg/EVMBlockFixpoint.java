@@ -0,0 +1,332 @@
+package it.unipr.cfg;
+
+import it.unive.lisa.analysis.AbstractState;
+import it.unive.lisa.analysis.AnalysisState;
+import it.unive.lisa.program.cfg.fixpoints.CFGFixpoint;
+import it.unive.lisa.program.cfg.fixpoints.CFGFixpoint.CompoundState;
+import it.unive.lisa.program.cfg.statement.Statement;
+import it.unive.lisa.util.datastructures.graph.algorithms.FixpointException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Block-level ascending fixpoint of an {@link EVMCFG}. The statements are
+ * grouped into basic blocks, i.e., maximal chains of statements where each
+ * one but the last has a single successor, that has a single predecessor. The
+ * fixpoint iterates over blocks: states are joined (and widened) only at the
+ * head of a block, and the statements of the block are then evaluated one
+ * after the other, without storing their states. Only the entry and the exit
+ * state of each block are kept: the states of the other statements are
+ * recomputed on demand by {@link #replay(int)}, e.g., when a checker queries
+ * them through {@link EVMBlockAnalyzedCFG}. The statements whose semantics has
+ * side effects (e.g., the jumps, adding edges to the CFG, and the storage
+ * loads, possibly querying the live storage) form a block on their own, so
+ * that their states are stored and they are never re-run by a replay.
+ *
+ * @param <A> the type of {@link AbstractState} computed
+ */
+public class EVMBlockFixpoint<A extends AbstractState<A>> {
+
+	private final CompactGraph graph;
+	private final CFGFixpoint<A> implementation;
+
+	/**
+	 * The block of each statement and its position in the block, by id, and
+	 * the statements of each block, in execution order: the ones of block
+	 * {@code b} are the ones between {@code blockOffsets[b]} and
+	 * {@code blockOffsets[b + 1]}.
+	 */
+	private final int[] blockOf;
+	private final int[] position;
+	private final int[] blockOffsets;
+	private final int[] members;
+
+	/**
+	 * The entry state of the head and the exit state of the tail of each
+	 * block, {@code null} if not computed.
+	 */
+	private final List<CompoundState<A>> entries;
+	private final List<CompoundState<A>> exits;
+
+	/**
+	 * Builds the fixpoint over the blocks of the given graph.
+	 *
+	 * @param graph          the compact view of the CFG
+	 * @param heads          the statements that must start a block, e.g.,
+	 *                           the entrypoints
+	 * @param stored         the statements whose states must be stored,
+	 *                           each one forming a block on its own
+	 * @param implementation the semantics, join and widening to use
+	 */
+	EVMBlockFixpoint(CompactGraph graph, Collection<Statement> heads, Predicate<Statement> stored,
+			CFGFixpoint<A> implementation) {
+		this.graph = graph;
+		this.implementation = implementation;
+		int n = graph.size();
+
+		boolean[] forced = new boolean[n];
+		boolean[] alone = new boolean[n];
+		for (int v = 0; v < n; v++)
+			forced[v] = alone[v] = stored.test(graph.node(v));
+		for (Statement head : heads) {
+			int id = graph.id(head);
+			if (id >= 0)
+				forced[id] = true;
+		}
+
+		int[] inDegree = new int[n];
+		for (int v = 0; v < n; v++)
+			for (int k = graph.inOffsets[v]; k < graph.inOffsets[v + 1]; k++)
+				if (graph.inSources[k] >= 0)
+					inDegree[v]++;
+
+		// the only successor of a statement continues its block if the
+		// statement is its only predecessor
+		int[] next = new int[n];
+		boolean[] continuation = new boolean[n];
+		for (int u = 0; u < n; u++) {
+			next[u] = -1;
+			if (alone[u] || graph.outOffsets[u + 1] - graph.outOffsets[u] != 1)
+				continue;
+			int v = graph.outTargets[graph.outOffsets[u]];
+			if (v >= 0 && v != u && inDegree[v] == 1 && !forced[v]) {
+				next[u] = v;
+				continuation[v] = true;
+			}
+		}
+
+		blockOf = new int[n];
+		Arrays.fill(blockOf, -1);
+		position = new int[n];
+		members = new int[n];
+		int[] offsets = new int[n + 1];
+		int blocks = 0, size = 0;
+		// heads first, then the rings of chained statements, which have none
+		for (int pass = 0; pass < 2; pass++)
+			for (int i = 0; i < n; i++) {
+				if (blockOf[i] >= 0 || (pass == 0 && continuation[i]))
+					continue;
+				for (int v = i; v >= 0 && blockOf[v] < 0; v = next[v]) {
+					blockOf[v] = blocks;
+					position[v] = size - offsets[blocks];
+					members[size++] = v;
+				}
+				offsets[++blocks] = size;
+			}
+		blockOffsets = Arrays.copyOf(offsets, blocks + 1);
+
+		entries = new ArrayList<>(blocks);
+		exits = new ArrayList<>(blocks);
+		for (int b = 0; b < blocks; b++) {
+			entries.add(null);
+			exits.add(null);
+		}
+	}
+
+	/**
+	 * Runs the fixpoint.
+	 *
+	 * @param startingPoints the entry states of the starting statements
+	 * @param seeds          the statements to recompute when restarting from
+	 *                           {@code previous}
+	 * @param previous       the fixpoint to restart from, {@code null} to
+	 *                           start from scratch
+	 *
+	 * @throws FixpointException if an error occurs while computing the
+	 *                               fixpoint
+	 */
+	void fixpoint(Map<Statement, CompoundState<A>> startingPoints, Collection<Statement> seeds,
+			EVMBlockFixpoint<A> previous) throws FixpointException {
+		int blocks = blockOffsets.length - 1;
+		int[] queue = new int[Math.max(blocks, 1)];
+		boolean[] queued = new boolean[blocks];
+		int head = 0, count = 0;
+
+		CompoundState<A>[] start = startingStates(startingPoints);
+
+		if (previous != null)
+			for (int b = 0; b < blocks; b++) {
+				// the results of a block are kept only if the block is the
+				// same, otherwise it is recomputed
+				int first = members[blockOffsets[b]], last = members[blockOffsets[b + 1] - 1];
+				int pb = previous.blockOf[first];
+				if (pb >= 0 && previous.members[previous.blockOffsets[pb]] == first
+						&& previous.members[previous.blockOffsets[pb + 1] - 1] == last
+						&& previous.exits.get(pb) != null) {
+					entries.set(b, previous.entries.get(pb));
+					exits.set(b, previous.exits.get(pb));
+				} else if (!queued[b]) {
+					queued[b] = true;
+					queue[(head + count++) % queue.length] = b;
+				}
+			}
+
+		List<Statement> initial = new ArrayList<>(startingPoints.keySet());
+		initial.addAll(seeds);
+		for (Statement st : initial) {
+			int id = graph.id(st);
+			if (id >= 0 && !queued[blockOf[id]]) {
+				queued[blockOf[id]] = true;
+				queue[(head + count++) % queue.length] = blockOf[id];
+			}
+		}
+
+		while (count > 0) {
+			int b = queue[head];
+			head = (head + 1) % queue.length;
+			count--;
+			queued[b] = false;
+
+			int first = members[blockOffsets[b]];
+			Statement node = graph.node(first);
+			try {
+				// join the exit states of the predecessors at the head
+				CompoundState<A> entry = start[first];
+				for (int k = graph.inOffsets[first]; k < graph.inOffsets[first + 1]; k++) {
+					int pred = graph.inSources[k];
+					if (pred < 0 || exits.get(blockOf[pred]) == null)
+						continue;
+					CompoundState<A> state = implementation.traverse(graph.inEdges[k], exits.get(blockOf[pred]));
+					entry = entry == null ? state : implementation.union(node, entry, state);
+				}
+
+				if (entry == null)
+					continue;
+
+				CompoundState<A> old = entries.get(b);
+				if (old != null) {
+					entry = implementation.operation(node, entry, old);
+					if (exits.get(b) != null && implementation.equality(node, entry, old))
+						continue;
+				}
+				entries.set(b, entry);
+
+				// run the statements of the block, without storing their
+				// states
+				CompoundState<A> state = implementation.semantics(node, entry);
+				for (int i = blockOffsets[b] + 1; i < blockOffsets[b + 1]; i++) {
+					int prev = members[i - 1];
+					node = graph.node(members[i]);
+					state = implementation.semantics(node,
+							implementation.traverse(graph.outEdges[graph.outOffsets[prev]], state));
+				}
+				exits.set(b, state);
+			} catch (Exception e) {
+				throw new FixpointException("Exception while computing the fixpoint at " + node, e);
+			}
+
+			int last = members[blockOffsets[b + 1] - 1];
+			for (int k = graph.outOffsets[last]; k < graph.outOffsets[last + 1]; k++) {
+				int succ = graph.outTargets[k];
+				if (succ >= 0 && !queued[blockOf[succ]]) {
+					queued[blockOf[succ]] = true;
+					queue[(head + count++) % queue.length] = blockOf[succ];
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private CompoundState<A>[] startingStates(Map<Statement, CompoundState<A>> startingPoints) {
+		CompoundState<A>[] start = new CompoundState[graph.size()];
+		for (Map.Entry<Statement, CompoundState<A>> entry : startingPoints.entrySet()) {
+			int id = graph.id(entry.getKey());
+			if (id >= 0)
+				start[id] = entry.getValue();
+		}
+		return start;
+	}
+
+	/**
+	 * Yields the block of the given statement.
+	 *
+	 * @param st the statement
+	 *
+	 * @return the block of {@code st}, {@code -1} if it is not a statement of
+	 *             the CFG
+	 */
+	int blockOf(Statement st) {
+		int id = graph.id(st);
+		return id < 0 ? -1 : blockOf[id];
+	}
+
+	/**
+	 * Yields the post states of the last statements of the blocks.
+	 *
+	 * @return the post states of the last statements of the blocks
+	 */
+	Map<Statement, AnalysisState<A>> getExitStates() {
+		Map<Statement, AnalysisState<A>> states = new HashMap<>();
+		for (int b = 0; b < blockOffsets.length - 1; b++)
+			if (exits.get(b) != null)
+				states.put(graph.node(members[blockOffsets[b + 1] - 1]), exits.get(b).postState);
+		return states;
+	}
+
+	/**
+	 * Recomputes the states of the statements of a block from its entry
+	 * state.
+	 *
+	 * @param b the block
+	 *
+	 * @return the pre and the post state of each statement of the block, in
+	 *             execution order, or {@code null} if the block has not been
+	 *             reached
+	 *
+	 * @throws FixpointException if an error occurs while computing the states
+	 */
+	List<AnalysisState<A>> replay(int b) throws FixpointException {
+		CompoundState<A> entry = entries.get(b);
+		if (entry == null)
+			return null;
+
+		// the states of a single statement are stored: no need to run it
+		// again, which would repeat its side effects
+		if (blockOffsets[b + 1] - blockOffsets[b] == 1 && exits.get(b) != null)
+			return Arrays.asList(entry.postState, exits.get(b).postState);
+
+		List<AnalysisState<A>> states = new ArrayList<>(2 * (blockOffsets[b + 1] - blockOffsets[b]));
+		Statement node = graph.node(members[blockOffsets[b]]);
+		try {
+			CompoundState<A> pre = entry;
+			for (int i = blockOffsets[b]; i < blockOffsets[b + 1]; i++) {
+				node = graph.node(members[i]);
+				if (i > blockOffsets[b])
+					pre = implementation.traverse(graph.outEdges[graph.outOffsets[members[i - 1]]], pre);
+				CompoundState<A> post = implementation.semantics(node, pre);
+				states.add(pre.postState);
+				states.add(post.postState);
+				pre = post;
+			}
+		} catch (Exception e) {
+			throw new FixpointException("Exception while recomputing the state of " + node, e);
+		}
+
+		return states;
+	}
+
+	/**
+	 * Yields the position of the given statement in its block.
+	 *
+	 * @param st the statement, belonging to the CFG
+	 *
+	 * @return the position of {@code st} in its block
+	 */
+	int positionOf(Statement st) {
+		return position[graph.id(st)];
+	}
+
+	/**
+	 * Yields the number of blocks.
+	 *
+	 * @return the number of blocks
+	 */
+	int getBlockCount() {
+		return blockOffsets.length - 1;
+	}
+}
@@ -3,7 +3,7 @@ package it.unipr.cfg;
 import it.unipr.analysis.Number;
 import it.unipr.analysis.contract.BasicBlock;
 import it.unipr.cfg.push.Push;
-import it.unipr.utils.MyCache;
+import it.unipr.utils.AnalysisContext;
 import it.unive.lisa.analysis.AbstractState;
 import it.unive.lisa.analysis.AnalysisState;
 import it.unive.lisa.analysis.AnalyzedCFG;
@@ -21,6 +21,7 @@ import it.unive.lisa.program.cfg.CFG;
 import it.unive.lisa.program.cfg.CodeMemberDescriptor;
 import it.unive.lisa.program.cfg.edge.Edge;
 import it.unive.lisa.program.cfg.edge.TrueEdge;
+import it.unive.lisa.program.cfg.fixpoints.CFGFixpoint;
 import it.unive.lisa.program.cfg.fixpoints.CFGFixpoint.CompoundState;
 import it.unive.lisa.program.cfg.fixpoints.OptimizedFixpoint;
 import it.unive.lisa.program.cfg.statement.Statement;
@@ -30,6 +31,8 @@ import it.unive.lisa.util.datastructures.graph.algorithms.FixpointException;
 import it.unive.lisa.util.datastructures.graph.code.NodeList;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -39,18 +42,119 @@ public class EVMCFG extends CFG {
 	@SuppressWarnings("unused")
 	private static final Logger log = LogManager.getLogger(EVMCFG.class);
 
+	/**
+	 * Whether the ascending phase iterates over basic blocks, through
+	 * {@link EVMBlockFixpoint}, instead of single statements.
+	 */
+	private static boolean BLOCK_FIXPOINT = false;
+
+	/**
+	 * Whether the ascending phase solves the independent function regions
+	 * concurrently, through {@link EVMRegionFixpoint}.
+	 */
+	private static boolean PARALLEL_FIXPOINT = false;
+
+	/**
+	 * Whether the results of the ascending phase store the states of every
+	 * statement, instead of the ones around the hotspots only (see
+	 * {@link EVMHotspotAnalyzedCFG}).
+	 */
+	private static boolean STORE_ALL_STATES = false;
+
 	private Set<BasicBlock> _basicBlocks;
 	private Set<Statement> jumpDestsNodes;
 	private Set<Statement> jumpNodes;
 	private Set<Statement> pushedJumps;
 	private Set<Statement> sstores;
 	private Set<Number> jumpDestsNodesLocations;
+
+	/**
+	 * The JUMPDEST statements indexed by program counter, {@code null} where
+	 * there is no JUMPDEST. It is never modified after being built.
+	 */
+	private Statement[] jumpDestsByPc;
+
+	/**
+	 * The edges of this CFG, kept aligned with the ones added through
+	 * {@link #addEdge(Edge)} to check their existence in constant time.
+	 */
+	private Set<Edge> edgeIndex;
 	public Set<Statement> logxs;
 	public Set<Statement> calls;
 	public Set<Statement> externalData;
 	public Set<Statement> jumpI;
 	public Set<Statement> successfullyTerminationStatements;
 
+	/**
+	 * Whether the results of the ascending phase are retained, so that the
+	 * next fixpoint on this CFG restarts from them.
+	 */
+	private boolean incremental;
+
+	/**
+	 * The results of the last ascending phase, if {@link #incremental}.
+	 */
+	private Map<Statement, ?> retainedResults;
+
+	/**
+	 * The last block-level fixpoint, if {@link #incremental} and
+	 * {@link #BLOCK_FIXPOINT}.
+	 */
+	private EVMBlockFixpoint<?> retainedBlocks;
+
+	/**
+	 * The entry points of the functions of the contract, delimiting the
+	 * regions of {@link #PARALLEL_FIXPOINT}, empty if unknown.
+	 */
+	private Set<Statement> functionEntryPoints = Collections.emptySet();
+
+	/**
+	 * The depth-first order of this CFG, {@code null} until needed, updated
+	 * with the edges added by the semantics of the jumps.
+	 */
+	private volatile DepthFirstOrder order;
+
+	/**
+	 * The statements evaluated by the fixpoints on this CFG.
+	 */
+	private long fixpointIterations;
+
+	/**
+	 * The nodes to recompute when restarting from {@link #retainedResults}.
+	 */
+	private final Set<Statement> seeds = new HashSet<>();
+
+	/**
+	 * Whether the budget of an analysis of this CFG has been exceeded. Each
+	 * fixpoint run has its own budget (see
+	 * {@link AnalysisBudget#forFixpoint(AnalysisState)}), but the results of a
+	 * run exceeding it are retained by the runs restarting from them.
+	 */
+	private volatile boolean budgetExceeded;
+
+	/**
+	 * The data produced by the analyses of this CFG.
+	 */
+	private final AnalysisContext context = new AnalysisContext();
+
+	/**
+	 * The statements of this CFG in program counter order, that is, indexed
+	 * by their dense id, and the id of the statement at each program counter.
+	 * They are never modified after being built.
+	 */
+	private Statement[] nodesById;
+	private int[] idByPc;
+
+	/**
+	 * The compact view of this CFG used by its traversals, and its
+	 * reachability indexes, over all its edges and over the edges not leaving
+	 * a jump. They are built on the first query and discarded when an edge is
+	 * added.
+	 */
+	private volatile CompactGraph compact;
+	private volatile ReachabilityIndex reachability;
+	private volatile ReachabilityIndex sequentialReachability;
+
 	/**
 	 * Builds a EVMCFG starting from its description.
 	 *
@@ -86,10 +190,203 @@ public class EVMCFG extends CFG {
 
 		}
 
-		for (Edge edge : cfgNodeList.getEdges())
+		Set<Edge> edges = ConcurrentHashMap.newKeySet();
+		for (Edge edge : cfgNodeList.getEdges()) {
+			edges.add(edge);
 			if ((edge.getDestination() instanceof Jump || edge.getDestination() instanceof Jumpi)
 					&& (edge.getSource() instanceof Push))
 				pushedJumps.add(edge.getDestination());
+		}
+		this.edgeIndex = edges;
+
+		int maxPc = -1;
+		for (Statement jumpdest : jumpDestsNodes)
+			maxPc = Math.max(maxPc, ((ProgramCounterLocation) jumpdest.getLocation()).getPc());
+		Statement[] byPc = new Statement[maxPc + 1];
+		for (Statement jumpdest : jumpDestsNodes)
+			byPc[((ProgramCounterLocation) jumpdest.getLocation()).getPc()] = jumpdest;
+		this.jumpDestsByPc = byPc;
+
+		indexNodes();
+	}
+
+	/**
+	 * Assigns to each statement its dense id, that is, its index in program
+	 * counter order.
+	 */
+	private void indexNodes() {
+		Statement[] nodes = getNodeList().getNodes().toArray(new Statement[0]);
+		Arrays.sort(nodes, Comparator.comparingInt(st -> ((ProgramCounterLocation) st.getLocation()).getPc()));
+		int[] ids = new int[nodes.length == 0 ? 0
+				: ((ProgramCounterLocation) nodes[nodes.length - 1].getLocation()).getPc() + 1];
+		Arrays.fill(ids, -1);
+		for (int i = 0; i < nodes.length; i++)
+			ids[((ProgramCounterLocation) nodes[i].getLocation()).getPc()] = i;
+		this.nodesById = nodes;
+		this.idByPc = ids;
+	}
+
+	@Override
+	public void addEdge(Edge edge) {
+		synchronized (this) {
+			super.addEdge(edge);
+			edgeAdded(edge);
+		}
+		if (edgeIndex != null)
+			edgeIndex.add(edge);
+	}
+
+	/**
+	 * Adds the given edge to this CFG, unless an equal edge is already there.
+	 * It is safe to call it concurrently.
+	 *
+	 * @param edge the edge to add
+	 *
+	 * @return {@code true} if the edge has been added, {@code false} if it was
+	 *             already in this CFG
+	 */
+	public boolean addEdgeIfAbsent(Edge edge) {
+		if (edgeIndex == null) {
+			synchronized (this) {
+				if (getEdges().contains(edge))
+					return false;
+				super.addEdge(edge);
+				edgeAdded(edge);
+				return true;
+			}
+		}
+
+		if (!edgeIndex.add(edge))
+			return false;
+		synchronized (this) {
+			super.addEdge(edge);
+			edgeAdded(edge);
+		}
+		return true;
+	}
+
+	private void edgeAdded(Edge edge) {
+		invalidateReachability();
+		DepthFirstOrder current = order;
+		if (current != null)
+			current.edgeAdded(edge);
+	}
+
+	private void invalidateReachability() {
+		compact = null;
+		reachability = null;
+		sequentialReachability = null;
+	}
+
+	/**
+	 * Yields the compact view of this CFG, building it if needed.
+	 *
+	 * @return the compact view
+	 */
+	CompactGraph getCompactGraph() {
+		CompactGraph graph = compact;
+		if (graph == null)
+			synchronized (this) {
+				if ((graph = compact) == null) {
+					if (nodesById == null)
+						indexNodes();
+					compact = graph = new CompactGraph(nodesById, idByPc, list);
+				}
+			}
+		return graph;
+	}
+
+	/**
+	 * Yields the depth-first order of this CFG, computing it if needed, i.e.,
+	 * the first time or when the edges added since the last time reach
+	 * statements it does not cover.
+	 *
+	 * @return the depth-first order
+	 */
+	DepthFirstOrder getDepthFirstOrder() {
+		DepthFirstOrder current = order;
+		if (current == null || current.isStale())
+			synchronized (this) {
+				if ((current = order) == null || current.isStale())
+					order = current = new DepthFirstOrder(getCompactGraph(), entrypoints);
+			}
+		return current;
+	}
+
+	/**
+	 * Yields the reachability index over all the edges of this CFG, building
+	 * it if needed. It is meant to be queried once the CFG is complete, i.e.,
+	 * after the jumps have been solved.
+	 *
+	 * @return the reachability index
+	 */
+	private ReachabilityIndex getReachability() {
+		ReachabilityIndex index = reachability;
+		if (index == null)
+			synchronized (this) {
+				if ((index = reachability) == null)
+					reachability = index = new ReachabilityIndex(getCompactGraph(), edge -> true);
+			}
+		return index;
+	}
+
+	/**
+	 * Yields the reachability index over the edges of this CFG not leaving a
+	 * JUMP or JUMPI, building it if needed.
+	 *
+	 * @return the sequential reachability index
+	 */
+	private ReachabilityIndex getSequentialReachability() {
+		ReachabilityIndex index = sequentialReachability;
+		if (index == null)
+			synchronized (this) {
+				if ((index = sequentialReachability) == null)
+					sequentialReachability = index = new ReachabilityIndex(getCompactGraph(),
+							edge -> !(edge.getSource() instanceof Jumpi || edge.getSource() instanceof Jump));
+			}
+		return index;
+	}
+
+	/**
+	 * Checks whether an edge equal to the given one is in this CFG.
+	 *
+	 * @param edge the edge
+	 *
+	 * @return {@code true} if an equal edge is in this CFG, {@code false}
+	 *             otherwise
+	 */
+	public boolean containsEdge(Edge edge) {
+		if (edgeIndex == null)
+			return getEdges().contains(edge);
+		return edgeIndex.contains(edge);
+	}
+
+	/**
+	 * Yields the JUMPDEST statement at the given program counter.
+	 *
+	 * @param pc the program counter
+	 *
+	 * @return the JUMPDEST statement at {@code pc}, or {@code null} if there
+	 *             is none
+	 */
+	public Statement getJumpdest(Number pc) {
+		if (pc.getType() != Number.Type.INT)
+			return null;
+		return getJumpdest(pc.getInt());
+	}
+
+	/**
+	 * Yields the JUMPDEST statement at the given program counter.
+	 *
+	 * @param pc the program counter
+	 *
+	 * @return the JUMPDEST statement at {@code pc}, or {@code null} if there
+	 *             is none
+	 */
+	public Statement getJumpdest(int pc) {
+		if (pc < 0 || pc >= jumpDestsByPc.length)
+			return null;
+		return jumpDestsByPc[pc];
 	}
 
 	/**
@@ -321,6 +618,98 @@ public class EVMCFG extends CFG {
 		return this.getNodesCount() - 1;
 	}
 
+	/**
+	 * Enables or disables the incremental fixpoint on this CFG. When enabled,
+	 * the results of each fixpoint are retained and the next fixpoint starts
+	 * from them, recomputing only the nodes passed to {@link #reseed} and the
+	 * ones reached from them. Disabling it releases the retained results.
+	 *
+	 * @param incremental whether the incremental fixpoint is enabled
+	 */
+	public void setIncrementalFixpoint(boolean incremental) {
+		this.incremental = incremental;
+		if (!incremental) {
+			this.retainedResults = null;
+			this.retainedBlocks = null;
+			this.seeds.clear();
+		}
+	}
+
+	/**
+	 * Enables or disables the block-level fixpoint of all the CFGs, where
+	 * states are joined and widened only at the heads of the basic blocks and
+	 * the states of the other statements are recomputed on demand.
+	 *
+	 * @param enabled whether the block-level fixpoint is enabled
+	 */
+	public static void setBlockFixpoint(boolean enabled) {
+		BLOCK_FIXPOINT = enabled;
+	}
+
+	/**
+	 * Yields whether the block-level fixpoint is enabled.
+	 *
+	 * @return {@code true} if the block-level fixpoint is enabled,
+	 *             {@code false} otherwise
+	 */
+	public static boolean isBlockFixpoint() {
+		return BLOCK_FIXPOINT;
+	}
+
+	/**
+	 * Enables or disables the parallel fixpoint of all the CFGs, where the
+	 * regions of independent functions are solved concurrently. It applies to
+	 * the CFGs whose function entry points are known. When a budget is set
+	 * (see {@link AnalysisBudget}) and exceeded, the results depend on the
+	 * order of the concurrent regions.
+	 *
+	 * @param enabled whether the parallel fixpoint is enabled
+	 */
+	public static void setParallelFixpoint(boolean enabled) {
+		PARALLEL_FIXPOINT = enabled;
+	}
+
+	/**
+	 * Yields whether the parallel fixpoint is enabled.
+	 *
+	 * @return {@code true} if the parallel fixpoint is enabled, {@code false}
+	 *             otherwise
+	 */
+	public static boolean isParallelFixpoint() {
+		return PARALLEL_FIXPOINT;
+	}
+
+	/**
+	 * Enables or disables storing the states of every statement in the results
+	 * of the analyses of all the CFGs. When disabled, only the states around
+	 * the hotspots are stored, and the other ones are recomputed on demand.
+	 *
+	 * @param enabled whether all the states are stored
+	 */
+	public static void setStoreAllStates(boolean enabled) {
+		STORE_ALL_STATES = enabled;
+	}
+
+	/**
+	 * Sets the entry points of the functions of the contract, used to split
+	 * this CFG into regions by the parallel fixpoint.
+	 *
+	 * @param entryPoints the entry points of the functions
+	 */
+	public void setFunctionEntryPoints(Collection<Statement> entryPoints) {
+		this.functionEntryPoints = new HashSet<>(entryPoints);
+	}
+
+	/**
+	 * Marks the given nodes to be recomputed by the next incremental fixpoint,
+	 * e.g., the destinations of edges added after the last one.
+	 *
+	 * @param nodes the nodes to recompute
+	 */
+	public void reseed(Collection<Statement> nodes) {
+		this.seeds.addAll(nodes);
+	}
+
 	/**
 	 * Returns a set of all the JUMP statements preceded by a PUSH statement in
 	 * the CFG.
@@ -332,12 +721,46 @@ public class EVMCFG extends CFG {
 		return pushedJumps;
 	}
 
+	/**
+	 * Yields whether the budget of the analyses of this CFG has been exceeded,
+	 * that is, whether their results have been widened to top to terminate.
+	 *
+	 * @return {@code true} if the budget has been exceeded, {@code false}
+	 *             otherwise
+	 */
+	public boolean isBudgetExceeded() {
+		return budgetExceeded;
+	}
+
+	/**
+	 * Yields the number of statements evaluated by the fixpoints on this CFG,
+	 * a measure of the cost of the analysis independent of the machine.
+	 *
+	 * @return the number of fixpoint iterations
+	 */
+	public long getFixpointIterations() {
+		return fixpointIterations;
+	}
+
+	/**
+	 * Yields the data produced by the analyses of this CFG, such as the
+	 * warnings raised by the checkers.
+	 *
+	 * @return the context of this CFG
+	 */
+	public AnalysisContext getContext() {
+		return context;
+	}
+
 	@Override
 	public <A extends AbstractState<A>> AnalyzedCFG<A> fixpoint(
 			AnalysisState<A> singleton, Map<Statement, AnalysisState<A>> startingPoints,
 			InterproceduralAnalysis<A> interprocedural, WorkingSet<Statement> ws,
 			FixpointConfiguration conf,
 			ScopeId id) throws FixpointException {
+		if (BLOCK_FIXPOINT && conf.descendingPhaseType == DescendingPhaseType.NONE)
+			return blockFixpoint(singleton, startingPoints, interprocedural, ws, conf, id);
+
 		// we disable optimizations for ascending phases if there is a
 		// descending one: the latter will need full results to start applying
 		// glbs/narrowings from a post-fixpoint
@@ -345,16 +768,50 @@ public class EVMCFG extends CFG {
 		Fixpoint<CFG, Statement, Edge, CompoundState<A>> fix = isOptimized
 				? new OptimizedFixpoint<>(this, false, conf.hotspots)
 				: new Fixpoint<>(this, false);
+		AnalysisBudget budget = AnalysisBudget.forFixpoint(singleton);
 		EVMAscendingFixpoint<A> asc = new EVMAscendingFixpoint<>(this, interprocedural,
-				conf.wideningThreshold);
+				conf.wideningThreshold, budget);
 
 		Map<Statement, CompoundState<A>> starting = new HashMap<>();
 		StatementStore<A> bot = new StatementStore<>(singleton.bottom());
 		startingPoints.forEach((st, state) -> starting.put(st, CompoundState.of(state, bot)));
-		Map<Statement, CompoundState<A>> ascending = fix.fixpoint(starting, ws, asc);
-
+		Map<Statement, CompoundState<A>> ascending;
+		if (PARALLEL_FIXPOINT && !isOptimized && !functionEntryPoints.isEmpty()) {
+			@SuppressWarnings("unchecked")
+			Map<Statement, CompoundState<A>> previous = incremental
+					? (Map<Statement, CompoundState<A>>) retainedResults
+					: null;
+			ascending = regionFixpoint(starting, asc, previous);
+		} else {
+			// statements are evaluated in reverse post-order, instead of the
+			// order of the working set given by LiSA
+			EVMWorkingSet worklist = new EVMWorkingSet(this);
+			while (!ws.isEmpty())
+				worklist.push(ws.pop());
+			if (incremental && retainedResults != null) {
+				// restart from the previous post-fixpoint: only the seeds (and
+				// what they reach) need to be recomputed
+				@SuppressWarnings("unchecked")
+				Map<Statement, CompoundState<A>> previous = (Map<Statement, CompoundState<A>>) retainedResults;
+				seeds.forEach(worklist::push);
+				ascending = fix.fixpoint(starting, worklist, asc, previous);
+			} else
+				ascending = fix.fixpoint(starting, worklist, asc);
+		}
+		seeds.clear();
+		asc.stop();
+		fixpointIterations += asc.getIterations();
+		if (budget != null && budget.isExceeded())
+			budgetExceeded = true;
+		if (incremental)
+			retainedResults = ascending;
+
+		// a budget exceeded, by this run or by the one it restarted from,
+		// makes the stored states top, so that they could not be recomputed
+		boolean topped = budget != null && budgetExceeded;
 		if (conf.descendingPhaseType == DescendingPhaseType.NONE)
-			return flatten(isOptimized, singleton, startingPoints, interprocedural, id, ascending);
+			return flatten(isOptimized, singleton, startingPoints, interprocedural, id, ascending,
+					topped ? null : asc);
 
 		fix = conf.optimize ? new OptimizedFixpoint<>(this, true, conf.hotspots) : new Fixpoint<>(this, true);
 		Map<Statement, CompoundState<A>> descending;
@@ -377,7 +834,80 @@ public class EVMCFG extends CFG {
 			break;
 		}
 
-		return flatten(conf.optimize, singleton, startingPoints, interprocedural, id, descending);
+		return flatten(conf.optimize, singleton, startingPoints, interprocedural, id, descending, null);
+	}
+
+	private <A extends AbstractState<A>> Map<Statement, CompoundState<A>> regionFixpoint(
+			Map<Statement, CompoundState<A>> starting, EVMAscendingFixpoint<A> asc,
+			Map<Statement, CompoundState<A>> previous) throws FixpointException {
+		Collection<Statement> pending = new HashSet<>(seeds);
+		Map<Statement, CompoundState<A>> results = previous;
+		CompactGraph graph = getCompactGraph();
+		while (true) {
+			results = new EVMRegionFixpoint<>(graph, functionEntryPoints, asc).fixpoint(starting, pending, results);
+
+			// the jumps solved by the fixpoint add edges, possibly between
+			// regions: split the updated CFG again and restart from the
+			// results, recomputing the destinations of the new edges
+			CompactGraph updated = getCompactGraph();
+			if (updated == graph)
+				return results;
+			pending = updated.newDestinations(graph);
+			graph = updated;
+		}
+	}
+
+	private <A extends AbstractState<A>> AnalyzedCFG<A> blockFixpoint(
+			AnalysisState<A> singleton, Map<Statement, AnalysisState<A>> startingPoints,
+			InterproceduralAnalysis<A> interprocedural, WorkingSet<Statement> ws, FixpointConfiguration conf,
+			ScopeId id) throws FixpointException {
+		AnalysisBudget budget = AnalysisBudget.forFixpoint(singleton);
+		EVMAscendingFixpoint<A> asc = new EVMAscendingFixpoint<>(this, interprocedural,
+				conf.wideningThreshold, budget);
+		Set<Statement> heads = new HashSet<>(startingPoints.keySet());
+		heads.addAll(entrypoints);
+
+		Map<Statement, CompoundState<A>> starting = new HashMap<>();
+		StatementStore<A> bot = new StatementStore<>(singleton.bottom());
+		startingPoints.forEach((st, state) -> starting.put(st, CompoundState.of(state, bot)));
+
+		// the blocks are rebuilt at each fixpoint, as edges may have been
+		// added: the results of the unchanged ones are reused
+		@SuppressWarnings("unchecked")
+		EVMBlockFixpoint<A> previous = incremental ? (EVMBlockFixpoint<A>) retainedBlocks : null;
+		Collection<Statement> pending = new HashSet<>(seeds);
+		while (!ws.isEmpty())
+			pending.add(ws.pop());
+		seeds.clear();
+
+		// the hotspots are stored, so that the replays never run their side
+		// effects again, as well as the ones requested by LiSA, if optimizing
+		Predicate<Statement> stored = conf.optimize && conf.hotspots != null
+				? st -> EVMHotspotAnalyzedCFG.isHotspot(st) || conf.hotspots.test(st)
+				: EVMHotspotAnalyzedCFG::isHotspot;
+		CompactGraph graph = getCompactGraph();
+		EVMBlockFixpoint<A> fix;
+		while (true) {
+			fix = new EVMBlockFixpoint<>(graph, heads, stored, asc);
+			fix.fixpoint(starting, pending, previous);
+
+			// the jumps solved by the fixpoint add edges: restart from its
+			// results, recomputing the destinations of the new edges
+			CompactGraph updated = getCompactGraph();
+			if (updated == graph)
+				break;
+			pending = updated.newDestinations(graph);
+			previous = fix;
+			graph = updated;
+		}
+		if (incremental)
+			retainedBlocks = fix;
+		asc.stop();
+		fixpointIterations += asc.getIterations();
+		if (budget != null && budget.isExceeded())
+			budgetExceeded = true;
+
+		return new EVMBlockAnalyzedCFG<>(this, id, singleton, startingPoints, fix);
 	}
 
 	private <V extends ValueDomain<V>,
@@ -387,7 +917,14 @@ public class EVMCFG extends CFG {
 					boolean isOptimized, AnalysisState<A> singleton,
 					Map<Statement, AnalysisState<A>> startingPoints,
 					InterproceduralAnalysis<A> interprocedural, ScopeId id,
-					Map<Statement, CompoundState<A>> fixpointResults) {
+					Map<Statement, CompoundState<A>> fixpointResults, CFGFixpoint<A> implementation) {
+		// keep only the states around the hotspots and at the ends of the
+		// chains, recomputing the others on demand through the ascending
+		// semantics, if given
+		if (implementation != null && !isOptimized && !STORE_ALL_STATES)
+			return new EVMHotspotAnalyzedCFG<>(this, id, singleton, startingPoints, fixpointResults,
+					implementation);
+
 		Map<Statement, AnalysisState<A>> finalResults = new HashMap<>(fixpointResults.size());
 		for (Entry<Statement, CompoundState<A>> e : fixpointResults.entrySet()) {
 			finalResults.put(e.getKey(), e.getValue().postState);
@@ -419,9 +956,8 @@ public class EVMCFG extends CFG {
 	}
 
 	/**
-	 * Checks if the target statement is reachable from the start statement
-	 * using depth-first search (DFS). Caches results to avoid redundant
-	 * computations.
+	 * Checks if the target statement is reachable from the start statement,
+	 * through the reachability index of this CFG.
 	 *
 	 * @param start  The starting statement.
 	 * @param target The target statement.
@@ -429,25 +965,21 @@ public class EVMCFG extends CFG {
 	 * @return True if the target is reachable from the start, false otherwise.
 	 */
 	public boolean reachableFrom(Statement start, Statement target) {
-		String key = this.hashCode() + "" + start.hashCode() + "" + target.hashCode();
-
-		if (MyCache.getInstance().existsInReachableFrom(key))
-			return MyCache.getInstance().isReachableFrom(key);
-
-		boolean result = dfs(start, target, new HashSet<>());
-		MyCache.getInstance().addReachableFrom(key, result);
-		return result;
+		return getReachability().reachable(start, target);
 	}
 
+	/**
+	 * Checks if the target statement is reachable from the start statement
+	 * following the edges backwards, that is, if the start statement is
+	 * reachable from the target one.
+	 *
+	 * @param start  The starting statement.
+	 * @param target The target statement.
+	 * 
+	 * @return True if the start is reachable from the target, false otherwise.
+	 */
 	public boolean reachableFromReverse(Statement start, Statement target) {
-		String key = this.hashCode() + "" + start.hashCode() + "" + target.hashCode() + "reverse";
-
-		if (MyCache.getInstance().existsInReachableFrom(key))
-			return MyCache.getInstance().isReachableFrom(key);
-
-		boolean result = dfsReverse(start, target, new HashSet<>());
-		MyCache.getInstance().addReachableFrom(key, result);
-		return result;
+		return getReachability().reachable(target, start);
 	}
 
 	/**
@@ -460,36 +992,42 @@ public class EVMCFG extends CFG {
 	 * @return the first entrypoint encountered, or null if none are reachable
 	 */
 	public Statement reachableFromReverse(Statement start, Set<Statement> entrypoints) {
-		return bfsReverse(start, entrypoints, new HashSet<>());
+		CompactGraph graph = getCompactGraph();
+		int from = graph.id(start);
+		if (from < 0)
+			return null;
+		return bfsReverse(graph, from, graph.bitset(entrypoints));
 	}
 
 	/**
 	 * Performs a breadth‑first search on the reversed CFG, starting from a
 	 * given node, to locate any of a set of entrypoint statements.
 	 *
-	 * @param start       the initial node of the search
-	 * @param entrypoints the set of target statements to find
-	 * @param visited     the set of already visited nodes (to prevent cycles)
+	 * @param graph       the compact view of this CFG
+	 * @param start       the id of the initial node of the search
+	 * @param entrypoints the bitset of the target statements to find
 	 * 
 	 * @return the first matching entrypoint found, or null if no entrypoint is
 	 *             reachable
 	 */
-	private Statement bfsReverse(Statement start, Set<Statement> entrypoints, Set<Statement> visited) {
-		Queue<Statement> queue = new LinkedList<>();
-		queue.offer(start);
-		visited.add(start);
-
-		while (!queue.isEmpty()) {
-			Statement current = queue.poll();
-
-			for (Edge edge : list.getIngoingEdges(current)) {
-				Statement next = edge.getSource();
-				if (visited.add(next)) {
-					queue.offer(next);
-				}
-				if (entrypoints.contains(next)) {
-					return next;
-				}
+	private Statement bfsReverse(CompactGraph graph, int start, long[] entrypoints) {
+		int[] queue = new int[graph.size()];
+		int head = 0, tail = 0;
+		long[] visited = graph.newBitset();
+		queue[tail++] = start;
+		CompactGraph.mark(visited, start);
+
+		while (head < tail) {
+			int current = queue[head++];
+
+			for (int k = graph.inOffsets[current]; k < graph.inOffsets[current + 1]; k++) {
+				int next = graph.inSources[k];
+				if (next < 0)
+					continue;
+				if (CompactGraph.mark(visited, next))
+					queue[tail++] = next;
+				if (CompactGraph.isMarked(entrypoints, next))
+					return graph.node(next);
 			}
 		}
 
@@ -513,87 +1051,33 @@ public class EVMCFG extends CFG {
 		return reachableFrom(start, target);
 	}
 
-	/**
-	 * Performs a depth-first search (DFS) to determine if the target statement
-	 * is reachable from the start statement.
-	 *
-	 * @param start   The starting statement.
-	 * @param target  The target statement.
-	 * @param visited A set of visited statements to avoid cycles.
-	 * 
-	 * @return True if the target is reachable from the start, false otherwise.
-	 */
-	private boolean dfs(Statement start, Statement target, Set<Statement> visited) {
-		Deque<Statement> stack = new ArrayDeque<>();
-		stack.push(start);
-
-		while (!stack.isEmpty()) {
-			Statement current = stack.pop();
-
-			if (current.equals(target))
-				return true;
-
-			if (visited.add(current)) {
-				for (Edge edge : list.getOutgoingEdges(current)) {
-					Statement next = edge.getDestination();
-					if (!visited.contains(next))
-						stack.push(next);
-				}
-			}
-		}
-
-		return false;
-	}
-
 	/**
 	 * Performs a breadth-first search (BFS) to determine if the target
 	 * statement is reachable from the start statement.
 	 *
-	 * @param start   The starting statement.
-	 * @param target  The target statement.
-	 * @param visited A set of visited statements to avoid cycles.
+	 * @param graph  the compact view of this CFG
+	 * @param start  the id of the starting statement
+	 * @param target the id of the target statement
 	 * 
 	 * @return True if the target is reachable from the start, false otherwise.
 	 */
 	@SuppressWarnings("unused")
-	private boolean bfs(Statement start, Statement target, Set<Statement> visited) {
-		Queue<Statement> queue = new LinkedList<>();
-		queue.offer(start);
-		visited.add(start);
-
-		while (!queue.isEmpty()) {
-			Statement current = queue.poll();
-			if (current.equals(target))
+	private boolean bfs(CompactGraph graph, int start, int target) {
+		int[] queue = new int[graph.size()];
+		int head = 0, tail = 0;
+		long[] visited = graph.newBitset();
+		queue[tail++] = start;
+		CompactGraph.mark(visited, start);
+
+		while (head < tail) {
+			int current = queue[head++];
+			if (current == target)
 				return true;
 
-			for (Edge edge : list.getOutgoingEdges(current)) {
-				Statement next = edge.getDestination();
-				if (visited.add(next)) { // add returns true if next was not
-											// already in visited
-					queue.offer(next);
-				}
-			}
-		}
-
-		return false;
-	}
-
-	private boolean dfsReverse(Statement start, Statement target, Set<Statement> visited) {
-		Deque<Statement> stack = new ArrayDeque<>();
-		stack.push(start);
-
-		while (!stack.isEmpty()) {
-			Statement current = stack.pop();
-
-			if (current.equals(target))
-				return true;
-
-			if (visited.add(current)) {
-				for (Edge edge : list.getIngoingEdges(current)) {
-					Statement next = edge.getSource();
-					if (!visited.contains(next))
-						stack.push(next);
-				}
+			for (int k = graph.outOffsets[current]; k < graph.outOffsets[current + 1]; k++) {
+				int next = graph.outTargets[k];
+				if (next >= 0 && CompactGraph.mark(visited, next))
+					queue[tail++] = next;
 			}
 		}
 
@@ -601,34 +1085,19 @@ public class EVMCFG extends CFG {
 	}
 
 	/**
-	 * Finds the furthest reachable SSTORE statements from a given start
-	 * statement using BFS.
+	 * Finds the SSTORE statements reachable from a given start statement,
+	 * through the reachability index of this CFG.
 	 *
 	 * @param start The starting statement.
 	 * 
 	 * @return A set of the furthest reachable SSTORE statements.
 	 */
 	public Set<Statement> getFurthestSstores(Statement start) {
-		Deque<Statement> queue = new ArrayDeque<>();
-		Set<Statement> visited = new HashSet<>();
+		ReachabilityIndex index = getReachability();
 		Set<Statement> last = new HashSet<>();
-
-		queue.add(start);
-		visited.add(start);
-
-		while (!queue.isEmpty()) {
-			Statement current = queue.poll();
-			if (current instanceof Sstore) {
-				last.add(current);
-			}
-
-			for (Edge edge : list.getOutgoingEdges(current)) {
-				Statement next = edge.getDestination();
-				if (visited.add(next)) {
-					queue.add(next);
-				}
-			}
-		}
+		for (Statement sstore : getAllSstore())
+			if (index.reachable(start, sstore))
+				last.add(sstore);
 		return last;
 	}
 
@@ -643,49 +1112,7 @@ public class EVMCFG extends CFG {
 	 *             false otherwise.
 	 */
 	public boolean reachableFromSequentially(Statement start, Statement target) {
-		String key = this.hashCode() + "" + start.hashCode() + "" + target.hashCode() + "sequentially";
-
-		if (MyCache.getInstance().existsInReachableFrom(key))
-			return MyCache.getInstance().isReachableFrom(key);
-
-		boolean result = dfsSequential(start, target, new HashSet<>());
-		MyCache.getInstance().addReachableFrom(key, result);
-		return result;
-	}
-
-	/**
-	 * Performs a depth-first search (DFS) to determine if the target statement
-	 * is sequentially reachable from the start statement. Ignores jumps.
-	 *
-	 * @param start   The starting statement.
-	 * @param target  The target statement.
-	 * @param visited A set of visited statements to avoid cycles.
-	 * 
-	 * @return True if the target is sequentially reachable from the start,
-	 *             false otherwise.
-	 */
-	private boolean dfsSequential(Statement start, Statement target, Set<Statement> visited) {
-		Deque<Statement> stack = new ArrayDeque<>();
-		stack.push(start);
-
-		while (!stack.isEmpty()) {
-			Statement current = stack.pop();
-
-			if (current.equals(target))
-				return true;
-
-			if (visited.add(current)) {
-				for (Edge edge : list.getOutgoingEdges(current)) {
-					if (edge.getSource() instanceof Jumpi || edge.getSource() instanceof Jump)
-						continue;
-					Statement next = edge.getDestination();
-					if (!visited.contains(next))
-						stack.push(next);
-				}
-			}
-		}
-
-		return false;
+		return getSequentialReachability().reachable(start, target);
 	}
 
 	/**
@@ -702,26 +1129,30 @@ public class EVMCFG extends CFG {
 	public Set<Pair<String, Statement>> findMatchingStatements(Statement start,
 			Set<Pair<String, String>> signatures) {
 		Set<Pair<String, Statement>> matchingStatements = new HashSet<>();
-		Set<Statement> visited = new HashSet<>();
-		Stack<Statement> stack = new Stack<>();
-		stack.push(start);
-
-		while (!stack.isEmpty()) {
-			Statement current = stack.pop();
-
-			if (!visited.contains(current)) {
-				visited.add(current);
-
-				if (current instanceof Push)
+		CompactGraph graph = getCompactGraph();
+		int from = graph.id(start);
+		if (from < 0)
+			return matchingStatements;
+
+		long[] visited = graph.newBitset();
+		int[] stack = new int[graph.outTargets.length + 1];
+		int top = 0;
+		stack[top++] = from;
+
+		while (top > 0) {
+			int current = stack[--top];
+
+			if (CompactGraph.mark(visited, current)) {
+				Statement statement = graph.node(current);
+				if (statement instanceof Push)
 					for (Pair<String, String> signature : signatures)
-						if (current.toString().contains(signature.getRight()))
-							matchingStatements.add(Pair.of(signature.getLeft(), current));
-
-				Collection<Edge> outgoingEdges = list.getOutgoingEdges(current);
-				for (Edge edge : outgoingEdges) {
-					Statement next = edge.getDestination();
-					if (!visited.contains(next))
-						stack.push(next);
+						if (statement.toString().contains(signature.getRight()))
+							matchingStatements.add(Pair.of(signature.getLeft(), statement));
+
+				for (int k = graph.outOffsets[current]; k < graph.outOffsets[current + 1]; k++) {
+					int next = graph.outTargets[k];
+					if (next >= 0 && !CompactGraph.isMarked(visited, next))
+						stack[top++] = next;
 				}
 			}
 		}
@@ -743,14 +1174,17 @@ public class EVMCFG extends CFG {
 	 *             otherwise
 	 */
 	public boolean reachableFromWithoutTypes(Statement start, Statement target, Set<Class<?>> avoidTypes) {
-		String key = this.hashCode() + "" + start.hashCode() + "" + target.hashCode() + "withouttypes"
+		String key = start.hashCode() + ":" + target.hashCode() + ":withouttypes"
 				+ avoidTypes.hashCode();
 
-		if (MyCache.getInstance().existsInReachableFrom(key))
-			return MyCache.getInstance().isReachableFrom(key);
+		Boolean cached = context.getReachableFrom(key);
+		if (cached != null)
+			return cached;
 
-		boolean result = dfsWithoutTypes(start, target, new HashSet<>(), avoidTypes);
-		MyCache.getInstance().addReachableFrom(key, result);
+		CompactGraph graph = getCompactGraph();
+		int from = graph.id(start);
+		boolean result = from < 0 || dfsWithoutTypes(graph, from, graph.id(target), avoidTypes);
+		context.addReachableFrom(key, result);
 		return result;
 	}
 
@@ -759,43 +1193,44 @@ public class EVMCFG extends CFG {
 	 * start statement to a target statement in a graph, avoiding any paths that
 	 * involve edges with a source node of the specified types.
 	 *
-	 * @param start      the starting statement for the DFS traversal
-	 * @param target     the target statement to reach during the DFS traversal
-	 * @param visited    a set of already visited statements to avoid cycles
-	 *                       during the traversal
+	 * @param graph      the compact view of this CFG
+	 * @param start      the id of the starting statement for the DFS traversal
+	 * @param target     the id of the target statement to reach during the
+	 *                       DFS traversal, {@code -1} if not in this CFG
 	 * @param avoidTypes the types of statements to avoid during traversal
 	 * 
 	 * @return true if a path exists from the start statement to the target
 	 *             statement without traversing through edges originating from
 	 *             nodes of the specified types, false otherwise
 	 */
-	private boolean dfsWithoutTypes(Statement start,
-			Statement target,
-			Set<Statement> visited,
+	private boolean dfsWithoutTypes(CompactGraph graph,
+			int start,
+			int target,
 			Set<Class<?>> avoidTypes) {
-		Stack<Statement> stack = new Stack<>();
+		long[] visited = graph.newBitset();
+		int[] stack = new int[graph.outTargets.length + 1];
+		int top = 0;
 		boolean noVisitedLogs = true;
-		stack.push(start);
+		stack[top++] = start;
 
-		while (!stack.isEmpty()) {
-			Statement current = stack.pop();
+		while (top > 0) {
+			int current = stack[--top];
 
-			if (current.equals(target))
+			if (current == target)
 				return noVisitedLogs;
 
-			if (!visited.contains(current)) {
-				visited.add(current);
-				Collection<Edge> outgoingEdges = list.getOutgoingEdges(current);
-
-				for (Edge edge : outgoingEdges) {
-					if (avoidTypes.stream().anyMatch(type -> type.isInstance(edge.getSource()))) {
+			if (CompactGraph.mark(visited, current)) {
+				Statement statement = graph.node(current);
+				if (avoidTypes.stream().anyMatch(type -> type.isInstance(statement))) {
+					if (graph.outOffsets[current + 1] > graph.outOffsets[current])
 						noVisitedLogs = false;
-						continue;
-					}
+					continue;
+				}
 
-					Statement next = edge.getDestination();
-					if (!visited.contains(next))
-						stack.push(next);
+				for (int k = graph.outOffsets[current]; k < graph.outOffsets[current + 1]; k++) {
+					int next = graph.outTargets[k];
+					if (next >= 0 && !CompactGraph.isMarked(visited, next))
+						stack[top++] = next;
 				}
 			}
 		}
@@ -824,28 +1259,31 @@ public class EVMCFG extends CFG {
 			Statement target,
 			Set<Class<?>> getTypes) {
 
-		Set<Statement> visited = new HashSet<>();
 		Set<Statement> matchingStatements = new HashSet<>();
-		Stack<Statement> stack = new Stack<>();
-		stack.push(start);
+		CompactGraph graph = getCompactGraph();
+		int from = graph.id(start), to = graph.id(target);
+		if (from < 0)
+			return matchingStatements;
 
-		while (!stack.isEmpty()) {
-			Statement current = stack.pop();
+		long[] visited = graph.newBitset();
+		int[] stack = new int[graph.outTargets.length + 1];
+		int top = 0;
+		stack[top++] = from;
 
-			if (current.equals(target))
-				return matchingStatements;
-
-			if (!visited.contains(current)) {
-				visited.add(current);
+		while (top > 0) {
+			int current = stack[--top];
 
-				Collection<Edge> outgoingEdges = list.getOutgoingEdges(current);
+			if (current == to)
+				return matchingStatements;
 
-				for (Edge edge : outgoingEdges) {
-					if (getTypes.stream().anyMatch(type -> type.isInstance(edge.getDestination())))
-						matchingStatements.add(edge.getDestination());
-					Statement next = edge.getDestination();
-					if (!visited.contains(next))
-						stack.push(next);
+			if (CompactGraph.mark(visited, current)) {
+				for (int k = graph.outOffsets[current]; k < graph.outOffsets[current + 1]; k++) {
+					Statement destination = graph.outEdges[k].getDestination();
+					if (getTypes.stream().anyMatch(type -> type.isInstance(destination)))
+						matchingStatements.add(destination);
+					int next = graph.outTargets[k];
+					if (next >= 0 && !CompactGraph.isMarked(visited, next))
+						stack[top++] = next;
 				}
 			}
 		}
@@ -867,39 +1305,40 @@ public class EVMCFG extends CFG {
 	 *             otherwise
 	 */
 	public boolean reachableFromWithoutStatements(Statement start, Statement target, Set<Statement> avoidStatements) {
-		String key = this.hashCode() + "" + start.hashCode() + "" + target.hashCode() + "withoutstatements"
+		String key = start.hashCode() + ":" + target.hashCode() + ":withoutstatements"
 				+ avoidStatements.hashCode();
 
-		if (MyCache.getInstance().existsInReachableFrom(key))
-			return MyCache.getInstance().isReachableFrom(key);
+		Boolean cached = context.getReachableFrom(key);
+		if (cached != null)
+			return cached;
 
-		boolean result = dfsWithoutStatements(start, target, new HashSet<>(), avoidStatements);
-		MyCache.getInstance().addReachableFrom(key, result);
+		CompactGraph graph = getCompactGraph();
+		int from = graph.id(start);
+		boolean result = from < 0 ? start.equals(target)
+				: dfsWithoutStatements(graph, from, graph.id(target), graph.bitset(avoidStatements));
+		context.addReachableFrom(key, result);
 		return result;
 	}
 
-	private boolean dfsWithoutStatements(Statement start, Statement target, Set<Statement> visited,
-			Set<Statement> avoidStatements) {
-		Stack<Statement> stack = new Stack<>();
-		stack.push(start);
+	private boolean dfsWithoutStatements(CompactGraph graph, int start, int target, long[] avoidStatements) {
+		long[] visited = graph.newBitset();
+		int[] stack = new int[graph.outTargets.length + 1];
+		int top = 0;
+		stack[top++] = start;
 
-		while (!stack.isEmpty()) {
-			Statement current = stack.pop();
+		while (top > 0) {
+			int current = stack[--top];
 
-			if (current.equals(target))
+			if (current == target)
 				return true;
 
-			if (!visited.contains(current)) {
-				visited.add(current);
-
-				Collection<Edge> outgoingEdges = list.getOutgoingEdges(current);
-
-				for (Edge edge : outgoingEdges) {
-					if (avoidStatements.contains(edge.getDestination()))
+			if (CompactGraph.mark(visited, current)) {
+				for (int k = graph.outOffsets[current]; k < graph.outOffsets[current + 1]; k++) {
+					int next = graph.outTargets[k];
+					if (next < 0 || CompactGraph.isMarked(avoidStatements, next))
 						continue;
-					Statement next = edge.getDestination();
-					if (!visited.contains(next))
-						stack.push(next);
+					if (!CompactGraph.isMarked(visited, next))
+						stack[top++] = next;
 				}
 			}
 		}
@@ -920,34 +1359,36 @@ public class EVMCFG extends CFG {
 	 * @return A set of statements that represent function exit points.
 	 */
 	public Set<Statement> getFunctionExitPoints(Statement start, boolean isVoid) {
-		Stack<Statement> stack = new Stack<>();
-		Set<Statement> visited = new HashSet<>();
 		Set<Statement> functionExitPoints = new HashSet<>();
-
-		stack.push(start);
-
-		while (!stack.isEmpty()) {
-			Statement current = stack.pop();
-
-			if (!visited.contains(current)) {
-				visited.add(current);
-
-				Collection<Edge> outgoingEdges = list.getOutgoingEdges(current);
-
-				for (Edge edge : outgoingEdges) {
-					Statement next = edge.getDestination();
-					if (!visited.contains(next)) {
-						stack.push(next);
-
-						if (next instanceof Invalid
-								|| next instanceof Revert)
-							functionExitPoints.add(next);
-
-						if (isVoid && next instanceof Stop)
-							functionExitPoints.add(next);
-
-						if (!isVoid && next instanceof Return)
-							functionExitPoints.add(next);
+		CompactGraph graph = getCompactGraph();
+		int from = graph.id(start);
+		if (from < 0)
+			return functionExitPoints;
+
+		long[] visited = graph.newBitset();
+		int[] stack = new int[graph.outTargets.length + 1];
+		int top = 0;
+		stack[top++] = from;
+
+		while (top > 0) {
+			int current = stack[--top];
+
+			if (CompactGraph.mark(visited, current)) {
+				for (int k = graph.outOffsets[current]; k < graph.outOffsets[current + 1]; k++) {
+					int next = graph.outTargets[k];
+					if (next >= 0 && !CompactGraph.isMarked(visited, next)) {
+						stack[top++] = next;
+
+						Statement statement = graph.node(next);
+						if (statement instanceof Invalid
+								|| statement instanceof Revert)
+							functionExitPoints.add(statement);
+
+						if (isVoid && statement instanceof Stop)
+							functionExitPoints.add(statement);
+
+						if (!isVoid && statement instanceof Return)
+							functionExitPoints.add(statement);
 					}
 				}
 			}
@@ -967,25 +1408,26 @@ public class EVMCFG extends CFG {
 	 *             is found.
 	 */
 	public Statement getCloserJumpdest(Statement start) {
-		Deque<Statement> queue = new ArrayDeque<>();
-		Set<Statement> visited = new HashSet<>();
-
-		queue.add(start);
-
-		while (!queue.isEmpty()) {
-			Statement current = queue.poll();
-
-			if (!visited.contains(current)) {
-				visited.add(current);
-
-				Collection<Edge> outgoingEdges = list.getOutgoingEdges(current);
-
-				for (Edge edge : outgoingEdges) {
-					Statement next = edge.getDestination();
-					if (!visited.contains(next)) {
-						queue.push(next);
-						if (next instanceof Jumpdest && edge instanceof TrueEdge)
-							return next;
+		CompactGraph graph = getCompactGraph();
+		int from = graph.id(start);
+		if (from < 0)
+			return null;
+
+		long[] visited = graph.newBitset();
+		int[] stack = new int[graph.outTargets.length + 1];
+		int top = 0;
+		stack[top++] = from;
+
+		while (top > 0) {
+			int current = stack[--top];
+
+			if (CompactGraph.mark(visited, current)) {
+				for (int k = graph.outOffsets[current]; k < graph.outOffsets[current + 1]; k++) {
+					int next = graph.outTargets[k];
+					if (next >= 0 && !CompactGraph.isMarked(visited, next)) {
+						stack[top++] = next;
+						if (graph.node(next) instanceof Jumpdest && graph.outEdges[k] instanceof TrueEdge)
+							return graph.node(next);
 					}
 				}
 			}
@@ -993,4 +1435,4 @@ public class EVMCFG extends CFG {
 
 		return null;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package it.unipr.cfg;
+
+import it.unive.lisa.analysis.AbstractState;
+import it.unive.lisa.analysis.AnalysisState;
+import it.unive.lisa.analysis.AnalyzedCFG;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.StatementStore;
+import it.unive.lisa.interprocedural.ScopeId;
+import it.unive.lisa.program.cfg.fixpoints.CFGFixpoint;
+import it.unive.lisa.program.cfg.fixpoints.CFGFixpoint.CompoundState;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The results of the ascending fixpoint of an {@link EVMCFG}, storing the post
+ * states of a few statements only:
+ * <ul>
+ * <li>the hotspots queried by the checkers and the jump solver (jumps,
+ * calls, storage accesses, SHA3 and RETURN) and their predecessors, so that
+ * the states before and after a hotspot are available right away;</li>
+ * <li>the statements ending a straight-line chain, whose states are joined
+ * by the successors;</li>
+ * <li>the starting statements and the loop heads, where widening
+ * applies.</li>
+ * </ul>
+ * The state of any other statement, that lies inside a chain, is recomputed
+ * on demand from the state of the nearest stored predecessor.
+ *
+ * @param <A> the type of {@link AbstractState} computed
+ */
+public class EVMHotspotAnalyzedCFG<A extends AbstractState<A>> extends AnalyzedCFG<A> {
+	private final CompactGraph graph;
+	private final CFGFixpoint<A> implementation;
+	private final AnalysisState<A> singleton;
+	private final Map<Statement, AnalysisState<A>> startingPoints;
+
+	/**
+	 * The statements reached by the fixpoint, and the ones whose post state
+	 * is stored or not computed, by id.
+	 */
+	private final long[] reached;
+	private final long[] stored;
+
+	/**
+	 * Builds the results of a fixpoint, retaining only the post states of the
+	 * statements described above.
+	 *
+	 * @param cfg            the analyzed CFG
+	 * @param id             the scope of the analysis
+	 * @param singleton      an instance of the computed states
+	 * @param startingPoints the entry states of the starting statements
+	 * @param results        the results of the fixpoint
+	 * @param implementation the semantics used by the fixpoint
+	 */
+	public EVMHotspotAnalyzedCFG(EVMCFG cfg, ScopeId id, AnalysisState<A> singleton,
+			Map<Statement, AnalysisState<A>> startingPoints, Map<Statement, CompoundState<A>> results,
+			CFGFixpoint<A> implementation) {
+		this(cfg, id, singleton, startingPoints, results, implementation, cfg.getCompactGraph(),
+				select(cfg.getCompactGraph(), cfg.getDepthFirstOrder(), startingPoints, results));
+	}
+
+	private EVMHotspotAnalyzedCFG(EVMCFG cfg, ScopeId id, AnalysisState<A> singleton,
+			Map<Statement, AnalysisState<A>> startingPoints, Map<Statement, CompoundState<A>> results,
+			CFGFixpoint<A> implementation, CompactGraph graph, long[] stored) {
+		super(cfg, id, singleton, startingPoints, retain(graph, results, stored));
+		this.graph = graph;
+		this.implementation = implementation;
+		this.singleton = singleton;
+		this.startingPoints = startingPoints;
+		this.reached = graph.bitset(results.keySet());
+		this.stored = stored;
+	}
+
+	/**
+	 * Yields whether the checkers or the jump solver query the states around
+	 * the given statement.
+	 *
+	 * @param st the statement
+	 *
+	 * @return {@code true} if {@code st} is a hotspot, {@code false} otherwise
+	 */
+	public static boolean isHotspot(Statement st) {
+		return st instanceof Jump || st instanceof Jumpi
+				|| st instanceof Sstore || st instanceof Sload || st instanceof Sha3 || st instanceof Return
+				|| st instanceof Call || st instanceof Callcode || st instanceof Delegatecall
+				|| st instanceof Staticcall;
+	}
+
+	private static <A extends AbstractState<A>> long[] select(CompactGraph graph, DepthFirstOrder order,
+			Map<Statement, AnalysisState<A>> startingPoints, Map<Statement, CompoundState<A>> results) {
+		long[] stored = graph.newBitset();
+		for (int v = 0; v < graph.size(); v++) {
+			Statement node = graph.node(v);
+			if (!results.containsKey(node) || isHotspot(node) || startingPoints.containsKey(node)
+					|| order.isLoopHead(v) || graph.outOffsets[v + 1] - graph.outOffsets[v] != 1) {
+				CompactGraph.mark(stored, v);
+				continue;
+			}
+
+			// the only successor must be able to recompute its entry state
+			// from this statement alone
+			int w = graph.outTargets[graph.outOffsets[v]];
+			if (w < 0 || graph.inOffsets[w + 1] - graph.inOffsets[w] != 1 || isHotspot(graph.node(w))
+					|| startingPoints.containsKey(graph.node(w)) || order.isLoopHead(w))
+				CompactGraph.mark(stored, v);
+		}
+		return stored;
+	}
+
+	private static <A extends AbstractState<A>> Map<Statement, AnalysisState<A>> retain(CompactGraph graph,
+			Map<Statement, CompoundState<A>> results, long[] stored) {
+		Map<Statement, AnalysisState<A>> retained = new HashMap<>();
+		for (Map.Entry<Statement, CompoundState<A>> e : results.entrySet()) {
+			int id = graph.id(e.getKey());
+			if (id < 0 || CompactGraph.isMarked(stored, id))
+				retained.put(e.getKey(), e.getValue().postState);
+		}
+		return retained;
+	}
+
+	@Override
+	public AnalysisState<A> getAnalysisStateBefore(Statement st) throws SemanticException {
+		int v = graph.id(st);
+		if (v < 0)
+			return super.getAnalysisStateBefore(st);
+
+		try {
+			return entryState(v).postState;
+		} catch (Exception e) {
+			throw new SemanticException("Unable to recompute the state before " + st, e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc} The state of a statement that is not stored is recomputed
+	 * from the nearest stored predecessor. Since the hotspots are stored, the
+	 * replayed statements never access the storage or add edges to the CFG.
+	 *
+	 * @throws IllegalStateException if the state cannot be recomputed
+	 */
+	@Override
+	public AnalysisState<A> getAnalysisStateAfter(Statement st) {
+		int v = graph.id(st);
+		if (v < 0 || CompactGraph.isMarked(stored, v))
+			return super.getAnalysisStateAfter(st);
+
+		try {
+			// walk back to the head of the chain, whose entry state is
+			// computed from stored states only, then forth to the statement
+			int head = v, length = 1;
+			while (graph.inOffsets[head + 1] - graph.inOffsets[head] == 1
+					&& graph.inSources[graph.inOffsets[head]] >= 0
+					&& !CompactGraph.isMarked(stored, graph.inSources[graph.inOffsets[head]])) {
+				head = graph.inSources[graph.inOffsets[head]];
+				length++;
+			}
+
+			int[] chain = new int[length];
+			chain[length - 1] = v;
+			for (int i = length - 1; i > 0; i--)
+				chain[i - 1] = graph.inSources[graph.inOffsets[chain[i]]];
+
+			CompoundState<A> state = implementation.semantics(graph.node(head), entryState(head));
+			for (int i = 1; i < length; i++)
+				state = implementation.semantics(graph.node(chain[i]),
+						implementation.traverse(graph.inEdges[graph.inOffsets[chain[i]]], state));
+			return state.postState;
+		} catch (Exception e) {
+			throw new IllegalStateException("Unable to recompute the state after " + st, e);
+		}
+	}
+
+	/**
+	 * Computes the entry state of a statement, joining its starting state, if
+	 * any, with the post states of its predecessors through the edges.
+	 */
+	private CompoundState<A> entryState(int v) throws Exception {
+		Statement node = graph.node(v);
+		StatementStore<A> bot = new StatementStore<>(singleton.bottom());
+		CompoundState<A> entry = startingPoints.containsKey(node)
+				? CompoundState.of(startingPoints.get(node), bot)
+				: null;
+		for (int k = graph.inOffsets[v]; k < graph.inOffsets[v + 1]; k++) {
+			if (graph.inSources[k] < 0 || !CompactGraph.isMarked(reached, graph.inSources[k]))
+				continue;
+			AnalysisState<A> post = getAnalysisStateAfter(graph.node(graph.inSources[k]));
+			CompoundState<A> state = implementation.traverse(graph.inEdges[k], CompoundState.of(post, bot));
+			entry = entry == null ? state : implementation.union(node, entry, state);
+		}
+		return entry == null ? CompoundState.of(singleton.bottom(), bot) : entry;
+	}
+}
@@ -0,0 +1,296 @@
+package it.unipr.cfg;
+
+import it.unive.lisa.analysis.AbstractState;
+import it.unive.lisa.program.cfg.fixpoints.CFGFixpoint;
+import it.unive.lisa.program.cfg.fixpoints.CFGFixpoint.CompoundState;
+import it.unive.lisa.program.cfg.statement.Statement;
+import it.unive.lisa.util.datastructures.graph.algorithms.FixpointException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Ascending fixpoint of an {@link EVMCFG} solving independent regions of the
+ * CFG concurrently. The statements are partitioned into the dispatcher (the
+ * ones not reachable from any function), one region per function (the ones
+ * reachable from its entry point only) and the code shared by several
+ * functions. The regions mutually reachable are merged, and the resulting
+ * DAG is solved by levels: the regions of a level are independent, hence
+ * they are solved concurrently as {@link ForkJoinTask}s, each one starting
+ * from the final states of the regions of the previous levels.
+ * <p>
+ * The states are kept in a single concurrent map shared by all the regions.
+ * Each statement is written only by the task of its region, while the states
+ * flowing through the edges between regions are read once the source region
+ * has been solved. Since the widening of the EVM domains is their least upper
+ * bound, the result is the same least fixpoint computed by the sequential
+ * one, regardless of the order of the regions. This does not hold once an
+ * {@link AnalysisBudget} is exceeded: the statements widened to top depend on
+ * the order in which the concurrent tasks have consumed the budget.
+ *
+ * @param <A> the type of {@link AbstractState} computed
+ */
+public class EVMRegionFixpoint<A extends AbstractState<A>> {
+
+	private static final int DISPATCHER = 0;
+	private static final int SHARED = 1;
+
+	private final CompactGraph graph;
+	private final CFGFixpoint<A> implementation;
+
+	/**
+	 * The component of each statement, by id, the statements of each
+	 * component, and the components of each level, in topological order.
+	 */
+	private final int[] component;
+	private final int[][] nodesOf;
+	private final int[][] levels;
+
+	/**
+	 * Builds the fixpoint over the regions of the given graph.
+	 *
+	 * @param graph           the compact view of the CFG
+	 * @param functionEntries the entry points of the functions of the
+	 *                            contract
+	 * @param implementation  the semantics, join and widening to use
+	 */
+	EVMRegionFixpoint(CompactGraph graph, Collection<Statement> functionEntries, CFGFixpoint<A> implementation) {
+		this.graph = graph;
+		this.implementation = implementation;
+		int n = graph.size();
+
+		// label each statement with the function reaching it, or as shared
+		// if more than one does: each label changes at most twice
+		int[] region = new int[n];
+		Arrays.fill(region, -1);
+		boolean[] entry = new boolean[n];
+		int[] queue = new int[2 * n + 1];
+		int head = 0, tail = 0, regions = SHARED + 1;
+		for (Statement st : functionEntries) {
+			int id = graph.id(st);
+			if (id >= 0 && !entry[id]) {
+				entry[id] = true;
+				region[id] = regions++;
+				queue[tail++] = id;
+			}
+		}
+
+		while (head < tail) {
+			int v = queue[head++];
+			for (int k = graph.outOffsets[v]; k < graph.outOffsets[v + 1]; k++) {
+				int w = graph.outTargets[k];
+				if (w < 0 || entry[w] || region[w] == region[v] || region[w] == SHARED)
+					continue;
+				region[w] = region[w] < 0 ? region[v] : SHARED;
+				queue[tail++] = w;
+			}
+		}
+
+		for (int v = 0; v < n; v++)
+			if (region[v] < 0)
+				region[v] = DISPATCHER;
+
+		// graph of the regions, condensed into its strongly connected
+		// components
+		boolean[][] linked = new boolean[regions][regions];
+		int[] offsets = new int[regions + 1];
+		for (int v = 0; v < n; v++)
+			for (int k = graph.outOffsets[v]; k < graph.outOffsets[v + 1]; k++) {
+				int w = graph.outTargets[k];
+				if (w >= 0 && region[w] != region[v] && !linked[region[v]][region[w]]) {
+					linked[region[v]][region[w]] = true;
+					offsets[region[v] + 1]++;
+				}
+			}
+		for (int r = 0; r < regions; r++)
+			offsets[r + 1] += offsets[r];
+		int[] succs = new int[offsets[regions]];
+		for (int r = 0, k = 0; r < regions; r++)
+			for (int s = 0; s < regions; s++)
+				if (linked[r][s])
+					succs[k++] = s;
+
+		int[] componentOf = new int[regions];
+		int components = ReachabilityIndex.tarjan(regions, offsets, succs, componentOf);
+
+		// Tarjan's algorithm yields the components in reverse topological
+		// order: the level of a component is its longest path from a root
+		int[] level = new int[components];
+		int depth = 0;
+		for (int c = components - 1; c >= 0; c--)
+			for (int r = 0; r < regions; r++)
+				if (componentOf[r] == c)
+					for (int k = offsets[r]; k < offsets[r + 1]; k++)
+						if (componentOf[succs[k]] != c) {
+							level[componentOf[succs[k]]] = Math.max(level[componentOf[succs[k]]], level[c] + 1);
+							depth = Math.max(depth, level[c] + 1);
+						}
+
+		component = new int[n];
+		int[] sizes = new int[components];
+		for (int v = 0; v < n; v++)
+			sizes[component[v] = componentOf[region[v]]]++;
+		nodesOf = new int[components][];
+		for (int c = 0; c < components; c++)
+			nodesOf[c] = new int[sizes[c]];
+		Arrays.fill(sizes, 0);
+		for (int v = 0; v < n; v++)
+			nodesOf[component[v]][sizes[component[v]]++] = v;
+
+		int[] width = new int[depth + 1];
+		for (int c = 0; c < components; c++)
+			width[level[c]]++;
+		levels = new int[depth + 1][];
+		for (int l = 0; l <= depth; l++)
+			levels[l] = new int[width[l]];
+		Arrays.fill(width, 0);
+		for (int c = components - 1; c >= 0; c--)
+			levels[level[c]][width[level[c]]++] = c;
+	}
+
+	/**
+	 * Yields the number of independent components the CFG has been split
+	 * into.
+	 *
+	 * @return the number of components
+	 */
+	int getComponentCount() {
+		return nodesOf.length;
+	}
+
+	/**
+	 * Runs the fixpoint.
+	 *
+	 * @param startingPoints the entry states of the starting statements
+	 * @param seeds          the statements to recompute when restarting from
+	 *                           {@code previous}
+	 * @param previous       the results to restart from, {@code null} to
+	 *                           start from scratch
+	 *
+	 * @return the post state of each reached statement
+	 *
+	 * @throws FixpointException if an error occurs while computing the
+	 *                               fixpoint
+	 */
+	Map<Statement, CompoundState<A>> fixpoint(Map<Statement, CompoundState<A>> startingPoints,
+			Collection<Statement> seeds, Map<Statement, CompoundState<A>> previous) throws FixpointException {
+		Map<Statement, CompoundState<A>> results = previous == null
+				? new ConcurrentHashMap<>(graph.size())
+				: new ConcurrentHashMap<>(previous);
+
+		@SuppressWarnings("unchecked")
+		CompoundState<A>[] start = new CompoundState[graph.size()];
+		AtomicIntegerArray dirty = new AtomicIntegerArray(graph.size());
+		for (Map.Entry<Statement, CompoundState<A>> e : startingPoints.entrySet()) {
+			int id = graph.id(e.getKey());
+			if (id >= 0) {
+				start[id] = e.getValue();
+				dirty.set(id, 1);
+			}
+		}
+		for (Statement st : seeds) {
+			int id = graph.id(st);
+			if (id >= 0)
+				dirty.set(id, 1);
+		}
+
+		for (int[] level : levels) {
+			if (level.length == 1) {
+				solve(level[0], start, dirty, results);
+				continue;
+			}
+
+			List<ForkJoinTask<Void>> tasks = new ArrayList<>(level.length);
+			for (int c : level)
+				tasks.add(ForkJoinTask.adapt(() -> {
+					solve(c, start, dirty, results);
+					return null;
+				}));
+
+			try {
+				ForkJoinTask.invokeAll(tasks);
+			} catch (RuntimeException e) {
+				for (Throwable cause = e; cause != null; cause = cause.getCause())
+					if (cause instanceof FixpointException)
+						throw (FixpointException) cause;
+				throw new FixpointException("Exception while computing the fixpoint of a region", e);
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Solves a component, starting from its statements marked as dirty, i.e.,
+	 * the starting ones, the seeds, and the ones whose predecessors in other
+	 * components have changed.
+	 */
+	private void solve(int c, CompoundState<A>[] start, AtomicIntegerArray dirty,
+			Map<Statement, CompoundState<A>> results) throws FixpointException {
+		int[] nodes = nodesOf[c];
+		int[] queue = new int[Math.max(nodes.length, 1)];
+		boolean[] queued = new boolean[nodes.length];
+		int head = 0, count = 0;
+		for (int i = 0; i < nodes.length; i++)
+			if (dirty.get(nodes[i]) != 0) {
+				queued[i] = true;
+				queue[count++] = i;
+			}
+
+		while (count > 0) {
+			int i = queue[head];
+			head = (head + 1) % queue.length;
+			count--;
+			queued[i] = false;
+
+			int v = nodes[i];
+			Statement node = graph.node(v);
+			try {
+				CompoundState<A> entry = start[v];
+				for (int k = graph.inOffsets[v]; k < graph.inOffsets[v + 1]; k++) {
+					if (graph.inSources[k] < 0)
+						continue;
+					CompoundState<A> pred = results.get(graph.node(graph.inSources[k]));
+					if (pred == null)
+						continue;
+					CompoundState<A> state = implementation.traverse(graph.inEdges[k], pred);
+					entry = entry == null ? state : implementation.union(node, entry, state);
+				}
+
+				if (entry == null)
+					continue;
+
+				CompoundState<A> approx = implementation.semantics(node, entry);
+				CompoundState<A> old = results.get(node);
+				if (old != null) {
+					approx = implementation.operation(node, approx, old);
+					if (implementation.equality(node, approx, old))
+						continue;
+				}
+				results.put(node, approx);
+			} catch (Exception e) {
+				throw new FixpointException("Exception while computing the fixpoint at " + node, e);
+			}
+
+			for (int k = graph.outOffsets[v]; k < graph.outOffsets[v + 1]; k++) {
+				int w = graph.outTargets[k];
+				if (w < 0)
+					continue;
+				if (component[w] != c)
+					dirty.set(w, 1);
+				else {
+					int j = Arrays.binarySearch(nodes, w);
+					if (!queued[j]) {
+						queued[j] = true;
+						queue[(head + count++) % queue.length] = j;
+					}
+				}
+			}
+		}
+	}
+}
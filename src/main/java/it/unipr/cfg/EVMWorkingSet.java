@@ -0,0 +1,119 @@
+package it.unipr.cfg;
+
+import it.unive.lisa.program.cfg.statement.Statement;
+import it.unive.lisa.util.collections.workset.WorkingSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Working set of the fixpoint of an {@link EVMCFG}, yielding its statements
+ * in reverse post-order from the entrypoints (see {@link DepthFirstOrder}),
+ * so that a statement is evaluated after its predecessors (but the ones
+ * reaching it through a back edge) have been. Each statement is held at most
+ * once. When the semantics of the jumps make the order stale, the order is
+ * recomputed before the next statement is yielded.
+ */
+public class EVMWorkingSet implements WorkingSet<Statement> {
+
+	private final EVMCFG cfg;
+	private DepthFirstOrder order;
+
+	/**
+	 * Binary min-heap of ids, by rank, and the ids it holds.
+	 */
+	private int[] heap;
+	private int size;
+	private final long[] queued;
+
+	/**
+	 * Builds an empty working set over the statements of the given CFG.
+	 *
+	 * @param cfg the CFG
+	 */
+	EVMWorkingSet(EVMCFG cfg) {
+		this.cfg = cfg;
+		this.order = cfg.getDepthFirstOrder();
+		this.heap = new int[16];
+		this.queued = order.graph().newBitset();
+	}
+
+	@Override
+	public void push(Statement e) {
+		int id = order.graph().id(e);
+		if (id < 0 || !CompactGraph.mark(queued, id))
+			return;
+		if (size == heap.length)
+			heap = Arrays.copyOf(heap, size * 2);
+		heap[size] = id;
+		up(size++);
+	}
+
+	@Override
+	public Statement pop() {
+		DepthFirstOrder current = cfg.getDepthFirstOrder();
+		if (current != order) {
+			order = current;
+			for (int i = size / 2 - 1; i >= 0; i--)
+				down(i);
+		}
+
+		int id = heap[0];
+		heap[0] = heap[--size];
+		down(0);
+		queued[id >>> 6] &= ~(1L << id);
+		return order.graph().node(id);
+	}
+
+	@Override
+	public Statement peek() {
+		return order.graph().node(heap[0]);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public Collection<Statement> getContents() {
+		List<Statement> contents = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+			contents.add(order.graph().node(heap[i]));
+		return contents;
+	}
+
+	private void up(int i) {
+		int id = heap[i];
+		while (i > 0) {
+			int parent = (i - 1) / 2;
+			if (order.rank(heap[parent]) <= order.rank(id))
+				break;
+			heap[i] = heap[parent];
+			i = parent;
+		}
+		heap[i] = id;
+	}
+
+	private void down(int i) {
+		if (size == 0)
+			return;
+		int id = heap[i];
+		while (2 * i + 1 < size) {
+			int child = 2 * i + 1;
+			if (child + 1 < size && order.rank(heap[child + 1]) < order.rank(heap[child]))
+				child++;
+			if (order.rank(heap[child]) >= order.rank(id))
+				break;
+			heap[i] = heap[child];
+			i = child;
+		}
+		heap[i] = id;
+	}
+}
@@ -0,0 +1,266 @@
+package it.unipr.cfg;
+
+import it.unive.lisa.program.cfg.edge.Edge;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Reachability index of a CFG, answering whether a statement is reachable
+ * from another one without traversing the graph. The index is built in three
+ * steps:
+ * <ol>
+ * <li>the straight-line chains of statements (each one with a single
+ * successor, that has a single predecessor) are collapsed into single nodes,
+ * hence the index is roughly as large as the basic blocks of the CFG;</li>
+ * <li>the graph of the chains is condensed into its strongly connected
+ * components, with Tarjan's algorithm;</li>
+ * <li>the transitive closure of the resulting DAG is stored as one bitset per
+ * component, computed the first time a query starts from that component.</li>
+ * </ol>
+ * After that, a query costs a few array lookups. The index is immutable: it
+ * must be rebuilt, together with its {@link CompactGraph}, if the CFG
+ * changes.
+ */
+final class ReachabilityIndex {
+
+	private final CompactGraph graph;
+
+	/**
+	 * The chain of each statement, and its position in the chain.
+	 */
+	private final int[] chain;
+	private final int[] position;
+
+	/**
+	 * The strongly connected component of each chain, whether each component
+	 * is cyclic, and the successors of each component in CSR form.
+	 */
+	private final int[] component;
+	private final boolean[] cyclic;
+	private final int[] succOffsets;
+	private final int[] succs;
+
+	/**
+	 * The components reachable from each component, {@code null} until
+	 * needed.
+	 */
+	private final AtomicReferenceArray<long[]> closure;
+
+	/**
+	 * Builds the index of the given graph, considering only the edges
+	 * satisfying the given filter.
+	 *
+	 * @param graph  the graph
+	 * @param filter the edges to consider
+	 */
+	ReachabilityIndex(CompactGraph graph, Predicate<Edge> filter) {
+		this.graph = graph;
+		int n = graph.size();
+
+		// successors of the statements through the edges to consider
+		int[] inDegree = new int[n];
+		int[][] out = new int[n][];
+		for (int i = 0; i < n; i++) {
+			int[] targets = new int[graph.outOffsets[i + 1] - graph.outOffsets[i]];
+			int k = 0;
+			for (int e = graph.outOffsets[i]; e < graph.outOffsets[i + 1]; e++) {
+				int t = graph.outTargets[e];
+				if (t >= 0 && filter.test(graph.outEdges[e])) {
+					targets[k++] = t;
+					inDegree[t]++;
+				}
+			}
+			out[i] = k == targets.length ? targets : Arrays.copyOf(targets, k);
+		}
+
+		// chains of statements: the only successor of a statement continues
+		// its chain if the statement is its only predecessor
+		int[] next = new int[n];
+		boolean[] continuation = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			next[i] = out[i].length == 1 && out[i][0] != i && inDegree[out[i][0]] == 1 ? out[i][0] : -1;
+			if (next[i] >= 0)
+				continuation[next[i]] = true;
+		}
+
+		chain = new int[n];
+		position = new int[n];
+		Arrays.fill(chain, -1);
+		int[] tails = new int[n];
+		int chains = 0;
+		// heads first, then the rings of chained statements, which have none
+		for (int pass = 0; pass < 2; pass++)
+			for (int i = 0; i < n; i++) {
+				if (chain[i] >= 0 || (pass == 0 && continuation[i]))
+					continue;
+				int v = i, pos = 0, last = i;
+				while (v >= 0 && chain[v] < 0) {
+					chain[v] = chains;
+					position[v] = pos++;
+					last = v;
+					v = next[v];
+				}
+				tails[chains++] = last;
+			}
+
+		// graph of the chains: only the tail of a chain leaves it
+		int[] chainOffsets = new int[chains + 1];
+		for (int c = 0; c < chains; c++)
+			chainOffsets[c + 1] = chainOffsets[c] + out[tails[c]].length;
+		int[] chainSuccs = new int[chainOffsets[chains]];
+		for (int c = 0, k = 0; c < chains; c++)
+			for (int t : out[tails[c]])
+				chainSuccs[k++] = chain[t];
+
+		component = new int[chains];
+		int components = tarjan(chains, chainOffsets, chainSuccs, component);
+
+		cyclic = new boolean[components];
+		int[] size = new int[components];
+		for (int c = 0; c < chains; c++)
+			size[component[c]]++;
+		for (int c = 0; c < chains; c++)
+			for (int k = chainOffsets[c]; k < chainOffsets[c + 1]; k++)
+				if (component[chainSuccs[k]] == component[c] && (size[component[c]] > 1 || chainSuccs[k] == c))
+					cyclic[component[c]] = true;
+
+		// graph of the components
+		succOffsets = new int[components + 1];
+		int[] degree = new int[components];
+		for (int c = 0; c < chains; c++)
+			for (int k = chainOffsets[c]; k < chainOffsets[c + 1]; k++)
+				if (component[chainSuccs[k]] != component[c])
+					degree[component[c]]++;
+		for (int s = 0; s < components; s++)
+			succOffsets[s + 1] = succOffsets[s] + degree[s];
+		succs = new int[succOffsets[components]];
+		int[] fill = Arrays.copyOf(succOffsets, components);
+		for (int c = 0; c < chains; c++)
+			for (int k = chainOffsets[c]; k < chainOffsets[c + 1]; k++)
+				if (component[chainSuccs[k]] != component[c])
+					succs[fill[component[c]]++] = component[chainSuccs[k]];
+
+		closure = new AtomicReferenceArray<>(components);
+	}
+
+	/**
+	 * Yields whether {@code target} is reachable from {@code start}. A
+	 * statement is always reachable from itself.
+	 *
+	 * @param start  the starting statement
+	 * @param target the target statement
+	 *
+	 * @return {@code true} if {@code target} is reachable from {@code start},
+	 *             {@code false} otherwise
+	 */
+	boolean reachable(Statement start, Statement target) {
+		if (start.equals(target))
+			return true;
+
+		int s = graph.id(start), t = graph.id(target);
+		if (s < 0 || t < 0)
+			return false;
+
+		// inside a chain, the statements after the start are reachable, the
+		// ones before only through a cycle
+		if (chain[s] == chain[t] && position[s] < position[t])
+			return true;
+
+		int from = component[chain[s]], to = component[chain[t]];
+		if (from == to)
+			return cyclic[from];
+
+		return CompactGraph.isMarked(row(from), to);
+	}
+
+	private long[] row(int from) {
+		long[] row = closure.get(from);
+		if (row != null)
+			return row;
+
+		row = new long[(closure.length() + 63) >>> 6];
+		int[] stack = new int[closure.length()];
+		int top = 0;
+		stack[top++] = from;
+		CompactGraph.mark(row, from);
+		while (top > 0) {
+			int c = stack[--top];
+			for (int k = succOffsets[c]; k < succOffsets[c + 1]; k++)
+				if (CompactGraph.mark(row, succs[k]))
+					stack[top++] = succs[k];
+		}
+
+		closure.compareAndSet(from, null, row);
+		return closure.get(from);
+	}
+
+	/**
+	 * Computes the strongly connected components of a graph in CSR form with
+	 * an iterative version of Tarjan's algorithm.
+	 *
+	 * @param n         the number of nodes
+	 * @param offsets   the offsets of the successors of each node
+	 * @param succs     the successors of the nodes
+	 * @param component filled with the component of each node
+	 *
+	 * @return the number of components
+	 */
+	static int tarjan(int n, int[] offsets, int[] succs, int[] component) {
+		int[] index = new int[n];
+		int[] low = new int[n];
+		int[] edge = new int[n];
+		int[] callStack = new int[n];
+		int[] sccStack = new int[n];
+		boolean[] onStack = new boolean[n];
+		Arrays.fill(index, -1);
+
+		int counter = 0, components = 0, sccTop = 0;
+		for (int root = 0; root < n; root++) {
+			if (index[root] >= 0)
+				continue;
+
+			int callTop = 0;
+			callStack[callTop++] = root;
+			index[root] = low[root] = counter++;
+			edge[root] = offsets[root];
+			sccStack[sccTop++] = root;
+			onStack[root] = true;
+
+			while (callTop > 0) {
+				int v = callStack[callTop - 1];
+				if (edge[v] < offsets[v + 1]) {
+					int w = succs[edge[v]++];
+					if (index[w] < 0) {
+						index[w] = low[w] = counter++;
+						edge[w] = offsets[w];
+						sccStack[sccTop++] = w;
+						onStack[w] = true;
+						callStack[callTop++] = w;
+					} else if (onStack[w])
+						low[v] = Math.min(low[v], index[w]);
+					continue;
+				}
+
+				callTop--;
+				if (callTop > 0) {
+					int parent = callStack[callTop - 1];
+					low[parent] = Math.min(low[parent], low[v]);
+				}
+
+				if (low[v] == index[v]) {
+					int w;
+					do {
+						w = sccStack[--sccTop];
+						onStack[w] = false;
+						component[w] = components;
+					} while (w != v);
+					components++;
+				}
+			}
+		}
+
+		return components;
+	}
+}
@@ -5,10 +5,6 @@ import it.unipr.analysis.AbstractStackSet;
 import it.unipr.analysis.EVMAbstractState;
 import it.unipr.analysis.StackElement;
 import it.unipr.cfg.EVMCFG;
-import it.unipr.frontend.EVMLiSAFeatures;
-import it.unipr.frontend.EVMLiSATypeSystem;
-import it.unive.lisa.AnalysisException;
-import it.unive.lisa.LiSA;
 import it.unive.lisa.analysis.AnalysisState;
 import it.unive.lisa.analysis.AnalyzedCFG;
 import it.unive.lisa.analysis.SemanticException;
@@ -18,10 +14,11 @@ import it.unive.lisa.analysis.nonrelational.value.TypeEnvironment;
 import it.unive.lisa.analysis.types.InferredTypes;
 import it.unive.lisa.checks.semantic.CheckToolWithAnalysisResults;
 import it.unive.lisa.checks.semantic.SemanticCheck;
-import it.unive.lisa.conf.LiSAConfiguration;
-import it.unive.lisa.program.Program;
 import it.unive.lisa.program.cfg.CFG;
 import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -43,11 +40,6 @@ public class JumpSolver implements
 	 */
 	private EVMCFG cfgToAnalyze;
 
-	/**
-	 * Yields if the fixpoint has been reached.
-	 */
-	private boolean fixpoint = true;
-
 	/**
 	 * The set of unreachable jumps (i.e., their state is bottom)
 	 */
@@ -66,6 +58,12 @@ public class JumpSolver implements
 	 */
 	private Map<Statement, Set<StackElement>> topStackValuesPerJump = new HashMap<>();
 
+	/**
+	 * The results of the last analysis of the CFG.
+	 */
+	private Collection<AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+			TypeEnvironment<InferredTypes>>>> analysisResults = Collections.emptyList();
+
 	/**
 	 * Yields the computed CFG.
 	 * 
@@ -105,6 +103,17 @@ public class JumpSolver implements
 		return unsoundJumps;
 	}
 
+	/**
+	 * Yields the results of the last analysis of the computed CFG, so that the
+	 * checkers based on the same abstract state do not need to recompute them.
+	 * 
+	 * @return the results of the last analysis
+	 */
+	public Collection<AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+			TypeEnvironment<InferredTypes>>>> getAnalysisResults() {
+		return analysisResults;
+	}
+
 	/**
 	 * The set of top stack values per jump. This only exists for jumps that are
 	 * not in {@link #getMaybeUnsoundJumps()} and
@@ -125,8 +134,10 @@ public class JumpSolver implements
 	}
 
 	/**
-	 * {@inheritDoc} Checks if analysis has reached fix-point. If not, it runs
-	 * another LiSA analysis to solve the remaining jumps and reach fix-point.
+	 * {@inheritDoc} Classifies the jumps of the analyzed CFG using the results
+	 * of the analysis that has just been run. The edges towards the solved
+	 * destinations are added during the analysis itself, hence no further run
+	 * is needed here.
 	 * 
 	 * @param tool the semantic check tool that is running this check.
 	 */
@@ -135,72 +146,55 @@ public class JumpSolver implements
 			CheckToolWithAnalysisResults<
 					SimpleAbstractState<MonolithicHeap, EVMAbstractState, TypeEnvironment<InferredTypes>>> tool) {
 
-		if (fixpoint) {
-			this.unreachableJumps = new HashSet<>();
-			this.maybeUnsoundJumps = new HashSet<>();
-			this.unsoundJumps = new HashSet<>();
+		this.unreachableJumps = new HashSet<>();
+		this.maybeUnsoundJumps = new HashSet<>();
+		this.unsoundJumps = new HashSet<>();
+		this.analysisResults = new ArrayList<>(tool.getResultOf(this.cfgToAnalyze));
 
-			for (Statement node : this.cfgToAnalyze.getAllJumps()) {
-				if (cfgToAnalyze.getAllPushedJumps().contains(node))
-					continue;
+		for (Statement node : this.cfgToAnalyze.getAllJumps()) {
+			if (cfgToAnalyze.getAllPushedJumps().contains(node))
+				continue;
+
+			for (AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+					TypeEnvironment<InferredTypes>>> result : this.analysisResults) {
+				AnalysisState<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+						TypeEnvironment<InferredTypes>>> analysisResult = null;
 
-				for (AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
-						TypeEnvironment<InferredTypes>>> result : tool.getResultOf(this.cfgToAnalyze)) {
-					AnalysisState<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
-							TypeEnvironment<InferredTypes>>> analysisResult = null;
-
-					try {
-						analysisResult = result.getAnalysisStateBefore(node);
-					} catch (SemanticException e1) {
-						log.error("(JumpSolver): {}", e1.getMessage());
-					}
-
-					// Retrieve the symbolic stack from the analysis result
-					EVMAbstractState valueState = analysisResult.getState().getValueState();
-
-					if (valueState.isBottom()) {
-						// If the value state is bottom, the jump is definitely
-						// unreachable
-						this.unreachableJumps.add(node);
-						continue;
-					}
-
-					if (valueState.isTop()) {
-						// If the value state is top, the jump is maybe unsound
-						// (i.e., we should re-run the analysis with different
-						// parameter)
-						this.maybeUnsoundJumps.add(node);
-						continue;
-					}
-
-					Set<StackElement> stacksTop = new HashSet<>();
-					AbstractStackSet stacks = valueState.getStacks();
-					for (AbstractStack stack : stacks) {
-						StackElement topStack = stack.getTop();
-						stacksTop.add(topStack);
-						if (topStack.isTop())
-							unsoundJumps.add(node);
-					}
-
-					topStackValuesPerJump.put(node, stacksTop);
+				try {
+					analysisResult = result.getAnalysisStateBefore(node);
+				} catch (SemanticException e1) {
+					log.error("(JumpSolver): {}", e1.getMessage());
 				}
-			}
 
-			return;
-		}
+				// Retrieve the symbolic stack from the analysis result
+				EVMAbstractState valueState = analysisResult.getState().getValueState();
 
-		this.fixpoint = true;
+				if (valueState.isBottom()) {
+					// If the value state is bottom, the jump is definitely
+					// unreachable
+					this.unreachableJumps.add(node);
+					continue;
+				}
 
-		LiSAConfiguration conf = tool.getConfiguration();
-		LiSA lisa = new LiSA(conf);
+				if (valueState.isTop()) {
+					// If the value state is top, the jump is maybe unsound
+					// (i.e., we should re-run the analysis with different
+					// parameter)
+					this.maybeUnsoundJumps.add(node);
+					continue;
+				}
 
-		Program program = new Program(new EVMLiSAFeatures(), new EVMLiSATypeSystem());
-		program.addCodeMember(cfgToAnalyze);
+				Set<StackElement> stacksTop = new HashSet<>();
+				AbstractStackSet stacks = valueState.getStacks();
+				for (AbstractStack stack : stacks) {
+					StackElement topStack = stack.getTop();
+					stacksTop.add(topStack);
+					if (topStack.isTop())
+						unsoundJumps.add(node);
+				}
 
-		try {
-			lisa.run(program);
-		} catch (AnalysisException e) {
-			log.error("(JumpSolver): {}", e.getMessage());
+				topStackValuesPerJump.put(node, stacksTop);
+			}
 		}
 	}
 
@@ -3,7 +3,6 @@ package it.unipr.checker;
 import it.unipr.analysis.taint.TaintAbstractDomain;
 import it.unipr.analysis.taint.TaintElement;
 import it.unipr.cfg.*;
-import it.unipr.utils.MyCache;
 import it.unive.lisa.analysis.AnalysisState;
 import it.unive.lisa.analysis.AnalyzedCFG;
 import it.unive.lisa.analysis.SemanticException;
@@ -45,8 +44,7 @@ public class RandomnessDependencyChecker implements
 
 		EVMCFG cfg = ((EVMCFG) graph);
 
-		if (node instanceof Jump || node instanceof Jumpi || node instanceof Sstore
-				|| node instanceof Sha3 || node instanceof Return)
+		if (isSink(node))
 			for (AnalyzedCFG<SimpleAbstractState<MonolithicHeap, TaintAbstractDomain,
 					TypeEnvironment<InferredTypes>>> result : tool.getResultOf(cfg)) {
 				AnalysisState<SimpleAbstractState<MonolithicHeap, TaintAbstractDomain,
@@ -59,40 +57,66 @@ public class RandomnessDependencyChecker implements
 				}
 
 				// Retrieve the symbolic stack from the analysis result
-				TaintAbstractDomain taintedStack = analysisResult.getState().getValueState();
-
-				// If the stack is bottom, the jump is definitely
-				// unreachable
-				if (taintedStack.isBottom())
-					// Nothing to do
-					continue;
-				else {
-					if (node instanceof Sha3
-							|| node instanceof Sstore
-							|| node instanceof Jumpi
-							|| node instanceof Return) {
-
-						if (TaintElement.isAtLeastOneTainted(taintedStack.getElementAtPosition(1),
-								taintedStack.getElementAtPosition(2)))
-							raiseWarning(node, tool, cfg);
-						else if (TaintElement.isAtLeastOneTop(taintedStack.getElementAtPosition(1),
-								taintedStack.getElementAtPosition(2)))
-							raisePossibleWarning(node, tool, cfg);
-
-					} else if (node instanceof Jump) {
-
-						if (TaintElement.isAtLeastOneTainted(taintedStack.getElementAtPosition(1)))
-							raiseWarning(node, tool, cfg);
-						else if (TaintElement.isAtLeastOneTop(taintedStack.getElementAtPosition(1)))
-							raisePossibleWarning(node, tool, cfg);
-
-					}
-				}
+				check(node, analysisResult.getState().getValueState(), tool, cfg);
 			}
 
 		return true;
 	}
 
+	/**
+	 * Yields whether the given statement is a sink of this checker, i.e., a
+	 * statement whose operands must not depend on randomness sources.
+	 *
+	 * @param node the statement
+	 *
+	 * @return {@code true} if {@code node} is a sink, {@code false} otherwise
+	 */
+	public static boolean isSink(Statement node) {
+		return node instanceof Jump || node instanceof Jumpi || node instanceof Sstore
+				|| node instanceof Sha3 || node instanceof Return;
+	}
+
+	/**
+	 * Checks a sink, given the taint abstract stack before it.
+	 *
+	 * @param node         the sink
+	 * @param taintedStack the taint abstract stack before {@code node}
+	 * @param tool         the tool the warnings are reported to, {@code null}
+	 *                         if they are only recorded in the context of
+	 *                         {@code cfg}
+	 * @param cfg          the control flow graph of the contract
+	 */
+	public void check(Statement node, TaintAbstractDomain taintedStack, CheckToolWithAnalysisResults<?> tool,
+			EVMCFG cfg) {
+		// If the stack is bottom, the jump is definitely
+		// unreachable
+		if (taintedStack.isBottom())
+			// Nothing to do
+			return;
+		else {
+			if (node instanceof Sha3
+					|| node instanceof Sstore
+					|| node instanceof Jumpi
+					|| node instanceof Return) {
+
+				if (TaintElement.isAtLeastOneTainted(taintedStack.getElementAtPosition(1),
+						taintedStack.getElementAtPosition(2)))
+					raiseWarning(node, tool, cfg);
+				else if (TaintElement.isAtLeastOneTop(taintedStack.getElementAtPosition(1),
+						taintedStack.getElementAtPosition(2)))
+					raisePossibleWarning(node, tool, cfg);
+
+			} else if (node instanceof Jump) {
+
+				if (TaintElement.isAtLeastOneTainted(taintedStack.getElementAtPosition(1)))
+					raiseWarning(node, tool, cfg);
+				else if (TaintElement.isAtLeastOneTop(taintedStack.getElementAtPosition(1)))
+					raisePossibleWarning(node, tool, cfg);
+
+			}
+		}
+	}
+
 	/**
 	 * Raises a warning indicating a randomness dependency vulnerability in the
 	 * analyzed program.
@@ -101,9 +125,7 @@ public class RandomnessDependencyChecker implements
 	 * @param tool the analysis tool and results used for the check
 	 * @param cfg  the control flow graph where the warning is identified
 	 */
-	private void raiseWarning(Statement sink, CheckToolWithAnalysisResults<
-			SimpleAbstractState<MonolithicHeap, TaintAbstractDomain, TypeEnvironment<InferredTypes>>> tool,
-			EVMCFG cfg) {
+	private void raiseWarning(Statement sink, CheckToolWithAnalysisResults<?> tool, EVMCFG cfg) {
 		ProgramCounterLocation sinkLoc = (ProgramCounterLocation) sink.getLocation();
 
 		log.warn("[DEFINITE] Randomness dependency vulnerability at pc {} (line {}).",
@@ -112,8 +134,9 @@ public class RandomnessDependencyChecker implements
 
 		String warn = "[DEFINITE] Randomness dependency vulnerability at pc "
 				+ ((ProgramCounterLocation) sink.getLocation()).getSourceCodeLine();
-		tool.warn(warn);
-		MyCache.getInstance().addRandomnessDependencyWarning(cfg.hashCode(), warn);
+		if (tool != null)
+			tool.warn(warn);
+		cfg.getContext().addRandomnessDependencyWarning(warn);
 	}
 
 	/**
@@ -125,9 +148,7 @@ public class RandomnessDependencyChecker implements
 	 *                 results
 	 * @param cfg  the control flow graph associated with the statement
 	 */
-	private void raisePossibleWarning(Statement sink, CheckToolWithAnalysisResults<
-			SimpleAbstractState<MonolithicHeap, TaintAbstractDomain, TypeEnvironment<InferredTypes>>> tool,
-			EVMCFG cfg) {
+	private void raisePossibleWarning(Statement sink, CheckToolWithAnalysisResults<?> tool, EVMCFG cfg) {
 		ProgramCounterLocation sinkLoc = (ProgramCounterLocation) sink.getLocation();
 
 		log.warn("[POSSIBLE] Randomness dependency vulnerability at pc {} (line {}).",
@@ -136,7 +157,8 @@ public class RandomnessDependencyChecker implements
 
 		String warn = "[POSSIBLE] Randomness dependency vulnerability at pc "
 				+ ((ProgramCounterLocation) sink.getLocation()).getSourceCodeLine();
-		tool.warn(warn);
-		MyCache.getInstance().addPossibleRandomnessDependencyWarning(cfg.hashCode(), warn);
+		if (tool != null)
+			tool.warn(warn);
+		cfg.getContext().addPossibleRandomnessDependencyWarning(warn);
 	}
 }
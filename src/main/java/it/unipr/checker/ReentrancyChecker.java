@@ -6,7 +6,6 @@ import it.unipr.analysis.StackElement;
 import it.unipr.cfg.Call;
 import it.unipr.cfg.EVMCFG;
 import it.unipr.cfg.ProgramCounterLocation;
-import it.unipr.utils.MyCache;
 import it.unive.lisa.analysis.AnalysisState;
 import it.unive.lisa.analysis.AnalyzedCFG;
 import it.unive.lisa.analysis.SemanticException;
@@ -63,28 +62,41 @@ public class ReentrancyChecker implements
 				}
 
 				// Retrieve the symbolic stack from the analysis result
-				EVMAbstractState valueState = analysisResult.getState().getValueState();
-
-				// If the value state is bottom, the jump is definitely
-				// unreachable
-				if (valueState.isBottom())
-					// Nothing to do
-					continue;
-				else if (valueState.isTop())
-					checkForReentrancy(call, tool, cfg);
-				else {
-					for (AbstractStack stack : valueState.getStacks()) {
-						StackElement sndElem = stack.getSecondElement();
-						if (sndElem.isTop() || sndElem.isTopNotJumpdest())
-							checkForReentrancy(call, tool, cfg);
-					}
-				}
+				check(call, analysisResult.getState().getValueState(), tool, cfg);
 			}
 		}
 
 		return true;
 	}
 
+	/**
+	 * Checks a CALL instruction, given the EVM abstract state before it.
+	 *
+	 * @param call       the CALL instruction
+	 * @param valueState the EVM abstract state before {@code call}
+	 * @param tool       the tool the warnings are reported to, {@code null} if
+	 *                       they are only recorded in the context of
+	 *                       {@code cfg}
+	 * @param cfg        the control flow graph of the contract
+	 */
+	public void check(Statement call, EVMAbstractState valueState, CheckToolWithAnalysisResults<?> tool,
+			EVMCFG cfg) {
+		// If the value state is bottom, the jump is definitely
+		// unreachable
+		if (valueState.isBottom())
+			// Nothing to do
+			return;
+		else if (valueState.isTop())
+			checkForReentrancy(call, tool, cfg);
+		else {
+			for (AbstractStack stack : valueState.getStacks()) {
+				StackElement sndElem = stack.getSecondElement();
+				if (sndElem.isTop() || sndElem.isTopNotJumpdest())
+					checkForReentrancy(call, tool, cfg);
+			}
+		}
+	}
+
 	/**
 	 * Checks for potential reentrancy vulnerabilities in the contract by
 	 * analyzing the flow from a CALL instruction to the furthest reachable
@@ -93,11 +105,10 @@ public class ReentrancyChecker implements
 	 * the furthest modification to the contract's state.
 	 *
 	 * @param call The CALL instruction being analyzed.
-	 * @param tool The analysis tool used to track and report vulnerabilities.
+	 * @param tool The analysis tool used to report vulnerabilities, if any.
 	 * @param cfg  The control flow graph of the contract being analyzed.
 	 */
-	private void checkForReentrancy(Statement call, CheckToolWithAnalysisResults<
-			SimpleAbstractState<MonolithicHeap, EVMAbstractState, TypeEnvironment<InferredTypes>>> tool, EVMCFG cfg) {
+	private void checkForReentrancy(Statement call, CheckToolWithAnalysisResults<?> tool, EVMCFG cfg) {
 
 		Set<Statement> otherSstores = cfg.getFurthestSstores(call);
 
@@ -117,8 +128,9 @@ public class ReentrancyChecker implements
 					((ProgramCounterLocation) call.getLocation()).getPc(),
 					((ProgramCounterLocation) call.getLocation()).getSourceCodeLine());
 			String warn = "Reentrancy attack at " + sstoreLoc.getPc();
-			tool.warn(warn);
-			MyCache.getInstance().addReentrancyWarning(cfg.hashCode(), warn);
+			if (tool != null)
+				tool.warn(warn);
+			cfg.getContext().addReentrancyWarning(warn);
 		}
 	}
 }
\ No newline at end of file
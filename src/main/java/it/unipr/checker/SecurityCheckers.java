@@ -0,0 +1,178 @@
+package it.unipr.checker;
+
+import it.unipr.analysis.EVMAbstractState;
+import it.unipr.analysis.taint.RandomnessDependencyAbstractDomain;
+import it.unipr.analysis.taint.TaintAbstractDomain;
+import it.unipr.analysis.taint.TaintProductAbstractDomain;
+import it.unipr.analysis.taint.TxOriginAbstractDomain;
+import it.unipr.cfg.Call;
+import it.unipr.cfg.EVMCFG;
+import it.unipr.cfg.Jumpi;
+import it.unive.lisa.analysis.AnalyzedCFG;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.SimpleAbstractState;
+import it.unive.lisa.analysis.heap.MonolithicHeap;
+import it.unive.lisa.analysis.nonrelational.value.TypeEnvironment;
+import it.unive.lisa.analysis.types.InferredTypes;
+import it.unive.lisa.checks.semantic.CheckToolWithAnalysisResults;
+import it.unive.lisa.checks.semantic.SemanticCheck;
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A semantic checker running all the enabled security checkers in a single
+ * visit of the CFG. The checkers based on the taint domains are fed with the
+ * results of a single analysis over the product of their domains (see
+ * {@link TaintProductAbstractDomain}), i.e., the one this checker is run
+ * with, while the {@link ReentrancyChecker} is fed with the results of the
+ * analysis that has built the CFG (see
+ * {@link JumpSolver#getAnalysisResults()}).
+ */
+public class SecurityCheckers implements
+		SemanticCheck<SimpleAbstractState<MonolithicHeap, TaintProductAbstractDomain, TypeEnvironment<InferredTypes>>> {
+
+	private static final Logger log = LogManager.getLogger(SecurityCheckers.class);
+
+	/**
+	 * The results of the analysis that has built the CFG.
+	 */
+	private final Collection<AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+			TypeEnvironment<InferredTypes>>>> evmResults;
+
+	private final ReentrancyChecker reentrancy;
+	private final TxOriginChecker txOrigin;
+	private final RandomnessDependencyChecker randomnessDependency;
+
+	/**
+	 * The CFG to be checked.
+	 */
+	private EVMCFG cfgToCheck;
+
+	/**
+	 * Builds the checker, running the checkers enabled at this time.
+	 *
+	 * @param evmResults the results of the analysis that has built the CFG
+	 */
+	public SecurityCheckers(Collection<AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+			TypeEnvironment<InferredTypes>>>> evmResults) {
+		this.evmResults = evmResults;
+		this.reentrancy = ReentrancyChecker.isEnabled() ? new ReentrancyChecker() : null;
+		this.txOrigin = TxOriginChecker.isEnabled() ? new TxOriginChecker() : null;
+		this.randomnessDependency = RandomnessDependencyChecker.isEnabled() ? new RandomnessDependencyChecker()
+				: null;
+	}
+
+	/**
+	 * Yields whether any of the enabled checkers needs the taint analysis.
+	 *
+	 * @return {@code true} if the taint analysis must be run, {@code false}
+	 *             otherwise
+	 */
+	public boolean needsTaintAnalysis() {
+		return txOrigin != null || randomnessDependency != null;
+	}
+
+	/**
+	 * Yields the taint domain to run this checker with, i.e., the product of
+	 * the domains of the enabled taint checkers.
+	 *
+	 * @return the taint domain
+	 */
+	public TaintProductAbstractDomain getTaintDomain() {
+		List<TaintAbstractDomain> domains = new ArrayList<>(2);
+		if (txOrigin != null)
+			domains.add(new TxOriginAbstractDomain());
+		if (randomnessDependency != null)
+			domains.add(new RandomnessDependencyAbstractDomain());
+		return new TaintProductAbstractDomain(domains.toArray(new TaintAbstractDomain[domains.size()]));
+	}
+
+	@Override
+	public boolean visit(
+			CheckToolWithAnalysisResults<
+					SimpleAbstractState<MonolithicHeap, TaintProductAbstractDomain, TypeEnvironment<InferredTypes>>> tool,
+			CFG graph) {
+		this.cfgToCheck = (EVMCFG) graph;
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc} Visits the checked CFG once, dispatching each statement to
+	 * the enabled checkers.
+	 *
+	 * @param tool the semantic check tool that is running this check.
+	 */
+	@Override
+	public void afterExecution(
+			CheckToolWithAnalysisResults<
+					SimpleAbstractState<MonolithicHeap, TaintProductAbstractDomain, TypeEnvironment<InferredTypes>>> tool) {
+		if (cfgToCheck != null)
+			check(cfgToCheck, tool.getResultOf(cfgToCheck), tool);
+	}
+
+	/**
+	 * Visits the given CFG once, dispatching each statement to the enabled
+	 * checkers.
+	 *
+	 * @param cfg          the CFG to check
+	 * @param taintResults the results of the taint analysis of {@code cfg},
+	 *                         empty if no taint checker is enabled
+	 * @param tool         the tool the warnings are reported to, {@code null}
+	 *                         if they are only recorded in the context of
+	 *                         {@code cfg}
+	 */
+	public void check(EVMCFG cfg,
+			Collection<AnalyzedCFG<SimpleAbstractState<MonolithicHeap, TaintProductAbstractDomain,
+					TypeEnvironment<InferredTypes>>>> taintResults,
+			CheckToolWithAnalysisResults<?> tool) {
+		for (Statement node : cfg.getNodes()) {
+			if (reentrancy != null && node instanceof Call)
+				for (AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+						TypeEnvironment<InferredTypes>>> result : evmResults)
+					try {
+						reentrancy.check(node, result.getAnalysisStateBefore(node).getState().getValueState(),
+								tool, cfg);
+					} catch (SemanticException e) {
+						log.error("(SecurityCheckers): {}", e.getMessage());
+					}
+
+			boolean txOriginSink = txOrigin != null && node instanceof Jumpi;
+			boolean randomnessSink = randomnessDependency != null && RandomnessDependencyChecker.isSink(node);
+			if (!txOriginSink && !randomnessSink)
+				continue;
+
+			for (AnalyzedCFG<SimpleAbstractState<MonolithicHeap, TaintProductAbstractDomain,
+					TypeEnvironment<InferredTypes>>> result : taintResults) {
+				TaintProductAbstractDomain taintedStacks;
+				try {
+					taintedStacks = result.getAnalysisStateBefore(node).getState().getValueState();
+				} catch (SemanticException e) {
+					log.error("(SecurityCheckers): {}", e.getMessage());
+					continue;
+				}
+
+				if (txOriginSink)
+					txOrigin.check(node, taintedStacks.getDomain(TxOriginAbstractDomain.class), tool, cfg);
+				if (randomnessSink)
+					randomnessDependency.check(node,
+							taintedStacks.getDomain(RandomnessDependencyAbstractDomain.class), tool, cfg);
+			}
+		}
+	}
+
+	/**
+	 * Visits the given CFG once, dispatching each statement to the enabled
+	 * checkers that do not need the taint analysis.
+	 *
+	 * @param cfg the CFG to check
+	 */
+	public void check(EVMCFG cfg) {
+		check(cfg, Collections.emptyList(), null);
+	}
+}
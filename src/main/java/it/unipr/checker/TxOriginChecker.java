@@ -5,7 +5,6 @@ import it.unipr.analysis.taint.TaintElement;
 import it.unipr.cfg.EVMCFG;
 import it.unipr.cfg.Jumpi;
 import it.unipr.cfg.ProgramCounterLocation;
-import it.unipr.utils.MyCache;
 import it.unive.lisa.analysis.AnalysisState;
 import it.unive.lisa.analysis.AnalyzedCFG;
 import it.unive.lisa.analysis.SemanticException;
@@ -60,36 +59,47 @@ public class TxOriginChecker implements
 				}
 
 				// Retrieve the symbolic stack from the analysis result
-				TaintAbstractDomain taintedStack = analysisResult.getState().getValueState();
-
-				// If the stack is bottom, the node is definitely
-				// unreachable
-				if (taintedStack.isBottom())
-					// Nothing to do
-					continue;
-				else {
-					if (taintedStack.getElementAtPosition(1).isBottom()
-							|| taintedStack.getElementAtPosition(2).isBottom())
-						// Nothing to do
-						continue;
-					else {
-						if (TaintElement.isAtLeastOneTainted(taintedStack.getElementAtPosition(1),
-								taintedStack.getElementAtPosition(2)))
-							raiseWarning(node, tool, cfg);
-						else if (TaintElement.isAtLeastOneTop(taintedStack.getElementAtPosition(1),
-								taintedStack.getElementAtPosition(2)))
-							raisePossibleWarning(node, tool, cfg);
-					}
-				}
+				check(node, analysisResult.getState().getValueState(), tool, cfg);
 			}
 		}
 
 		return true;
 	}
 
-	private void raiseWarning(Statement node, CheckToolWithAnalysisResults<
-			SimpleAbstractState<MonolithicHeap, TaintAbstractDomain, TypeEnvironment<InferredTypes>>> tool,
+	/**
+	 * Checks a JUMPI instruction, given the taint abstract stack before it.
+	 *
+	 * @param node         the JUMPI instruction
+	 * @param taintedStack the taint abstract stack before {@code node}
+	 * @param tool         the tool the warnings are reported to, {@code null}
+	 *                         if they are only recorded in the context of
+	 *                         {@code cfg}
+	 * @param cfg          the control flow graph of the contract
+	 */
+	public void check(Statement node, TaintAbstractDomain taintedStack, CheckToolWithAnalysisResults<?> tool,
 			EVMCFG cfg) {
+		// If the stack is bottom, the node is definitely
+		// unreachable
+		if (taintedStack.isBottom())
+			// Nothing to do
+			return;
+		else {
+			if (taintedStack.getElementAtPosition(1).isBottom()
+					|| taintedStack.getElementAtPosition(2).isBottom())
+				// Nothing to do
+				return;
+			else {
+				if (TaintElement.isAtLeastOneTainted(taintedStack.getElementAtPosition(1),
+						taintedStack.getElementAtPosition(2)))
+					raiseWarning(node, tool, cfg);
+				else if (TaintElement.isAtLeastOneTop(taintedStack.getElementAtPosition(1),
+						taintedStack.getElementAtPosition(2)))
+					raisePossibleWarning(node, tool, cfg);
+			}
+		}
+	}
+
+	private void raiseWarning(Statement node, CheckToolWithAnalysisResults<?> tool, EVMCFG cfg) {
 
 		ProgramCounterLocation nodeLocation = (ProgramCounterLocation) node.getLocation();
 
@@ -99,13 +109,12 @@ public class TxOriginChecker implements
 
 		String warn = "[DEFINITE] TxOrigin attack at "
 				+ ((ProgramCounterLocation) node.getLocation()).getSourceCodeLine();
-		tool.warn(warn);
-		MyCache.getInstance().addTxOriginWarning(cfg.hashCode(), warn);
+		if (tool != null)
+			tool.warn(warn);
+		cfg.getContext().addTxOriginWarning(warn);
 	}
 
-	private void raisePossibleWarning(Statement node, CheckToolWithAnalysisResults<
-			SimpleAbstractState<MonolithicHeap, TaintAbstractDomain, TypeEnvironment<InferredTypes>>> tool,
-			EVMCFG cfg) {
+	private void raisePossibleWarning(Statement node, CheckToolWithAnalysisResults<?> tool, EVMCFG cfg) {
 
 		ProgramCounterLocation nodeLocation = (ProgramCounterLocation) node.getLocation();
 
@@ -114,7 +123,8 @@ public class TxOriginChecker implements
 
 		String warn = "[POSSIBLE] Tx.Origin attack at "
 				+ ((ProgramCounterLocation) node.getLocation()).getSourceCodeLine();
-		tool.warn(warn);
-		MyCache.getInstance().addPossibleTxOriginWarning(cfg.hashCode(), warn);
+		if (tool != null)
+			tool.warn(warn);
+		cfg.getContext().addPossibleTxOriginWarning(warn);
 	}
 }
\ No newline at end of file
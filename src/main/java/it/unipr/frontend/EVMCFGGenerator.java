@@ -52,6 +52,7 @@ import it.unive.lisa.program.cfg.statement.Statement;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import org.apache.commons.io.FilenameUtils;
@@ -102,6 +103,86 @@ public class EVMCFGGenerator extends EVMBParserBaseVisitor<Object> {
 	 */
 	@Override
 	public CFG visitProgram(ProgramContext ctx) {
+		ClassUnit unit = createCFG();
+
+		// Create a statement for each opcode of the program.
+		List<Statement> stm = new ArrayList<>(ctx.opcodes().size());
+		for (OpcodesContext opCtx : ctx.opcodes())
+			stm.add(this.visitOpcodes(opCtx));
+
+		return buildCFG(unit, stm);
+	}
+
+	/**
+	 * Decodes the given hexadecimal bytecode and creates a statement for each
+	 * of its opcodes to build the CFG of the program, without going through
+	 * the mnemonic representation of the bytecode and its parser. The opcodes
+	 * are decoded in place through the {@link EVMOpcodeTable}, hence the
+	 * bytecode can be any character sequence (e.g., a memory-mapped file). The
+	 * resulting CFG is the same built by {@link #visitProgram(ProgramContext)}
+	 * on the mnemonic bytecode produced by
+	 * {@link EVMFrontend#opcodesFromBytecode(String, String)}.
+	 * 
+	 * @param bytecode the hexadecimal bytecode, optionally starting with
+	 *                     {@code 0x}.
+	 * 
+	 * @return the CFG of the program.
+	 */
+	public CFG visitBytecode(CharSequence bytecode) {
+		ClassUnit unit = createCFG();
+
+		int start = 0, end = bytecode.length();
+		while (start < end && Character.isWhitespace(bytecode.charAt(start)))
+			start++;
+		while (end > start && Character.isWhitespace(bytecode.charAt(end - 1)))
+			end--;
+		if (end - start >= 2 && bytecode.charAt(start) == '0'
+				&& (bytecode.charAt(start + 1) == 'x' || bytecode.charAt(start + 1) == 'X'))
+			start += 2;
+
+		List<Statement> stm = new ArrayList<>((end - start) / 2);
+		int line = 1;
+
+		for (int i = start; i + 2 <= end; i += 2) {
+			int opcode = EVMOpcodeTable.byteAt(bytecode, i);
+			EVMOpcodeTable.Descriptor op = opcode < 0 ? null : EVMOpcodeTable.get(opcode);
+
+			if (op == null)
+				stm.add(new Invalid(cfg, new ProgramCounterLocation(pc++, line++)));
+			else if (op.getPushWidth() == 0)
+				stm.add(op.create(cfg, new ProgramCounterLocation(pc++, line++), null));
+			else {
+				int width = op.getPushWidth();
+				int dataEnd = Math.min(i + 2 + 2 * width, end);
+
+				// a truncated push without data has no mnemonic either
+				if (dataEnd > i + 2) {
+					char[] value = new char[dataEnd - i];
+					value[0] = '0';
+					value[1] = 'x';
+					for (int k = i + 2; k < dataEnd; k++)
+						value[k - i] = bytecode.charAt(k);
+
+					HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+							new String(value));
+					stm.add(op.create(cfg, new ProgramCounterLocation(pc, line), hex));
+					pc += width + 1;
+					line++;
+				}
+
+				i += 2 * width;
+			}
+		}
+
+		return buildCFG(unit, stm);
+	}
+
+	/**
+	 * Creates the CFG of the program, and the unit containing it.
+	 * 
+	 * @return the unit that will contain the CFG.
+	 */
+	private ClassUnit createCFG() {
 		// Create a descriptor for the initial CFG.
 		ClassUnit unit = new ClassUnit(new ProgramCounterLocation(-1, -1), program, "program", false);
 		String normalizedFilePath = FilenameUtils.separatorsToUnix(filePath);
@@ -110,29 +191,31 @@ public class EVMCFGGenerator extends EVMBParserBaseVisitor<Object> {
 
 		// Save the CFG in the class variable.
 		this.cfg = new EVMCFG(cfgDesc);
+		return unit;
+	}
 
-		Statement last = null;
-
-		// Create a list to store the statements of the CFG.
+	/**
+	 * Adds the given statements, in program order, to the CFG and links them
+	 * with the sequential, conditional and pushed jump edges.
+	 * 
+	 * @param unit the unit containing the CFG.
+	 * @param stm  the statements of the program, in program order.
+	 * 
+	 * @return the CFG of the program.
+	 */
+	private CFG buildCFG(ClassUnit unit, List<Statement> stm) {
 		// Retrieve the first statement (entrypoint) of the CFG.
-		ArrayList<Statement> stm = new ArrayList<>();
-		OpcodesContext opCtx = ctx.opcodes(0);
-		Statement st = this.visitOpcodes(opCtx);
-		stm.add(st);
+		Statement st = stm.get(0);
 		cfg.addNode(st);
 		cfg.getEntrypoints().add(st);
-		last = st;
+		Statement last = st;
 
 		Map<Statement, BigInteger> map = new HashMap<>();
 
-		// For each opcode of the program, create a statement and add it to the
-		// CFG.
-		for (int i = 1; i < ctx.opcodes().size(); i++) {
-			opCtx = ctx.opcodes(i);
-			st = this.visitOpcodes(opCtx);
-
+		// For each opcode of the program, add its statement to the CFG.
+		for (int i = 1; i < stm.size(); i++) {
+			st = stm.get(i);
 			cfg.addNode(st);
-			stm.add(st);
 
 			/*
 			 * If the actual statement is a JUMPI, a conditional edge
@@ -161,13 +244,23 @@ public class EVMCFGGenerator extends EVMBParserBaseVisitor<Object> {
 			last = st;
 		}
 
-		for (Statement node : cfg.getNodes())
-			for (Entry<Statement, BigInteger> entry : map.entrySet())
-				if (((ProgramCounterLocation) node.getLocation()).getPc() == entry.getValue().intValue())
-					if (entry.getKey() instanceof Jumpi)
-						cfg.addEdge(new TrueEdge(entry.getKey(), node));
-					else
-						cfg.addEdge(new SequentialEdge(entry.getKey(), node));
+		// Index the statements by program counter, so that each pushed jump
+		// target is resolved with a single lookup.
+		Statement[] byPc = new Statement[pc];
+		for (Statement node : stm)
+			byPc[((ProgramCounterLocation) node.getLocation()).getPc()] = node;
+
+		for (Entry<Statement, BigInteger> entry : map.entrySet()) {
+			int target = entry.getValue().intValue();
+			if (target < 0 || target >= byPc.length || byPc[target] == null)
+				continue;
+
+			if (entry.getKey() instanceof Jumpi)
+				cfg.addEdge(new TrueEdge(entry.getKey(), byPc[target]));
+			else
+				cfg.addEdge(new SequentialEdge(entry.getKey(), byPc[target]));
+		}
+
 		unit.addCodeMember(cfg);
 
 		cfg.computeHotspotNodes();
@@ -199,497 +292,512 @@ public class EVMCFGGenerator extends EVMBParserBaseVisitor<Object> {
 	 */
 	@Override
 	public Statement visitOpcodes(OpcodesContext ctx) throws UnsupportedOperationException {
-		String token = getFirstToken(ctx.start.getText());
+		return statementOf(getFirstToken(ctx.start.getText()), ctx.start.getText(), getLine(ctx));
+	}
 
+	/**
+	 * Creates the statement corresponding to the given mnemonic opcode. It
+	 * takes into account the program counter to set the location of the
+	 * statement.
+	 * 
+	 * @param token the mnemonic of the opcode.
+	 * @param text  the text of the opcode, holding the {@code 0x} prefixed
+	 *                  data of push opcodes.
+	 * @param line  the line of the opcode.
+	 * 
+	 * @return the statement corresponding to the opcode, or an
+	 *             {@link Invalid} statement if the opcode is unknown.
+	 */
+	private Statement statementOf(String token, String text, int line) {
 		switch (token) {
 		case "STOP":
-			return new Stop(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Stop(cfg, new ProgramCounterLocation(pc++, line));
 		case "ADD":
-			return new Add(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Add(cfg, new ProgramCounterLocation(pc++, line));
 		case "MUL":
-			return new Mul(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Mul(cfg, new ProgramCounterLocation(pc++, line));
 		case "SUB":
-			return new Sub(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Sub(cfg, new ProgramCounterLocation(pc++, line));
 		case "DIV":
-			return new Div(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Div(cfg, new ProgramCounterLocation(pc++, line));
 		case "SDIV":
-			return new Sdiv(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Sdiv(cfg, new ProgramCounterLocation(pc++, line));
 		case "MOD":
-			return new Mod(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Mod(cfg, new ProgramCounterLocation(pc++, line));
 		case "SMOD":
-			return new Smod(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Smod(cfg, new ProgramCounterLocation(pc++, line));
 		case "ADDMOD":
-			return new Addmod(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Addmod(cfg, new ProgramCounterLocation(pc++, line));
 		case "MULMOD":
-			return new Mulmod(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Mulmod(cfg, new ProgramCounterLocation(pc++, line));
 		case "EXP":
-			return new Exp(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Exp(cfg, new ProgramCounterLocation(pc++, line));
 		case "SIGNEXTEND":
-			return new Signextend(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Signextend(cfg, new ProgramCounterLocation(pc++, line));
 		case "LT":
-			return new Lt(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Lt(cfg, new ProgramCounterLocation(pc++, line));
 		case "GT":
-			return new Gt(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Gt(cfg, new ProgramCounterLocation(pc++, line));
 		case "SLT":
-			return new Slt(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Slt(cfg, new ProgramCounterLocation(pc++, line));
 		case "SGT":
-			return new Sgt(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Sgt(cfg, new ProgramCounterLocation(pc++, line));
 		case "EQ":
-			return new Eq(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Eq(cfg, new ProgramCounterLocation(pc++, line));
 		case "ISZERO":
-			return new Iszero(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Iszero(cfg, new ProgramCounterLocation(pc++, line));
 		case "AND":
-			return new And(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new And(cfg, new ProgramCounterLocation(pc++, line));
 		case "OR":
-			return new Or(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Or(cfg, new ProgramCounterLocation(pc++, line));
 		case "XOR":
-			return new Xor(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Xor(cfg, new ProgramCounterLocation(pc++, line));
 		case "NOT":
-			return new Not(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Not(cfg, new ProgramCounterLocation(pc++, line));
 		case "BYTE":
-			return new Byte(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Byte(cfg, new ProgramCounterLocation(pc++, line));
 		case "SHL":
-			return new Shl(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Shl(cfg, new ProgramCounterLocation(pc++, line));
 		case "SHR":
-			return new Shr(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Shr(cfg, new ProgramCounterLocation(pc++, line));
 		case "SAR":
-			return new Sar(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Sar(cfg, new ProgramCounterLocation(pc++, line));
 		case "SHA3":
-			return new Sha3(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Sha3(cfg, new ProgramCounterLocation(pc++, line));
 		case "ADDRESS":
-			return new Address(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Address(cfg, new ProgramCounterLocation(pc++, line));
 		case "BALANCE":
-			return new Balance(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Balance(cfg, new ProgramCounterLocation(pc++, line));
 		case "ORIGIN":
-			return new Origin(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Origin(cfg, new ProgramCounterLocation(pc++, line));
 		case "CALLER":
-			return new Caller(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Caller(cfg, new ProgramCounterLocation(pc++, line));
 		case "CALLVALUE":
-			return new Callvalue(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Callvalue(cfg, new ProgramCounterLocation(pc++, line));
 		case "CODECOPY":
-			return new Codecopy(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Codecopy(cfg, new ProgramCounterLocation(pc++, line));
 		case "CALLDATALOAD":
-			return new Calldataload(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Calldataload(cfg, new ProgramCounterLocation(pc++, line));
 		case "CALLDATASIZE":
-			return new Calldatasize(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Calldatasize(cfg, new ProgramCounterLocation(pc++, line));
 		case "CALLDATACOPY":
-			return new Calldatacopy(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Calldatacopy(cfg, new ProgramCounterLocation(pc++, line));
 		case "CODESIZE":
-			return new Codesize(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Codesize(cfg, new ProgramCounterLocation(pc++, line));
 		case "GASPRICE":
-			return new Gasprice(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Gasprice(cfg, new ProgramCounterLocation(pc++, line));
 		case "EXTCODESIZE":
-			return new Extcodesize(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Extcodesize(cfg, new ProgramCounterLocation(pc++, line));
 		case "EXTCODECOPY":
-			return new Extcodecopy(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Extcodecopy(cfg, new ProgramCounterLocation(pc++, line));
 		case "RETURNDATASIZE":
-			return new Returndatasize(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Returndatasize(cfg, new ProgramCounterLocation(pc++, line));
 		case "RETURNDATACOPY":
-			return new Returndatacopy(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Returndatacopy(cfg, new ProgramCounterLocation(pc++, line));
 		case "EXTCODEHASH":
-			return new Extcodehash(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Extcodehash(cfg, new ProgramCounterLocation(pc++, line));
 		case "BLOCKHASH":
-			return new Blockhash(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Blockhash(cfg, new ProgramCounterLocation(pc++, line));
 		case "COINBASE":
-			return new Coinbase(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Coinbase(cfg, new ProgramCounterLocation(pc++, line));
 		case "TIMESTAMP":
-			return new Timestamp(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Timestamp(cfg, new ProgramCounterLocation(pc++, line));
 		case "NUMBER":
-			return new Number(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Number(cfg, new ProgramCounterLocation(pc++, line));
 		case "DIFFICULTY":
-			return new Difficulty(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Difficulty(cfg, new ProgramCounterLocation(pc++, line));
 		case "GASLIMIT":
-			return new Gaslimit(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Gaslimit(cfg, new ProgramCounterLocation(pc++, line));
 		case "CHAINID":
-			return new Chainid(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Chainid(cfg, new ProgramCounterLocation(pc++, line));
 		case "SELFBALANCE":
-			return new Selfbalance(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Selfbalance(cfg, new ProgramCounterLocation(pc++, line));
 		case "BLOBHASH":
-			return new BlobHash(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new BlobHash(cfg, new ProgramCounterLocation(pc++, line));
 		case "BLOBBASEFEE":
-			return new BlobBaseFee(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new BlobBaseFee(cfg, new ProgramCounterLocation(pc++, line));
 		case "BASEFEE":
-			return new Basefee(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Basefee(cfg, new ProgramCounterLocation(pc++, line));
 		case "POP":
-			return new Pop(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Pop(cfg, new ProgramCounterLocation(pc++, line));
 		case "TLOAD":
-			return new Tload(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Tload(cfg, new ProgramCounterLocation(pc++, line));
 		case "TSTORE":
-			return new Tstore(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Tstore(cfg, new ProgramCounterLocation(pc++, line));
 		case "MLOAD":
-			return new Mload(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Mload(cfg, new ProgramCounterLocation(pc++, line));
 		case "MSTORE":
-			return new Mstore(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Mstore(cfg, new ProgramCounterLocation(pc++, line));
 		case "MSTORE8":
-			return new Mstore8(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Mstore8(cfg, new ProgramCounterLocation(pc++, line));
 		case "MCOPY":
-			return new Mcopy(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Mcopy(cfg, new ProgramCounterLocation(pc++, line));
 		case "SLOAD":
-			return new Sload(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Sload(cfg, new ProgramCounterLocation(pc++, line));
 		case "SSTORE":
-			return new Sstore(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Sstore(cfg, new ProgramCounterLocation(pc++, line));
 		case "JUMP":
-			return new Jump(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Jump(cfg, new ProgramCounterLocation(pc++, line));
 		case "JUMPI":
-			return new Jumpi(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Jumpi(cfg, new ProgramCounterLocation(pc++, line));
 		case "PC":
-			return new Pc(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Pc(cfg, new ProgramCounterLocation(pc++, line));
 		case "MSIZE":
-			return new Msize(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Msize(cfg, new ProgramCounterLocation(pc++, line));
 		case "GAS":
-			return new Gas(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Gas(cfg, new ProgramCounterLocation(pc++, line));
 		case "JUMPDEST":
-			return new Jumpdest(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Jumpdest(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP1":
-			return new Dup1(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup1(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP2":
-			return new Dup2(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup2(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP3":
-			return new Dup3(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup3(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP4":
-			return new Dup4(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup4(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP5":
-			return new Dup5(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup5(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP6":
-			return new Dup6(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup6(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP7":
-			return new Dup7(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup7(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP8":
-			return new Dup8(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup8(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP9":
-			return new Dup9(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup9(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP10":
-			return new Dup10(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup10(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP11":
-			return new Dup11(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup11(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP12":
-			return new Dup12(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup12(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP13":
-			return new Dup13(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup13(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP14":
-			return new Dup14(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup14(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP15":
-			return new Dup15(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup15(cfg, new ProgramCounterLocation(pc++, line));
 		case "DUP16":
-			return new Dup16(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Dup16(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP1":
-			return new Swap1(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap1(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP2":
-			return new Swap2(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap2(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP3":
-			return new Swap3(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap3(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP4":
-			return new Swap4(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap4(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP5":
-			return new Swap5(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap5(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP6":
-			return new Swap6(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap6(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP7":
-			return new Swap7(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap7(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP8":
-			return new Swap8(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap8(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP9":
-			return new Swap9(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap9(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP10":
-			return new Swap10(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap10(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP11":
-			return new Swap11(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap11(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP12":
-			return new Swap12(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap12(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP13":
-			return new Swap13(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap13(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP14":
-			return new Swap14(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap14(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP15":
-			return new Swap15(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap15(cfg, new ProgramCounterLocation(pc++, line));
 		case "SWAP16":
-			return new Swap16(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Swap16(cfg, new ProgramCounterLocation(pc++, line));
 		case "LOG0":
-			return new Log0(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Log0(cfg, new ProgramCounterLocation(pc++, line));
 		case "LOG1":
-			return new Log1(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Log1(cfg, new ProgramCounterLocation(pc++, line));
 		case "LOG2":
-			return new Log2(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Log2(cfg, new ProgramCounterLocation(pc++, line));
 		case "LOG3":
-			return new Log3(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Log3(cfg, new ProgramCounterLocation(pc++, line));
 		case "LOG4":
-			return new Log4(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Log4(cfg, new ProgramCounterLocation(pc++, line));
 		case "JUMPTO":
-			return new Jumpto(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Jumpto(cfg, new ProgramCounterLocation(pc++, line));
 		case "JUMPIF":
-			return new Jumpif(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Jumpif(cfg, new ProgramCounterLocation(pc++, line));
 		case "JUMPSUB":
-			return new Jumpsub(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Jumpsub(cfg, new ProgramCounterLocation(pc++, line));
 		case "JUMPSUBV":
-			return new Jumpsubv(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Jumpsubv(cfg, new ProgramCounterLocation(pc++, line));
 		case "BEGINSUB":
-			return new Beginsub(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Beginsub(cfg, new ProgramCounterLocation(pc++, line));
 		case "BEGINDATA":
-			return new Begindata(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Begindata(cfg, new ProgramCounterLocation(pc++, line));
 		case "RETURNSUB":
-			return new Returnsub(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Returnsub(cfg, new ProgramCounterLocation(pc++, line));
 		case "PUTLOCAL":
-			return new Putlocal(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Putlocal(cfg, new ProgramCounterLocation(pc++, line));
 		case "GETLOCA":
-			return new Getloca(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Getloca(cfg, new ProgramCounterLocation(pc++, line));
 		case "SLOADBYTES":
-			return new Sloadbytes(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Sloadbytes(cfg, new ProgramCounterLocation(pc++, line));
 		case "SSTOREBYTES":
-			return new Sstorebytes(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Sstorebytes(cfg, new ProgramCounterLocation(pc++, line));
 		case "SSIZE":
-			return new Ssize(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Ssize(cfg, new ProgramCounterLocation(pc++, line));
 		case "CREATE":
-			return new Create(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Create(cfg, new ProgramCounterLocation(pc++, line));
 		case "CALL":
-			return new Call(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Call(cfg, new ProgramCounterLocation(pc++, line));
 		case "CALLCODE":
-			return new Callcode(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Callcode(cfg, new ProgramCounterLocation(pc++, line));
 		case "RETURN":
-			return new Return(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Return(cfg, new ProgramCounterLocation(pc++, line));
 		case "DELEGATECALL":
-			return new Delegatecall(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Delegatecall(cfg, new ProgramCounterLocation(pc++, line));
 		case "CALLBLACKBOX":
-			return new Callblackbox(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Callblackbox(cfg, new ProgramCounterLocation(pc++, line));
 		case "STATICCALL":
-			return new Staticcall(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Staticcall(cfg, new ProgramCounterLocation(pc++, line));
 		case "CREATE2":
-			return new Create2(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Create2(cfg, new ProgramCounterLocation(pc++, line));
 		case "TXEXECGAS":
-			return new Txexecgas(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Txexecgas(cfg, new ProgramCounterLocation(pc++, line));
 		case "REVERT":
-			return new Revert(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Revert(cfg, new ProgramCounterLocation(pc++, line));
 		case "INVALID":
-			return new Invalid(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Invalid(cfg, new ProgramCounterLocation(pc++, line));
 		case "SELFDESTRUCT":
-			return new Selfdestruct(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Selfdestruct(cfg, new ProgramCounterLocation(pc++, line));
 		case "PUSH0":
-			return new Push0(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+			return new Push0(cfg, new ProgramCounterLocation(pc++, line));
 		case "PUSH1": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH1().getText().substring(ctx.PUSH1().getText().indexOf("0x")));
-			Statement st = new Push1(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push1(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 2;
 			return st;
 		}
 		case "PUSH2": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH2().getText().substring(ctx.PUSH2().getText().indexOf("0x")));
-			Statement st = new Push2(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push2(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 3;
 			return st;
 		}
 		case "PUSH3": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH3().getText().substring(ctx.PUSH3().getText().indexOf("0x")));
-			Statement st = new Push3(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push3(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 4;
 			return st;
 		}
 		case "PUSH4": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH4().getText().substring(ctx.PUSH4().getText().indexOf("0x")));
-			Statement st = new Push4(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push4(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 5;
 			return st;
 		}
 		case "PUSH5": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH5().getText().substring(ctx.PUSH5().getText().indexOf("0x")));
-			Statement st = new Push5(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push5(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 6;
 			return st;
 		}
 		case "PUSH6": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH6().getText().substring(ctx.PUSH6().getText().indexOf("0x")));
-			Statement st = new Push6(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push6(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 7;
 			return st;
 		}
 		case "PUSH7": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH7().getText().substring(ctx.PUSH7().getText().indexOf("0x")));
-			Statement st = new Push7(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push7(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 8;
 			return st;
 		}
 		case "PUSH8": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH8().getText().substring(ctx.PUSH8().getText().indexOf("0x")));
-			Statement st = new Push8(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push8(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 9;
 			return st;
 		}
 		case "PUSH9": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH9().getText().substring(ctx.PUSH9().getText().indexOf("0x")));
-			Statement st = new Push9(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push9(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 10;
 			return st;
 		}
 		case "PUSH10": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH10().getText().substring(ctx.PUSH10().getText().indexOf("0x")));
-			Statement st = new Push10(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push10(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 11;
 			return st;
 		}
 		case "PUSH11": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH11().getText().substring(ctx.PUSH11().getText().indexOf("0x")));
-			Statement st = new Push11(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push11(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 12;
 			return st;
 		}
 		case "PUSH12": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH12().getText().substring(ctx.PUSH12().getText().indexOf("0x")));
-			Statement st = new Push12(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push12(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 13;
 			return st;
 		}
 		case "PUSH13": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH13().getText().substring(ctx.PUSH13().getText().indexOf("0x")));
-			Statement st = new Push13(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push13(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 14;
 			return st;
 		}
 		case "PUSH14": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH14().getText().substring(ctx.PUSH14().getText().indexOf("0x")));
-			Statement st = new Push14(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push14(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 15;
 			return st;
 		}
 		case "PUSH15": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH15().getText().substring(ctx.PUSH15().getText().indexOf("0x")));
-			Statement st = new Push15(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push15(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 16;
 			return st;
 		}
 		case "PUSH16": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH16().getText().substring(ctx.PUSH16().getText().indexOf("0x")));
-			Statement st = new Push16(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push16(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 17;
 			return st;
 		}
 		case "PUSH17": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH17().getText().substring(ctx.PUSH17().getText().indexOf("0x")));
-			Statement st = new Push17(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push17(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 18;
 			return st;
 		}
 		case "PUSH18": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH18().getText().substring(ctx.PUSH18().getText().indexOf("0x")));
-			Statement st = new Push18(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push18(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 19;
 			return st;
 		}
 		case "PUSH19": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH19().getText().substring(ctx.PUSH19().getText().indexOf("0x")));
-			Statement st = new Push19(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push19(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 20;
 			return st;
 		}
 		case "PUSH20": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH20().getText().substring(ctx.PUSH20().getText().indexOf("0x")));
-			Statement st = new Push20(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push20(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 21;
 			return st;
 		}
 		case "PUSH21": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH21().getText().substring(ctx.PUSH21().getText().indexOf("0x")));
-			Statement st = new Push21(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push21(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 22;
 			return st;
 		}
 		case "PUSH22": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH22().getText().substring(ctx.PUSH22().getText().indexOf("0x")));
-			Statement st = new Push22(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push22(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 23;
 			return st;
 		}
 		case "PUSH23": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH23().getText().substring(ctx.PUSH23().getText().indexOf("0x")));
-			Statement st = new Push23(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push23(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 24;
 			return st;
 		}
 		case "PUSH24": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH24().getText().substring(ctx.PUSH24().getText().indexOf("0x")));
-			Statement st = new Push24(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push24(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 25;
 			return st;
 		}
 		case "PUSH25": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH25().getText().substring(ctx.PUSH25().getText().indexOf("0x")));
-			Statement st = new Push25(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push25(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 26;
 			return st;
 		}
 		case "PUSH26": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH26().getText().substring(ctx.PUSH26().getText().indexOf("0x")));
-			Statement st = new Push26(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push26(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 27;
 			return st;
 		}
 		case "PUSH27": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH27().getText().substring(ctx.PUSH27().getText().indexOf("0x")));
-			Statement st = new Push27(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push27(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 28;
 			return st;
 		}
 		case "PUSH28": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH28().getText().substring(ctx.PUSH28().getText().indexOf("0x")));
-			Statement st = new Push28(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push28(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 29;
 			return st;
 		}
 		case "PUSH29": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH29().getText().substring(ctx.PUSH29().getText().indexOf("0x")));
-			Statement st = new Push29(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push29(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 30;
 			return st;
 		}
 		case "PUSH30": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH30().getText().substring(ctx.PUSH30().getText().indexOf("0x")));
-			Statement st = new Push30(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push30(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 31;
 			return st;
 		}
 		case "PUSH31": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH31().getText().substring(ctx.PUSH31().getText().indexOf("0x")));
-			Statement st = new Push31(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push31(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 32;
 			return st;
 		}
 		case "PUSH32": {
-			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, getLine(ctx)),
-					ctx.PUSH32().getText().substring(ctx.PUSH32().getText().indexOf("0x")));
-			Statement st = new Push32(cfg, new ProgramCounterLocation(pc, getLine(ctx)), hex);
+			HexDecimalLiteral hex = new HexDecimalLiteral(cfg, new ProgramCounterLocation(pc, line),
+					text.substring(text.indexOf("0x")));
+			Statement st = new Push32(cfg, new ProgramCounterLocation(pc, line), hex);
 			pc += 33;
 			return st;
 		}
 		}
 
-		return new Invalid(cfg, new ProgramCounterLocation(pc++, getLine(ctx)));
+		return new Invalid(cfg, new ProgramCounterLocation(pc++, line));
 	}
 }
@@ -13,7 +13,11 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.json.JSONArray;
@@ -114,8 +118,9 @@ public class EVMFrontend {
 	 * Processes the given bytecode string to extract opcodes and writes them to
 	 * an output file.
 	 * <p>
-	 * This method reads the bytecode, identifies opcodes and their associated
-	 * push data, and writes the results to the specified output file. If the
+	 * This method reads the bytecode, with or without the {@code 0x} prefix,
+	 * identifies opcodes and their associated push data, and writes the
+	 * results to the specified output file. If the
 	 * bytecode string is null or empty, the method logs an error message and
 	 * returns false, indicating that the output file will not be created.
 	 * </p>
@@ -129,37 +134,57 @@ public class EVMFrontend {
 	 *                         file
 	 */
 	public static void opcodesFromBytecode(String bytecode, String output) throws IOException {
-		if (bytecode == null || bytecode.isEmpty()) {
+		try (Writer writer = new BufferedWriter(new FileWriter(output))) {
+			opcodesFromBytecode(bytecode, writer);
+		}
+	}
+
+	/**
+	 * Processes the given bytecode string to extract opcodes and writes them to
+	 * the given writer, in the same format of
+	 * {@link #opcodesFromBytecode(String, String)}.
+	 *
+	 * @param bytecode the bytecode string to be processed, must not be null or
+	 *                     empty
+	 * @param writer   the writer where the extracted opcodes will be written
+	 *
+	 * @throws IOException if an I/O error occurs while writing
+	 */
+	public static void opcodesFromBytecode(CharSequence bytecode, Writer writer) throws IOException {
+		if (bytecode == null || bytecode.length() == 0) {
 			System.err.println(
 					JSONManager.throwNewError("Couldn't extract opcodes from bytecode. Bytecode is null or empty."));
 			System.exit(1);
 		}
 
-		BufferedWriter writer = new BufferedWriter(new FileWriter(output));
-
-		for (int i = 2; i < bytecode.length(); i += 2) {
-			String opcode = bytecode.substring(i, i + 2);
-			int t = pushTest(opcode);
+		// the optional 0x prefix and surrounding whitespace are stripped as
+		// done by EVMCFGGenerator#visitBytecode
+		int start = 0, end = bytecode.length();
+		while (start < end && Character.isWhitespace(bytecode.charAt(start)))
+			start++;
+		while (end > start && Character.isWhitespace(bytecode.charAt(end - 1)))
+			end--;
+		if (end - start >= 2 && bytecode.charAt(start) == '0'
+				&& (bytecode.charAt(start + 1) == 'x' || bytecode.charAt(start + 1) == 'X'))
+			start += 2;
 
-			if (t != 0) {
-				String push;
-				int offset = (i + 2 + 2 * t);
-				if (offset > bytecode.length())
-					push = bytecode.substring(i + 2);
-				else
-					push = bytecode.substring(i + 2, (i + 2 + 2 * t));
-
-				addPush(push, t, writer);
-				i += 2 * t;
-			}
+		for (int i = start; i + 2 <= end; i += 2) {
+			int opcode = EVMOpcodeTable.byteAt(bytecode, i);
+			EVMOpcodeTable.Descriptor op = opcode < 0 ? null : EVMOpcodeTable.get(opcode);
 
+			if (op == null)
+				writer.append('\'').append(bytecode, i, i + 2).append("'(Unknown Opcode)\n");
+			else if (op.getPushWidth() == 0)
+				writer.append(op.getMnemonic()).append('\n');
 			else {
-				if (!addOpcode(opcode, writer))
-					break;
+				// a truncated push is written with the available data only
+				int last = Math.min(i + 2 + 2 * op.getPushWidth(), end);
+				if (last > i + 2)
+					writer.append(op.getMnemonic()).append(" 0x").append(bytecode, i + 2, last);
+				writer.append('\n');
+				i += 2 * op.getPushWidth();
 			}
 		}
-
-		writer.close();
 	}
 
 	/**
@@ -187,478 +212,86 @@ public class EVMFrontend {
 	}
 
 	/**
-	 * Helper method that maps the EVM opcodes to their corresponding
-	 * instruction.
+	 * Takes the smart contract bytecode and generates its control flow graph,
+	 * which is then returned as a LiSA {@code Program}. Differently from
+	 * {@link #generateCfgFromFile(String)}, the bytecode is decoded directly,
+	 * without writing and parsing its mnemonic representation.
 	 *
-	 * @param opcode
-	 * @param writer
+	 * @param bytecode the hexadecimal bytecode of the smart contract
+	 * @param name     the name of the generated control flow graph
 	 *
-	 * @throws IOException if an I/O error occurs while writing to the input
-	 *                         file
+	 * @return a LiSA {@code Program} representing the generated control flow
+	 *             graph
 	 */
-	private static boolean addOpcode(String opcode, Writer writer) throws IOException {
-		switch (opcode) {
-		case "00":
-			writer.write("STOP\n");
-			break;
-		case "01":
-			writer.write("ADD\n");
-			break;
-		case "02":
-			writer.write("MUL\n");
-			break;
-		case "03":
-			writer.write("SUB\n");
-			break;
-		case "04":
-			writer.write("DIV\n");
-			break;
-		case "05":
-			writer.write("SDIV\n");
-			break;
-		case "06":
-			writer.write("MOD\n");
-			break;
-		case "07":
-			writer.write("SMOD\n");
-			break;
-		case "08":
-			writer.write("ADDMOD\n");
-			break;
-		case "09":
-			writer.write("MULMOD\n");
-			break;
-		case "0a":
-			writer.write("EXP\n");
-			break;
-		case "0b":
-			writer.write("SIGNEXTEND\n");
-			break;
-		case "10":
-			writer.write("LT\n");
-			break;
-		case "11":
-			writer.write("GT\n");
-			break;
-		case "12":
-			writer.write("SLT\n");
-			break;
-		case "13":
-			writer.write("SGT\n");
-			break;
-		case "14":
-			writer.write("EQ\n");
-			break;
-		case "15":
-			writer.write("ISZERO\n");
-			break;
-		case "16":
-			writer.write("AND\n");
-			break;
-		case "17":
-			writer.write("OR\n");
-			break;
-		case "18":
-			writer.write("XOR\n");
-			break;
-		case "19":
-			writer.write("NOT\n");
-			break;
-		case "1a":
-			writer.write("BYTE\n");
-			break;
-		case "1b":
-			writer.write("SHL\n");
-			break;
-		case "1c":
-			writer.write("SHR\n");
-			break;
-		case "1d":
-			writer.write("SAR\n");
-			break;
-		case "20":
-			writer.write("SHA3\n");
-			break;
-		case "30":
-			writer.write("ADDRESS\n");
-			break;
-		case "31":
-			writer.write("BALANCE\n");
-			break;
-		case "32":
-			writer.write("ORIGIN\n");
-			break;
-		case "33":
-			writer.write("CALLER\n");
-			break;
-		case "34":
-			writer.write("CALLVALUE\n");
-			break;
-		case "35":
-			writer.write("CALLDATALOAD\n");
-			break;
-		case "36":
-			writer.write("CALLDATASIZE\n");
-			break;
-		case "37":
-			writer.write("CALLDATACOPY\n");
-			break;
-		case "38":
-			writer.write("CODESIZE\n");
-			break;
-		case "39":
-			writer.write("CODECOPY\n");
-			break;
-		case "3a":
-			writer.write("GASPRICE\n");
-			break;
-		case "3b":
-			writer.write("EXTCODESIZE\n");
-			break;
-		case "3c":
-			writer.write("EXTCODECOPY\n");
-			break;
-		case "3d":
-			writer.write("RETURNDATASIZE\n");
-			break;
-		case "3e":
-			writer.write("RETURNDATACOPY\n");
-			break;
-		case "3f":
-			writer.write("EXTCODEHASH\n");
-			break;
-		case "40":
-			writer.write("BLOCKHASH\n");
-			break;
-		case "41":
-			writer.write("COINBASE\n");
-			break;
-		case "42":
-			writer.write("TIMESTAMP\n");
-			break;
-		case "43":
-			writer.write("NUMBER\n");
-			break;
-		case "44":
-			writer.write("DIFFICULTY\n");
-			break;
-		case "45":
-			writer.write("GASLIMIT\n");
-			break;
-		case "46":
-			writer.write("CHAINID\n");
-			break;
-		case "47":
-			writer.write("SELFBALANCE\n");
-			break;
-		case "48":
-			writer.write("BASEFEE\n");
-			break;
-		case "49":
-			writer.write("BLOBHASH\n");
-			break;
-		case "4a":
-			writer.write("BLOBBASEFEE\n");
-			break;
-		case "4f":
-			writer.write("INVALID\n");
-			break;
-		case "50":
-			writer.write("POP\n");
-			break;
-		case "5c":
-			writer.write("TLOAD\n");
-			break;
-		case "5d":
-			writer.write("TSTORE\n");
-			break;
-		case "51":
-			writer.write("MLOAD\n");
-			break;
-		case "52":
-			writer.write("MSTORE\n");
-			break;
-		case "53":
-			writer.write("MSTORE8\n");
-			break;
-		case "54":
-			writer.write("SLOAD\n");
-			break;
-		case "55":
-			writer.write("SSTORE\n");
-			break;
-		case "56":
-			writer.write("JUMP\n");
-			break;
-		case "57":
-			writer.write("JUMPI\n");
-			break;
-		case "58":
-			writer.write("PC\n");
-			break;
-		case "59":
-			writer.write("MSIZE\n");
-			break;
-		case "5a":
-			writer.write("GAS\n");
-			break;
-		case "5b":
-			writer.write("JUMPDEST\n");
-			break;
-		case "5e":
-			writer.write("MCOPY\n");
-			break;
-		case "5f":
-			writer.write("PUSH0\n");
-			break;
-		case "80":
-			writer.write("DUP1\n");
-			break;
-		case "81":
-			writer.write("DUP2\n");
-			break;
-		case "82":
-			writer.write("DUP3\n");
-			break;
-		case "83":
-			writer.write("DUP4\n");
-			break;
-		case "84":
-			writer.write("DUP5\n");
-			break;
-		case "85":
-			writer.write("DUP6\n");
-			break;
-		case "86":
-			writer.write("DUP7\n");
-			break;
-		case "87":
-			writer.write("DUP8\n");
-			break;
-		case "88":
-			writer.write("DUP9\n");
-			break;
-		case "89":
-			writer.write("DUP10\n");
-			break;
-		case "8a":
-			writer.write("DUP11\n");
-			break;
-		case "8b":
-			writer.write("DUP12\n");
-			break;
-		case "8c":
-			writer.write("DUP13\n");
-			break;
-		case "8d":
-			writer.write("DUP14\n");
-			break;
-		case "8e":
-			writer.write("DUP15\n");
-			break;
-		case "8f":
-			writer.write("DUP16\n");
-			break;
-		case "90":
-			writer.write("SWAP1\n");
-			break;
-		case "91":
-			writer.write("SWAP2\n");
-			break;
-		case "92":
-			writer.write("SWAP3\n");
-			break;
-		case "93":
-			writer.write("SWAP4\n");
-			break;
-		case "94":
-			writer.write("SWAP5\n");
-			break;
-		case "95":
-			writer.write("SWAP6\n");
-			break;
-		case "96":
-			writer.write("SWAP7\n");
-			break;
-		case "97":
-			writer.write("SWAP8\n");
-			break;
-		case "98":
-			writer.write("SWAP9\n");
-			break;
-		case "99":
-			writer.write("SWAP10\n");
-			break;
-		case "9a":
-			writer.write("SWAP11\n");
-			break;
-		case "9b":
-			writer.write("SWAP12\n");
-			break;
-		case "9c":
-			writer.write("SWAP13\n");
-			break;
-		case "9d":
-			writer.write("SWAP14\n");
-			break;
-		case "9e":
-			writer.write("SWAP15\n");
-			break;
-		case "9f":
-			writer.write("SWAP16\n");
-			break;
-		case "a0":
-			writer.write("LOG0\n");
-			break;
-		case "a1":
-			writer.write("LOG1\n");
-			break;
-		case "a2":
-			writer.write("LOG2\n");
-			break;
-		case "a3":
-			writer.write("LOG3\n");
-			break;
-		case "a4":
-			writer.write("LOG4\n");
-			break;
-		case "f0":
-			writer.write("CREATE\n");
-			break;
-		case "f1":
-			writer.write("CALL\n");
-			break;
-		case "f2":
-			writer.write("CALLCODE\n");
-			break;
-		case "f3":
-			writer.write("RETURN\n");
-			break;
-		case "f4":
-			writer.write("DELEGATECALL\n");
-			break;
-		case "f5":
-			writer.write("CREATE2\n");
-			break;
-		case "fa":
-			writer.write("STATICCALL\n");
-			break;
-		case "fd":
-			writer.write("REVERT\n");
-			break;
-		case "fe":
-			writer.write("INVALID\n");
-			break;
-		case "ff":
-			writer.write("SELFDESTRUCT\n");
-			break;
-		default:
-			writer.write("'" + opcode + "'" + "(Unknown Opcode)\n");
-			break;
+	public static Program generateCfgFromBytecode(CharSequence bytecode, String name) {
+		if (bytecode == null || bytecode.length() == 0) {
+			System.err.println(
+					JSONManager.throwNewError("Couldn't generate CFG from bytecode. Bytecode is null or empty."));
+			System.exit(1);
 		}
 
-		return true;
+		Program program = new Program(new EVMLiSAFeatures(), new EVMLiSATypeSystem());
+		EVMCFGGenerator cfgGenerator = new EVMCFGGenerator(name, program);
+
+		CFG cfg = cfgGenerator.visitBytecode(bytecode);
+		program.addCodeMember(cfg);
+
+		return program;
 	}
 
 	/**
-	 * Helper method that determines if an opcode is a PUSH instruction and
-	 * returns the number of bytes to push onto the stack.
+	 * Takes the smart contract bytecode stored in {@code bytecodePath} and
+	 * generates its control flow graph, which is then returned as a LiSA
+	 * {@code Program}. The file is memory-mapped and decoded in place, without
+	 * copying its content into a string.
 	 *
-	 * @param opcode the hexadecimal opcode string to test
-	 * 
-	 * @return the number of bytes to push if it's a PUSH instruction, 0
-	 *             otherwise
+	 * @param bytecodePath the path of the file containing the hexadecimal
+	 *                         bytecode of the smart contract
+	 * @param name         the name of the generated control flow graph
+	 *
+	 * @return a LiSA {@code Program} representing the generated control flow
+	 *             graph
+	 *
+	 * @throws IOException if an I/O error occurs while mapping the file
 	 */
-	private static int pushTest(String opcode) {
-		switch (opcode) {
-		case "60":
-			return 1;
-		case "61":
-			return 2;
-		case "62":
-			return 3;
-		case "63":
-			return 4;
-		case "64":
-			return 5;
-		case "65":
-			return 6;
-		case "66":
-			return 7;
-		case "67":
-			return 8;
-		case "68":
-			return 9;
-		case "69":
-			return 10;
-		case "6a":
-			return 11;
-		case "6b":
-			return 12;
-		case "6c":
-			return 13;
-		case "6d":
-			return 14;
-		case "6e":
-			return 15;
-		case "6f":
-			return 16;
-		case "70":
-			return 17;
-		case "71":
-			return 18;
-		case "72":
-			return 19;
-		case "73":
-			return 20;
-		case "74":
-			return 21;
-		case "75":
-			return 22;
-		case "76":
-			return 23;
-		case "77":
-			return 24;
-		case "78":
-			return 25;
-		case "79":
-			return 26;
-		case "7a":
-			return 27;
-		case "7b":
-			return 28;
-		case "7c":
-			return 29;
-		case "7d":
-			return 30;
-		case "7e":
-			return 31;
-		case "7f":
-			return 32;
-		default:
-			return 0;
+	public static Program generateCfgFromBytecodeFile(Path bytecodePath, String name) throws IOException {
+		try (FileChannel channel = FileChannel.open(bytecodePath, StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return generateCfgFromBytecode(new AsciiSequence(buffer), name);
 		}
 	}
 
 	/**
-	 * Writes a PUSH instruction and its associated data to the output writer.
-	 * Formats the push data as a hexadecimal string with "0x" prefix and writes
-	 * it in the format "PUSH[n] 0x[data]" where n is the number of bytes.
-	 *
-	 * @param push   the hexadecimal data to be pushed (without "0x" prefix)
-	 * @param n      the number of bytes being pushed (1-32)
-	 * @param writer the Writer object to write the formatted instruction to
-	 * 
-	 * @throws IOException if an I/O error occurs while writing
+	 * Read-only view of a buffer of ASCII characters as a character sequence.
 	 */
-	private static void addPush(String push, int n, Writer writer) throws IOException {
-		for (int i = 0; i < push.length(); i += 2) {
-			if (i == 0) {
-				writer.write("PUSH" + n + " " + "0x");
-			}
-			String code = push.substring(i, i + 2);
-			writer.write(code);
+	private static final class AsciiSequence implements CharSequence {
+
+		private final ByteBuffer buffer;
+
+		private AsciiSequence(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int length() {
+			return buffer.limit();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (buffer.get(index) & 0xff);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return new AsciiSequence(buffer.duplicate().position(start).limit(end).slice());
+		}
+
+		@Override
+		public String toString() {
+			byte[] bytes = new byte[buffer.limit()];
+			buffer.duplicate().position(0).get(bytes);
+			return new String(bytes, StandardCharsets.US_ASCII);
 		}
-		writer.write("\n");
 	}
-}
\ No newline at end of file
+}
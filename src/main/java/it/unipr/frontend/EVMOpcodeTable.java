@@ -0,0 +1,315 @@
+package it.unipr.frontend;
+
+import it.unipr.cfg.*;
+import it.unipr.cfg.Byte;
+import it.unipr.cfg.push.Push0;
+import it.unipr.cfg.push.Push10;
+import it.unipr.cfg.push.Push11;
+import it.unipr.cfg.push.Push12;
+import it.unipr.cfg.push.Push13;
+import it.unipr.cfg.push.Push14;
+import it.unipr.cfg.push.Push15;
+import it.unipr.cfg.push.Push16;
+import it.unipr.cfg.push.Push17;
+import it.unipr.cfg.push.Push18;
+import it.unipr.cfg.push.Push19;
+import it.unipr.cfg.push.Push1;
+import it.unipr.cfg.push.Push20;
+import it.unipr.cfg.push.Push21;
+import it.unipr.cfg.push.Push22;
+import it.unipr.cfg.push.Push23;
+import it.unipr.cfg.push.Push24;
+import it.unipr.cfg.push.Push25;
+import it.unipr.cfg.push.Push26;
+import it.unipr.cfg.push.Push27;
+import it.unipr.cfg.push.Push28;
+import it.unipr.cfg.push.Push29;
+import it.unipr.cfg.push.Push2;
+import it.unipr.cfg.push.Push30;
+import it.unipr.cfg.push.Push31;
+import it.unipr.cfg.push.Push32;
+import it.unipr.cfg.push.Push3;
+import it.unipr.cfg.push.Push4;
+import it.unipr.cfg.push.Push5;
+import it.unipr.cfg.push.Push6;
+import it.unipr.cfg.push.Push7;
+import it.unipr.cfg.push.Push8;
+import it.unipr.cfg.push.Push9;
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.CodeLocation;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.function.BiFunction;
+
+/**
+ * Table of the EVM opcodes, directly indexed by their byte value. Each entry
+ * describes the mnemonic of the opcode, the number of bytes of its immediate
+ * (for PUSH instructions), and how to create the corresponding statement.
+ * Unknown opcodes have no entry.
+ */
+public final class EVMOpcodeTable {
+
+	/**
+	 * Creates the statement of an opcode.
+	 */
+	@FunctionalInterface
+	public interface StatementFactory {
+
+		/**
+		 * Creates the statement of an opcode.
+		 * 
+		 * @param cfg      the CFG the statement belongs to
+		 * @param location the location of the statement
+		 * @param data     the immediate of PUSH instructions, {@code null}
+		 *                     otherwise
+		 * 
+		 * @return the statement of the opcode
+		 */
+		Statement create(CFG cfg, CodeLocation location, HexDecimalLiteral data);
+	}
+
+	/**
+	 * Describes an EVM opcode.
+	 */
+	public static final class Descriptor {
+
+		private final String mnemonic;
+
+		private final int pushWidth;
+
+		private final StatementFactory factory;
+
+		private Descriptor(String mnemonic, int pushWidth, StatementFactory factory) {
+			this.mnemonic = mnemonic;
+			this.pushWidth = pushWidth;
+			this.factory = factory;
+		}
+
+		/**
+		 * Yields the mnemonic of the opcode.
+		 * 
+		 * @return the mnemonic of the opcode
+		 */
+		public String getMnemonic() {
+			return mnemonic;
+		}
+
+		/**
+		 * Yields the number of bytes of the immediate of the opcode, i.e., the
+		 * number of bytes pushed onto the stack by PUSH instructions.
+		 * 
+		 * @return the number of bytes of the immediate, {@code 0} if the
+		 *             opcode has no immediate
+		 */
+		public int getPushWidth() {
+			return pushWidth;
+		}
+
+		/**
+		 * Creates the statement of the opcode.
+		 * 
+		 * @param cfg      the CFG the statement belongs to
+		 * @param location the location of the statement
+		 * @param data     the immediate of PUSH instructions, {@code null}
+		 *                     otherwise
+		 * 
+		 * @return the statement of the opcode
+		 */
+		public Statement create(CFG cfg, CodeLocation location, HexDecimalLiteral data) {
+			return factory.create(cfg, location, data);
+		}
+	}
+
+	private static final Descriptor[] TABLE = new Descriptor[256];
+
+	static {
+		op(0x00, "STOP", Stop::new);
+		op(0x01, "ADD", Add::new);
+		op(0x02, "MUL", Mul::new);
+		op(0x03, "SUB", Sub::new);
+		op(0x04, "DIV", Div::new);
+		op(0x05, "SDIV", Sdiv::new);
+		op(0x06, "MOD", Mod::new);
+		op(0x07, "SMOD", Smod::new);
+		op(0x08, "ADDMOD", Addmod::new);
+		op(0x09, "MULMOD", Mulmod::new);
+		op(0x0a, "EXP", Exp::new);
+		op(0x0b, "SIGNEXTEND", Signextend::new);
+		op(0x10, "LT", Lt::new);
+		op(0x11, "GT", Gt::new);
+		op(0x12, "SLT", Slt::new);
+		op(0x13, "SGT", Sgt::new);
+		op(0x14, "EQ", Eq::new);
+		op(0x15, "ISZERO", Iszero::new);
+		op(0x16, "AND", And::new);
+		op(0x17, "OR", Or::new);
+		op(0x18, "XOR", Xor::new);
+		op(0x19, "NOT", Not::new);
+		op(0x1a, "BYTE", Byte::new);
+		op(0x1b, "SHL", Shl::new);
+		op(0x1c, "SHR", Shr::new);
+		op(0x1d, "SAR", Sar::new);
+		op(0x20, "SHA3", Sha3::new);
+		op(0x30, "ADDRESS", Address::new);
+		op(0x31, "BALANCE", Balance::new);
+		op(0x32, "ORIGIN", Origin::new);
+		op(0x33, "CALLER", Caller::new);
+		op(0x34, "CALLVALUE", Callvalue::new);
+		op(0x35, "CALLDATALOAD", Calldataload::new);
+		op(0x36, "CALLDATASIZE", Calldatasize::new);
+		op(0x37, "CALLDATACOPY", Calldatacopy::new);
+		op(0x38, "CODESIZE", Codesize::new);
+		op(0x39, "CODECOPY", Codecopy::new);
+		op(0x3a, "GASPRICE", Gasprice::new);
+		op(0x3b, "EXTCODESIZE", Extcodesize::new);
+		op(0x3c, "EXTCODECOPY", Extcodecopy::new);
+		op(0x3d, "RETURNDATASIZE", Returndatasize::new);
+		op(0x3e, "RETURNDATACOPY", Returndatacopy::new);
+		op(0x3f, "EXTCODEHASH", Extcodehash::new);
+		op(0x40, "BLOCKHASH", Blockhash::new);
+		op(0x41, "COINBASE", Coinbase::new);
+		op(0x42, "TIMESTAMP", Timestamp::new);
+		op(0x43, "NUMBER", Number::new);
+		op(0x44, "DIFFICULTY", Difficulty::new);
+		op(0x45, "GASLIMIT", Gaslimit::new);
+		op(0x46, "CHAINID", Chainid::new);
+		op(0x47, "SELFBALANCE", Selfbalance::new);
+		op(0x48, "BASEFEE", Basefee::new);
+		op(0x49, "BLOBHASH", BlobHash::new);
+		op(0x4a, "BLOBBASEFEE", BlobBaseFee::new);
+		op(0x4f, "INVALID", Invalid::new);
+		op(0x50, "POP", Pop::new);
+		op(0x51, "MLOAD", Mload::new);
+		op(0x52, "MSTORE", Mstore::new);
+		op(0x53, "MSTORE8", Mstore8::new);
+		op(0x54, "SLOAD", Sload::new);
+		op(0x55, "SSTORE", Sstore::new);
+		op(0x56, "JUMP", Jump::new);
+		op(0x57, "JUMPI", Jumpi::new);
+		op(0x58, "PC", Pc::new);
+		op(0x59, "MSIZE", Msize::new);
+		op(0x5a, "GAS", Gas::new);
+		op(0x5b, "JUMPDEST", Jumpdest::new);
+		op(0x5c, "TLOAD", Tload::new);
+		op(0x5d, "TSTORE", Tstore::new);
+		op(0x5e, "MCOPY", Mcopy::new);
+		op(0x5f, "PUSH0", Push0::new);
+		push(0x60, 1, Push1::new);
+		push(0x61, 2, Push2::new);
+		push(0x62, 3, Push3::new);
+		push(0x63, 4, Push4::new);
+		push(0x64, 5, Push5::new);
+		push(0x65, 6, Push6::new);
+		push(0x66, 7, Push7::new);
+		push(0x67, 8, Push8::new);
+		push(0x68, 9, Push9::new);
+		push(0x69, 10, Push10::new);
+		push(0x6a, 11, Push11::new);
+		push(0x6b, 12, Push12::new);
+		push(0x6c, 13, Push13::new);
+		push(0x6d, 14, Push14::new);
+		push(0x6e, 15, Push15::new);
+		push(0x6f, 16, Push16::new);
+		push(0x70, 17, Push17::new);
+		push(0x71, 18, Push18::new);
+		push(0x72, 19, Push19::new);
+		push(0x73, 20, Push20::new);
+		push(0x74, 21, Push21::new);
+		push(0x75, 22, Push22::new);
+		push(0x76, 23, Push23::new);
+		push(0x77, 24, Push24::new);
+		push(0x78, 25, Push25::new);
+		push(0x79, 26, Push26::new);
+		push(0x7a, 27, Push27::new);
+		push(0x7b, 28, Push28::new);
+		push(0x7c, 29, Push29::new);
+		push(0x7d, 30, Push30::new);
+		push(0x7e, 31, Push31::new);
+		push(0x7f, 32, Push32::new);
+		op(0x80, "DUP1", Dup1::new);
+		op(0x81, "DUP2", Dup2::new);
+		op(0x82, "DUP3", Dup3::new);
+		op(0x83, "DUP4", Dup4::new);
+		op(0x84, "DUP5", Dup5::new);
+		op(0x85, "DUP6", Dup6::new);
+		op(0x86, "DUP7", Dup7::new);
+		op(0x87, "DUP8", Dup8::new);
+		op(0x88, "DUP9", Dup9::new);
+		op(0x89, "DUP10", Dup10::new);
+		op(0x8a, "DUP11", Dup11::new);
+		op(0x8b, "DUP12", Dup12::new);
+		op(0x8c, "DUP13", Dup13::new);
+		op(0x8d, "DUP14", Dup14::new);
+		op(0x8e, "DUP15", Dup15::new);
+		op(0x8f, "DUP16", Dup16::new);
+		op(0x90, "SWAP1", Swap1::new);
+		op(0x91, "SWAP2", Swap2::new);
+		op(0x92, "SWAP3", Swap3::new);
+		op(0x93, "SWAP4", Swap4::new);
+		op(0x94, "SWAP5", Swap5::new);
+		op(0x95, "SWAP6", Swap6::new);
+		op(0x96, "SWAP7", Swap7::new);
+		op(0x97, "SWAP8", Swap8::new);
+		op(0x98, "SWAP9", Swap9::new);
+		op(0x99, "SWAP10", Swap10::new);
+		op(0x9a, "SWAP11", Swap11::new);
+		op(0x9b, "SWAP12", Swap12::new);
+		op(0x9c, "SWAP13", Swap13::new);
+		op(0x9d, "SWAP14", Swap14::new);
+		op(0x9e, "SWAP15", Swap15::new);
+		op(0x9f, "SWAP16", Swap16::new);
+		op(0xa0, "LOG0", Log0::new);
+		op(0xa1, "LOG1", Log1::new);
+		op(0xa2, "LOG2", Log2::new);
+		op(0xa3, "LOG3", Log3::new);
+		op(0xa4, "LOG4", Log4::new);
+		op(0xf0, "CREATE", Create::new);
+		op(0xf1, "CALL", Call::new);
+		op(0xf2, "CALLCODE", Callcode::new);
+		op(0xf3, "RETURN", Return::new);
+		op(0xf4, "DELEGATECALL", Delegatecall::new);
+		op(0xf5, "CREATE2", Create2::new);
+		op(0xfa, "STATICCALL", Staticcall::new);
+		op(0xfd, "REVERT", Revert::new);
+		op(0xfe, "INVALID", Invalid::new);
+		op(0xff, "SELFDESTRUCT", Selfdestruct::new);
+	}
+
+	private EVMOpcodeTable() {
+	}
+
+	private static void op(int opcode, String mnemonic, BiFunction<CFG, CodeLocation, Statement> factory) {
+		TABLE[opcode] = new Descriptor(mnemonic, 0, (cfg, location, data) -> factory.apply(cfg, location));
+	}
+
+	private static void push(int opcode, int width, StatementFactory factory) {
+		TABLE[opcode] = new Descriptor("PUSH" + width, width, factory);
+	}
+
+	/**
+	 * Yields the descriptor of the given opcode.
+	 * 
+	 * @param opcode the byte value of the opcode
+	 * 
+	 * @return the descriptor of the opcode, or {@code null} if the opcode is
+	 *             unknown
+	 */
+	public static Descriptor get(int opcode) {
+		return TABLE[opcode & 0xff];
+	}
+
+	/**
+	 * Decodes the byte written with two hexadecimal digits at the given
+	 * position of a bytecode.
+	 * 
+	 * @param bytecode the hexadecimal bytecode
+	 * @param i        the position of the first digit
+	 * 
+	 * @return the value of the byte, or {@code -1} if the two characters are
+	 *             not hexadecimal digits
+	 */
+	public static int byteAt(CharSequence bytecode, int i) {
+		int high = Character.digit(bytecode.charAt(i), 16);
+		int low = Character.digit(bytecode.charAt(i + 1), 16);
+		return high < 0 || low < 0 ? -1 : (high << 4) | low;
+	}
+}
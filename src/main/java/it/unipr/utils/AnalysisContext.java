@@ -0,0 +1,162 @@
+package it.unipr.utils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.collections4.map.LRUMap;
+
+/**
+ * The data produced while analyzing a single smart contract: the warnings
+ * raised by the checkers and the reachability queries answered on its CFG.
+ * Each {@link it.unipr.cfg.EVMCFG} owns its context, hence the results of
+ * different contracts can never be mixed up, and the threads analyzing
+ * different contracts never contend on the same locks. Data that is truly
+ * shared among contracts lives in {@link MyCache}.
+ */
+public class AnalysisContext {
+
+	/**
+	 * The maximum number of reachability queries retained.
+	 */
+	private static final int REACHABILITY_CACHE_SIZE = 5000;
+
+	private final LRUMap<String, Boolean> _reachableFrom;
+
+	private final Set<Object> _reentrancyWarnings;
+
+	private final Set<Object> _txOriginWarnings;
+	private final Set<Object> _possibleTxOriginWarnings;
+
+	private final Set<Object> _randomnessDependencyWarnings;
+	private final Set<Object> _possibleRandomnessDependencyWarnings;
+
+	/**
+	 * Builds an empty context.
+	 */
+	public AnalysisContext() {
+		this._reachableFrom = new LRUMap<>(REACHABILITY_CACHE_SIZE);
+
+		this._reentrancyWarnings = ConcurrentHashMap.newKeySet();
+
+		this._txOriginWarnings = ConcurrentHashMap.newKeySet();
+		this._possibleTxOriginWarnings = ConcurrentHashMap.newKeySet();
+
+		this._randomnessDependencyWarnings = ConcurrentHashMap.newKeySet();
+		this._possibleRandomnessDependencyWarnings = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * Records the result of a reachability query.
+	 *
+	 * @param key             the key identifying the query
+	 * @param isReachableFrom {@code true} if the target of the query is
+	 *                            reachable, {@code false} otherwise
+	 */
+	public void addReachableFrom(String key, boolean isReachableFrom) {
+		synchronized (_reachableFrom) {
+			_reachableFrom.put(key, isReachableFrom);
+		}
+	}
+
+	/**
+	 * Yields the result of a reachability query, if recorded.
+	 *
+	 * @param key the key identifying the query
+	 *
+	 * @return the result of the query, or {@code null} if it is not recorded
+	 */
+	public Boolean getReachableFrom(String key) {
+		synchronized (_reachableFrom) {
+			return _reachableFrom.get(key);
+		}
+	}
+
+	/**
+	 * Adds a reentrancy warning.
+	 *
+	 * @param warning the warning object to be added
+	 */
+	public void addReentrancyWarning(Object warning) {
+		_reentrancyWarnings.add(warning);
+	}
+
+	/**
+	 * Yields the number of distinct reentrancy warnings.
+	 *
+	 * @return the number of warnings
+	 */
+	public int getReentrancyWarnings() {
+		return _reentrancyWarnings.size();
+	}
+
+	/**
+	 * Adds a tx origin warning.
+	 *
+	 * @param warning the warning object to be added
+	 */
+	public void addTxOriginWarning(Object warning) {
+		_txOriginWarnings.add(warning);
+	}
+
+	/**
+	 * Yields the number of distinct tx origin warnings.
+	 *
+	 * @return the number of warnings
+	 */
+	public int getTxOriginWarnings() {
+		return _txOriginWarnings.size();
+	}
+
+	/**
+	 * Adds a possible tx origin warning.
+	 *
+	 * @param warning the warning object to be added
+	 */
+	public void addPossibleTxOriginWarning(Object warning) {
+		_possibleTxOriginWarnings.add(warning);
+	}
+
+	/**
+	 * Yields the number of distinct possible tx origin warnings.
+	 *
+	 * @return the number of warnings
+	 */
+	public int getPossibleTxOriginWarnings() {
+		return _possibleTxOriginWarnings.size();
+	}
+
+	/**
+	 * Adds a randomness dependency warning.
+	 *
+	 * @param warning the warning object to be added
+	 */
+	public void addRandomnessDependencyWarning(Object warning) {
+		_randomnessDependencyWarnings.add(warning);
+	}
+
+	/**
+	 * Yields the number of distinct randomness dependency warnings.
+	 *
+	 * @return the number of warnings
+	 */
+	public int getRandomnessDependencyWarnings() {
+		return _randomnessDependencyWarnings.size();
+	}
+
+	/**
+	 * Adds a possible randomness dependency warning.
+	 *
+	 * @param warning the warning object to be added
+	 */
+	public void addPossibleRandomnessDependencyWarning(Object warning) {
+		_possibleRandomnessDependencyWarnings.add(warning);
+	}
+
+	/**
+	 * Yields the number of distinct possible randomness dependency warnings.
+	 *
+	 * @return the number of warnings
+	 */
+	public int getPossibleRandomnessDependencyWarnings() {
+		return _possibleRandomnessDependencyWarnings.size();
+	}
+}
@@ -0,0 +1,174 @@
+package it.unipr.utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Append-only log of the contracts whose analysis has been completed by a
+ * batch run, one address per line. Each entry is forced to disk before
+ * {@link #markCompleted(String)} returns, hence a run killed at any point
+ * (e.g., by a wall-clock limit) can be restarted skipping exactly the
+ * contracts already analyzed. The first line of the log identifies the set of
+ * contracts of the batch and the configuration of the analysis (see
+ * {@link #identify(Collection, String)}), so that a log left by a run over a
+ * different set, or with different options, is never resumed. The log is
+ * deleted once the batch ends.
+ */
+public class CheckpointLog implements Closeable {
+
+	/**
+	 * The prefix of the first line of the log, followed by the identity of
+	 * the batch.
+	 */
+	private static final String INPUT_PREFIX = "# input ";
+
+	private final Path path;
+	private final FileChannel channel;
+
+	private CheckpointLog(Path path, String input) throws IOException {
+		this.path = path;
+		Files.createDirectories(path.toAbsolutePath().getParent());
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+		if (channel.size() == 0)
+			append(INPUT_PREFIX + input);
+	}
+
+	/**
+	 * Opens the log at the given path, creating it if it does not exist.
+	 *
+	 * @param path  the path of the log
+	 * @param input the identity of the batch, recorded if the log is created
+	 *
+	 * @return the log
+	 *
+	 * @throws IOException if the log cannot be opened
+	 */
+	public static CheckpointLog open(Path path, String input) throws IOException {
+		return new CheckpointLog(path, input);
+	}
+
+	/**
+	 * Yields the identity of a batch over the given contracts, analyzed with
+	 * the given configuration, i.e., the SHA-256 digest of their addresses,
+	 * in order, and of the configuration.
+	 *
+	 * @param addresses     the addresses of the contracts of the batch
+	 * @param configuration the description of the options of the analysis
+	 *                          that affect its results
+	 *
+	 * @return the identity of the batch
+	 */
+	public static String identify(Collection<String> addresses, String configuration) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+
+		for (String address : addresses)
+			digest.update((address + "\n").getBytes(StandardCharsets.UTF_8));
+		digest.update(("\n" + configuration).getBytes(StandardCharsets.UTF_8));
+
+		StringBuilder hex = new StringBuilder();
+		for (byte b : digest.digest())
+			hex.append(String.format("%02x", b));
+		return hex.toString();
+	}
+
+	/**
+	 * Yields whether the log at the given path has been left by a batch with
+	 * the given identity.
+	 *
+	 * @param path  the path of the log
+	 * @param input the identity of the batch
+	 *
+	 * @return {@code true} if the log exists and belongs to {@code input},
+	 *             {@code false} otherwise
+	 *
+	 * @throws IOException if the log cannot be read
+	 */
+	public static boolean belongsTo(Path path, String input) throws IOException {
+		if (!Files.exists(path))
+			return false;
+
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			return (INPUT_PREFIX + input).equals(reader.readLine());
+		}
+	}
+
+	/**
+	 * Reads the addresses of the contracts completed by a previous, unfinished
+	 * run over the same batch. A truncated last line, written while the run
+	 * was killed, is ignored.
+	 *
+	 * @param path  the path of the log
+	 * @param input the identity of the batch
+	 *
+	 * @return the completed addresses, empty if there is no log or it belongs
+	 *             to another batch
+	 *
+	 * @throws IOException if the log cannot be read
+	 */
+	public static Set<String> readCompleted(Path path, String input) throws IOException {
+		Set<String> completed = new HashSet<>();
+		if (!belongsTo(path, input))
+			return completed;
+
+		String content = Files.readString(path, StandardCharsets.UTF_8);
+		for (String line : content.substring(0, content.lastIndexOf('\n') + 1).split("\n"))
+			if (!line.isBlank() && !line.startsWith(INPUT_PREFIX))
+				completed.add(line.trim());
+
+		return completed;
+	}
+
+	/**
+	 * Records that the analysis of the given contract has been completed, and
+	 * forces the record to disk.
+	 *
+	 * @param address the address of the contract
+	 *
+	 * @throws IOException if the record cannot be written
+	 */
+	public synchronized void markCompleted(String address) throws IOException {
+		append(address.trim());
+	}
+
+	private void append(String line) throws IOException {
+		ByteBuffer record = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+		while (record.hasRemaining())
+			channel.write(record);
+		channel.force(false);
+	}
+
+	/**
+	 * Closes and deletes the log, to be called once the batch has ended.
+	 *
+	 * @throws IOException if the log cannot be deleted
+	 */
+	public synchronized void delete() throws IOException {
+		close();
+		Files.deleteIfExists(path);
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel.isOpen())
+			channel.close();
+	}
+}
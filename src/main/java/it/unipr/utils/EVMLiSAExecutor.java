@@ -2,6 +2,9 @@ package it.unipr.utils;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -11,13 +14,32 @@ public class EVMLiSAExecutor {
 	private static int CORES = (Runtime.getRuntime().availableProcessors() > 1)
 			? Runtime.getRuntime().availableProcessors() - 1
 			: 1;
-	private static ExecutorService _executor = Executors.newFixedThreadPool(CORES);
+	private static ExecutorService _executor = newPool(CORES);
 
 	private static long tasksInQueue = 0;
 	@SuppressWarnings("unused")
 	private static long tasksExecuted = 0;
 	private static long tasksTimedOut = 0;
 
+	/**
+	 * The time, in nanoseconds, spent by each worker running tasks.
+	 */
+	private static final Map<String, LongAdder> busyTimes = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds a work-stealing pool with the given parallelism. Tasks are
+	 * scheduled in FIFO order, so that the submission order is preserved as
+	 * much as possible (see
+	 * {@link #submitLongestFirst(Collection, ToLongFunction, Consumer)}).
+	 *
+	 * @param parallelism the number of workers
+	 * 
+	 * @return the pool
+	 */
+	private static ExecutorService newPool(int parallelism) {
+		return new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+	}
+
 	/**
 	 * Submits a task for execution in the thread pool.
 	 *
@@ -41,7 +63,33 @@ public class EVMLiSAExecutor {
 		List<Future<?>> futures = new ArrayList<>();
 
 		for (Runnable task : tasks)
-			futures.add(submit(new EVMLiSAExecutorTask(task)));
+			futures.add(submit(task));
+
+		return futures;
+	}
+
+	/**
+	 * Submits a task for each of the given items, in decreasing order of
+	 * estimated cost. Starting the most expensive tasks first prevents a few
+	 * expensive tasks submitted late from dominating the makespan, while the
+	 * cheap ones fill the remaining gaps of the workers.
+	 *
+	 * @param <T>    the type of the items
+	 * @param items  the items to be processed
+	 * @param cost   the estimated cost of processing an item
+	 * @param action the processing of an item
+	 * 
+	 * @return a list of Future objects representing the pending results of the
+	 *             tasks, in submission order
+	 */
+	public static <T> List<Future<?>> submitLongestFirst(Collection<T> items, ToLongFunction<T> cost,
+			Consumer<T> action) {
+		List<T> sorted = new ArrayList<>(items);
+		sorted.sort(Comparator.comparingLong(cost).reversed());
+
+		List<Future<?>> futures = new ArrayList<>(sorted.size());
+		for (T item : sorted)
+			futures.add(submit(() -> action.accept(item)));
 
 		return futures;
 	}
@@ -175,13 +223,49 @@ public class EVMLiSAExecutor {
 
 		shutdown();
 		CORES = Math.max(cores, 1);
-		_executor = Executors.newFixedThreadPool(CORES);
+		_executor = newPool(CORES);
 	}
 
 	public static int getCoresAvailable() {
 		return CORES;
 	}
 
+	/**
+	 * Returns the number of tasks submitted and not completed yet, including
+	 * the running ones.
+	 *
+	 * @return the number of pending tasks
+	 */
+	public static synchronized long getQueueDepth() {
+		return tasksInQueue;
+	}
+
+	/**
+	 * Returns the time spent by each worker running tasks.
+	 *
+	 * @return the busy time, in milliseconds, of each worker
+	 */
+	public static Map<String, Long> getWorkerBusyTimes() {
+		Map<String, Long> result = new TreeMap<>();
+		busyTimes.forEach((worker, time) -> result.put(worker, TimeUnit.NANOSECONDS.toMillis(time.sum())));
+		return result;
+	}
+
+	/**
+	 * Logs the utilisation of each worker, i.e., the fraction of the given
+	 * time it spent running tasks, and resets the busy times.
+	 *
+	 * @param elapsed the wall-clock time, in milliseconds, of the tasks
+	 */
+	public static void logUtilisation(long elapsed) {
+		if (elapsed <= 0)
+			return;
+
+		getWorkerBusyTimes().forEach((worker, busy) -> log.info("Worker {}: busy {} ms, utilisation {}%.", worker,
+				busy, String.format("%.1f", 100.0 * busy / elapsed)));
+		busyTimes.clear();
+	}
+
 	/**
 	 * A private static class that wraps a {@link Runnable} task and manages
 	 * task execution tracking. It increments the count of tasks in the queue
@@ -210,7 +294,13 @@ public class EVMLiSAExecutor {
 		 */
 		@Override
 		public void run() {
-			task.run();
+			long start = System.nanoTime();
+			try {
+				task.run();
+			} finally {
+				busyTimes.computeIfAbsent(Thread.currentThread().getName(), k -> new LongAdder())
+						.add(System.nanoTime() - start);
+			}
 
 			synchronized (EVMLiSAExecutor.class) {
 				--tasksInQueue;
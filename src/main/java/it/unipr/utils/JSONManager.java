@@ -12,7 +12,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -95,25 +94,6 @@ public class JSONManager {
 		return groundTruthData;
 	}
 
-	/**
-	 * Aggregates a list of smart contracts into a single JSON object.
-	 *
-	 * @param contracts the list of smart contracts to aggregate
-	 * 
-	 * @return a JSON object containing the aggregated contracts
-	 */
-	public static JSONObject aggregateSmartContractsToJson(List<SmartContract> contracts) {
-		JSONObject aggregatedJson = new JSONObject();
-		JSONArray contractsArray = new JSONArray();
-
-		for (SmartContract contract : contracts)
-			if (contract != null)
-				contractsArray.put(contract.toJson());
-
-		aggregatedJson.put("smart_contracts", contractsArray);
-		return aggregatedJson;
-	}
-
 	/**
 	 * Converts the basic blocks of a smart contract into a JSON representation.
 	 *
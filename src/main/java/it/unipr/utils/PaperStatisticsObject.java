@@ -183,7 +183,9 @@ public class PaperStatisticsObject extends StatisticsObject<PaperStatisticsObjec
 	@Override
 	public PaperStatisticsObject build() {
 		return new PaperStatisticsObject(address, totalOpcodes, totalJumps, totalEdges, resolved, unreachable,
-				erroneous, unknown, topState, json);
+				erroneous, unknown, topState, json).budgetExceeded(budgetExceeded)
+				.fixpointIterations(fixpointIterations)
+				.cfgGenerationTime(cfgGenerationTime);
 	}
 
 	@Override
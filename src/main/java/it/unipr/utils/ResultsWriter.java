@@ -0,0 +1,201 @@
+package it.unipr.utils;
+
+import it.unipr.analysis.contract.SmartContract;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Streams the results of a set of smart contracts to disk as soon as each of
+ * them is analyzed, instead of keeping all of them in memory until the end.
+ * Results are appended to a newline-delimited JSON file, one contract per
+ * line, which is then aggregated into the usual {@code results.json} by
+ * {@link #aggregate(Path)}, one line at a time.
+ * <p>
+ * Since every line is a complete record, a file left behind by a crashed run
+ * can be resumed: the truncated tail, if any, is dropped and the new results
+ * are appended after the recovered ones.
+ */
+public class ResultsWriter implements Closeable {
+	private static final Logger log = LogManager.getLogger(ResultsWriter.class);
+
+	private final Path records;
+	private final FileOutputStream stream;
+	private final BufferedWriter writer;
+	private final Set<String> recovered;
+
+	private ResultsWriter(Path records, Set<String> recovered) throws IOException {
+		this.records = records;
+		this.recovered = recovered;
+		this.stream = new FileOutputStream(records.toFile(), true);
+		this.writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Creates a writer on an empty records file, discarding its previous
+	 * content.
+	 *
+	 * @param records the path of the records file
+	 *
+	 * @return the writer
+	 *
+	 * @throws IOException if the file cannot be created
+	 */
+	public static ResultsWriter create(Path records) throws IOException {
+		Files.createDirectories(records.toAbsolutePath().getParent());
+		Files.deleteIfExists(records);
+		return new ResultsWriter(records, Collections.emptySet());
+	}
+
+	/**
+	 * Creates a writer appending to the records file left by a previous run,
+	 * if any. The complete records are kept, while a truncated or corrupted
+	 * record (e.g., the last one of a crashed run) is dropped.
+	 *
+	 * @param records the path of the records file
+	 *
+	 * @return the writer
+	 *
+	 * @throws IOException if the file cannot be read or written
+	 */
+	public static ResultsWriter resume(Path records) throws IOException {
+		return resume(records, null);
+	}
+
+	/**
+	 * Creates a writer appending to the records file left by a previous run,
+	 * if any, keeping only the complete records of the given contracts. This
+	 * drops the records of contracts that must be analyzed again, e.g.,
+	 * because their completion was not checkpointed.
+	 *
+	 * @param records   the path of the records file
+	 * @param completed the addresses of the contracts to keep, {@code null} to
+	 *                      keep all of them
+	 *
+	 * @return the writer
+	 *
+	 * @throws IOException if the file cannot be read or written
+	 */
+	public static ResultsWriter resume(Path records, Set<String> completed) throws IOException {
+		Files.createDirectories(records.toAbsolutePath().getParent());
+		Set<String> recovered = new HashSet<>();
+
+		if (Files.exists(records)) {
+			Path tmp = records.resolveSibling(records.getFileName() + ".tmp");
+			int dropped = 0;
+
+			try (BufferedReader reader = Files.newBufferedReader(records, StandardCharsets.UTF_8);
+					BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.isBlank())
+						continue;
+
+					try {
+						String address = new JSONObject(line).optString("address");
+						if (completed != null && !completed.contains(address)) {
+							dropped++;
+							continue;
+						}
+
+						recovered.add(address);
+						out.write(line);
+						out.newLine();
+					} catch (JSONException e) {
+						dropped++;
+					}
+				}
+			}
+
+			Files.move(tmp, records, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			log.info("Recovered {} results from {} ({} incomplete or unconfirmed records dropped).",
+					recovered.size(), records, dropped);
+		}
+
+		return new ResultsWriter(records, recovered);
+	}
+
+	/**
+	 * Yields the addresses of the contracts whose results have been recovered
+	 * from a previous run.
+	 *
+	 * @return the addresses of the recovered contracts
+	 */
+	public Set<String> getRecoveredAddresses() {
+		return Collections.unmodifiableSet(recovered);
+	}
+
+	/**
+	 * Appends the results of the given contract and forces them to disk.
+	 *
+	 * @param contract the analyzed contract
+	 *
+	 * @throws IOException if the results cannot be written
+	 */
+	public void write(SmartContract contract) throws IOException {
+		// serialize outside the lock: only the append is serialized
+		String record = contract.toJson().toString();
+
+		synchronized (this) {
+			writer.write(record);
+			writer.newLine();
+			writer.flush();
+			stream.getFD().sync();
+		}
+	}
+
+	/**
+	 * Aggregates all the records written so far into a single JSON file,
+	 * holding them in the {@code smart_contracts} array. Records are copied
+	 * one at a time, hence the whole set of results is never in memory.
+	 *
+	 * @param output the path of the aggregated JSON file
+	 *
+	 * @throws IOException if the records cannot be read or the file cannot be
+	 *                         written
+	 */
+	public synchronized void aggregate(Path output) throws IOException {
+		writer.flush();
+
+		try (BufferedReader reader = Files.newBufferedReader(records, StandardCharsets.UTF_8);
+				BufferedWriter out = Files.newBufferedWriter(output, StandardCharsets.UTF_8,
+						StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			out.write("{\"smart_contracts\": [");
+			boolean first = true;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank())
+					continue;
+
+				if (!first)
+					out.write(",");
+				out.newLine();
+				out.write(line);
+				first = false;
+			}
+			out.newLine();
+			out.write("]}");
+			out.newLine();
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		writer.close();
+	}
+}
@@ -185,7 +185,9 @@ public class StandardStatisticsObject extends StatisticsObject<StandardStatistic
 	public StandardStatisticsObject build() {
 		return new StandardStatisticsObject(address, totalOpcodes, totalJumps, totalEdges, resolvedJumps,
 				definitelyUnreachableJumps,
-				maybeUnreachableJumps, unsoundJumps, maybeUnsoundJumps, json);
+				maybeUnreachableJumps, unsoundJumps, maybeUnsoundJumps, json).budgetExceeded(budgetExceeded)
+				.fixpointIterations(fixpointIterations)
+				.cfgGenerationTime(cfgGenerationTime);
 	}
 
 	@Override
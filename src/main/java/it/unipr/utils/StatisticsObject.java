@@ -12,6 +12,9 @@ public abstract class StatisticsObject<T extends StatisticsObject<T>> {
 	protected int totalOpcodes;
 	protected int totalJumps;
 	protected int totalEdges;
+	protected boolean budgetExceeded;
+	protected long fixpointIterations;
+	protected long cfgGenerationTime;
 	protected JSONObject json;
 
 	/**
@@ -82,6 +85,34 @@ public abstract class StatisticsObject<T extends StatisticsObject<T>> {
 		return totalEdges;
 	}
 
+	/**
+	 * Returns whether the analysis budget has been exceeded, i.e., whether the
+	 * results have been widened to top to terminate the analysis.
+	 *
+	 * @return {@code true} if the analysis budget has been exceeded
+	 */
+	public boolean isBudgetExceeded() {
+		return budgetExceeded;
+	}
+
+	/**
+	 * Returns the number of statements evaluated by the fixpoint.
+	 *
+	 * @return the number of fixpoint iterations
+	 */
+	public long getFixpointIterations() {
+		return fixpointIterations;
+	}
+
+	/**
+	 * Returns the time spent generating the CFG.
+	 *
+	 * @return the CFG generation time in milliseconds
+	 */
+	public long getCfgGenerationTime() {
+		return cfgGenerationTime;
+	}
+
 	/**
 	 * Sets the contract address.
 	 *
@@ -134,6 +165,48 @@ public abstract class StatisticsObject<T extends StatisticsObject<T>> {
 		return (T) this;
 	}
 
+	/**
+	 * Sets whether the analysis budget has been exceeded.
+	 *
+	 * @param budgetExceeded whether the analysis budget has been exceeded
+	 * 
+	 * @return the updated {@code StatisticsObject} instance
+	 */
+	@SuppressWarnings("unchecked")
+	public T budgetExceeded(boolean budgetExceeded) {
+		this.budgetExceeded = budgetExceeded;
+		this.json.put("budget_exceeded", budgetExceeded);
+		return (T) this;
+	}
+
+	/**
+	 * Sets the number of statements evaluated by the fixpoint.
+	 *
+	 * @param fixpointIterations the number of fixpoint iterations
+	 * 
+	 * @return the updated {@code StatisticsObject} instance
+	 */
+	@SuppressWarnings("unchecked")
+	public T fixpointIterations(long fixpointIterations) {
+		this.fixpointIterations = fixpointIterations;
+		this.json.put("fixpoint_iterations", fixpointIterations);
+		return (T) this;
+	}
+
+	/**
+	 * Sets the time spent generating the CFG.
+	 *
+	 * @param cfgGenerationTime the CFG generation time in milliseconds
+	 * 
+	 * @return the updated {@code StatisticsObject} instance
+	 */
+	@SuppressWarnings("unchecked")
+	public T cfgGenerationTime(long cfgGenerationTime) {
+		this.cfgGenerationTime = cfgGenerationTime;
+		this.json.put("cfg_generation_time", cfgGenerationTime);
+		return (T) this;
+	}
+
 	/**
 	 * Builds a new {@code StatisticsObject} with the specified values.
 	 *
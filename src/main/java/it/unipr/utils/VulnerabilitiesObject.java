@@ -125,7 +125,7 @@ public class VulnerabilitiesObject {
 	/**
 	 * Builds a {@link VulnerabilitiesObject} from the given EVM control-flow
 	 * graph (CFG). This method retrieves various vulnerability warnings from
-	 * the cache based on the CFG's hash code and compiles them into a
+	 * the analysis context of the CFG and compiles them into a
 	 * {@link VulnerabilitiesObject}.
 	 *
 	 * @param cfg the EVM control-flow graph from which to extract vulnerability
@@ -135,16 +135,13 @@ public class VulnerabilitiesObject {
 	 *             vulnerabilities
 	 */
 	public static VulnerabilitiesObject buildFromCFG(EVMCFG cfg) {
+		AnalysisContext context = cfg.getContext();
 		return VulnerabilitiesObject.newVulnerabilitiesObject()
-				.reentrancy(
-						MyCache.getInstance().getReentrancyWarnings(cfg.hashCode()))
-				.txOrigin(MyCache.getInstance().getTxOriginWarnings(cfg.hashCode()))
-				.possibleTxOrigin(MyCache.getInstance()
-						.getPossibleTxOriginWarnings(cfg.hashCode()))
-				.randomness(MyCache.getInstance()
-						.getRandomnessDependencyWarnings(cfg.hashCode()))
-				.possibleRandomness(MyCache.getInstance()
-						.getPossibleRandomnessDependencyWarnings(cfg.hashCode()))
+				.reentrancy(context.getReentrancyWarnings())
+				.txOrigin(context.getTxOriginWarnings())
+				.possibleTxOrigin(context.getPossibleTxOriginWarnings())
+				.randomness(context.getRandomnessDependencyWarnings())
+				.possibleRandomness(context.getPossibleRandomnessDependencyWarnings())
 				.build();
 	}
 
@@ -0,0 +1,92 @@
+package it.unipr.analysis;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import org.junit.Test;
+
+/**
+ * Checks the edge cases of the EVM arithmetic of {@link UInt256} against a
+ * {@link BigInteger} reference.
+ */
+public class UInt256Test {
+
+	private static final BigInteger MODULUS = BigInteger.ONE.shiftLeft(256);
+	private static final BigInteger MAX = MODULUS.subtract(BigInteger.ONE);
+	private static final BigInteger MIN_SIGNED = BigInteger.ONE.shiftLeft(255);
+
+	private static UInt256 word(BigInteger value) {
+		return UInt256.valueOf(value);
+	}
+
+	private static UInt256 word(long value) {
+		return UInt256.valueOf(value);
+	}
+
+	private static BigInteger signed(BigInteger value) {
+		return value.testBit(255) ? value.subtract(MODULUS) : value;
+	}
+
+	private static BigInteger unsigned(BigInteger value) {
+		return value.mod(MODULUS);
+	}
+
+	@Test
+	public void testExpWrapsAround() {
+		assertEquals(UInt256.ZERO, word(2).pow(word(256)));
+		assertEquals(word(MIN_SIGNED), word(2).pow(word(255)));
+		assertEquals(UInt256.ONE, word(0).pow(word(0)));
+		assertEquals(word(MAX), word(MAX).pow(word(MAX)));
+		assertEquals(word(BigInteger.valueOf(3).modPow(MAX, MODULUS)), word(3).pow(word(MAX)));
+	}
+
+	@Test
+	public void testSignedDivisionOfMinByMinusOne() {
+		assertEquals(word(MIN_SIGNED), word(MIN_SIGNED).sdiv(word(-1)));
+		assertEquals(UInt256.ZERO, word(MIN_SIGNED).smod(word(-1)));
+	}
+
+	@Test
+	public void testSignedDivisionTruncatesTowardsZero() {
+		for (long a : new long[] { -7, 7 })
+			for (long b : new long[] { -2, 2, 3 }) {
+				BigInteger x = BigInteger.valueOf(a), y = BigInteger.valueOf(b);
+				assertEquals(word(unsigned(x.divide(y))), word(a).sdiv(word(b)));
+				// the sign of the remainder is the one of the dividend
+				assertEquals(word(unsigned(x.remainder(y))), word(a).smod(word(b)));
+			}
+
+		assertEquals(UInt256.ZERO, word(5).sdiv(UInt256.ZERO));
+		assertEquals(UInt256.ZERO, word(5).smod(UInt256.ZERO));
+		assertEquals(word(unsigned(signed(MIN_SIGNED).remainder(BigInteger.valueOf(3)))),
+				word(MIN_SIGNED).smod(word(3)));
+	}
+
+	@Test
+	public void testShiftsAtTheWordSize() {
+		assertEquals(UInt256.ONE, word(MIN_SIGNED).shiftRight(255));
+		assertEquals(UInt256.ZERO, word(MIN_SIGNED).shiftRight(256));
+		assertEquals(word(-1), word(MIN_SIGNED).shiftRightArithmetic(255));
+		assertEquals(word(-1), word(MIN_SIGNED).shiftRightArithmetic(256));
+		assertEquals(UInt256.ZERO, word(MAX.shiftRight(1)).shiftRightArithmetic(255));
+		assertEquals(UInt256.ZERO, word(MAX.shiftRight(1)).shiftRightArithmetic(256));
+		assertEquals(word(MIN_SIGNED), UInt256.ONE.shiftLeft(255));
+		assertEquals(UInt256.ZERO, UInt256.ONE.shiftLeft(256));
+	}
+
+	@Test
+	public void testModularArithmeticOverflow() {
+		BigInteger[] moduli = { BigInteger.TEN, MAX, MAX.subtract(BigInteger.ONE), MIN_SIGNED,
+				BigInteger.valueOf(7) };
+		BigInteger[] operands = { MAX, MIN_SIGNED, BigInteger.TWO, MAX.subtract(BigInteger.TEN) };
+		for (BigInteger n : moduli)
+			for (BigInteger a : operands)
+				for (BigInteger b : operands) {
+					assertEquals(word(a.add(b).mod(n)), word(a).addmod(word(b), word(n)));
+					assertEquals(word(a.multiply(b).mod(n)), word(a).mulmod(word(b), word(n)));
+				}
+
+		assertEquals(UInt256.ZERO, word(MAX).addmod(word(MAX), UInt256.ZERO));
+		assertEquals(UInt256.ZERO, word(MAX).mulmod(word(MAX), UInt256.ZERO));
+	}
+}
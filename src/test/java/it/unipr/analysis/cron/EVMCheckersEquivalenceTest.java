@@ -0,0 +1,64 @@
+package it.unipr.analysis.cron;
+
+import static org.junit.Assert.assertEquals;
+
+import it.unipr.EVMLiSA;
+import it.unipr.analysis.contract.SmartContract;
+import it.unipr.checker.JumpSolver;
+import it.unipr.checker.RandomnessDependencyChecker;
+import it.unipr.checker.ReentrancyChecker;
+import it.unipr.checker.TxOriginChecker;
+import it.unipr.utils.VulnerabilitiesObject;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the checkers run in a single pass by
+ * {@link EVMLiSA#runCheckers(SmartContract)} report the same warnings as the
+ * checkers run separately, on the ground-truth contracts.
+ */
+public class EVMCheckersEquivalenceTest {
+
+	@Before
+	public void enableCheckers() {
+		ReentrancyChecker.enableChecker();
+		TxOriginChecker.enableChecker();
+		RandomnessDependencyChecker.enableChecker();
+	}
+
+	@After
+	public void disableCheckers() {
+		ReentrancyChecker.disableChecker();
+		TxOriginChecker.disableChecker();
+		RandomnessDependencyChecker.disableChecker();
+	}
+
+	@Test
+	public void testRunCheckersEqualsSeparateCheckers() throws Exception {
+		List<String> addresses = Files.readAllLines(Paths.get("benchmark", "50-ground-truth.txt")).stream()
+				.map(String::trim)
+				.filter(line -> !line.isEmpty())
+				.collect(Collectors.toList());
+
+		for (String address : addresses) {
+			SmartContract separate = EVMFixpointEquivalenceTest.contractOf(address);
+			separate.setCFG(EVMFixpointEquivalenceTest.analyze(separate).getComputedCFG());
+			EVMLiSA.runReentrancyChecker(separate);
+			EVMLiSA.runTxOriginChecker(separate);
+			EVMLiSA.runRandomnessDependencyChecker(separate);
+			VulnerabilitiesObject expected = VulnerabilitiesObject.buildFromCFG(separate.getCFG());
+
+			SmartContract shared = EVMFixpointEquivalenceTest.contractOf(address);
+			JumpSolver checker = EVMFixpointEquivalenceTest.analyze(shared);
+			EVMFixpointEquivalenceTest.check(shared, checker);
+
+			assertEquals("Different vulnerabilities on " + address, expected.toString(),
+					shared.getVulnerabilities().toString());
+		}
+	}
+}
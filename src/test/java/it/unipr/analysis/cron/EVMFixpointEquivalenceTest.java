@@ -0,0 +1,175 @@
+package it.unipr.analysis.cron;
+
+import static org.junit.Assert.assertEquals;
+
+import it.unipr.EVMLiSA;
+import it.unipr.analysis.EVMAbstractState;
+import it.unipr.analysis.contract.SmartContract;
+import it.unipr.cfg.EVMCFG;
+import it.unipr.cfg.ProgramCounterLocation;
+import it.unipr.checker.JumpSolver;
+import it.unipr.checker.RandomnessDependencyChecker;
+import it.unipr.checker.ReentrancyChecker;
+import it.unipr.checker.TxOriginChecker;
+import it.unipr.frontend.EVMFrontend;
+import it.unipr.utils.LiSAConfigurationManager;
+import it.unive.lisa.LiSA;
+import it.unive.lisa.analysis.AnalysisState;
+import it.unive.lisa.analysis.AnalyzedCFG;
+import it.unive.lisa.analysis.SimpleAbstractState;
+import it.unive.lisa.analysis.heap.MonolithicHeap;
+import it.unive.lisa.analysis.nonrelational.value.TypeEnvironment;
+import it.unive.lisa.analysis.types.InferredTypes;
+import it.unive.lisa.conf.LiSAConfiguration;
+import it.unive.lisa.program.Program;
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Checks that the alternative fixpoint strategies of {@link EVMCFG} compute
+ * the same states as the reference one on the ground-truth contracts.
+ */
+public class EVMFixpointEquivalenceTest {
+
+	private static final Path WORKING_DIRECTORY_PATH = Paths.get("evm-testcases", "ground-truth", "50-ground-truth");
+	private static final Path SMARTCONTRACTS_FULLPATH = Paths.get("benchmark", "50-ground-truth.txt");
+
+	@After
+	public void resetFixpoint() {
+		EVMCFG.setStoreAllStates(false);
+		EVMCFG.setParallelFixpoint(false);
+		EVMCFG.setBlockFixpoint(false);
+		ReentrancyChecker.disableChecker();
+		TxOriginChecker.disableChecker();
+		RandomnessDependencyChecker.disableChecker();
+	}
+
+	@Test
+	public void testHotspotStoreEqualsFullStore() throws Exception {
+		for (String address : readAddresses()) {
+			EVMCFG.setStoreAllStates(true);
+			Map<String, AnalysisState<?>> expected = statesOf(analyze(contractOf(address)));
+
+			EVMCFG.setStoreAllStates(false);
+			Map<String, AnalysisState<?>> actual = statesOf(analyze(contractOf(address)));
+
+			assertEquals("Different states on " + address, expected, actual);
+		}
+	}
+
+	@Test
+	public void testBlockFixpointEqualsStatementFixpoint() throws Exception {
+		for (String address : readAddresses()) {
+			EVMCFG.setStoreAllStates(true);
+			Map<String, AnalysisState<?>> expected = statesOf(analyze(contractOf(address)));
+
+			EVMCFG.setBlockFixpoint(true);
+			Map<String, AnalysisState<?>> actual = statesOf(analyze(contractOf(address)));
+			EVMCFG.setBlockFixpoint(false);
+
+			assertEquals("Different states on " + address, expected, actual);
+		}
+	}
+
+	@Test
+	public void testParallelFixpointEqualsSequential() throws Exception {
+		ReentrancyChecker.enableChecker();
+		TxOriginChecker.enableChecker();
+		RandomnessDependencyChecker.enableChecker();
+		for (String address : readAddresses()) {
+			EVMCFG.setParallelFixpoint(false);
+			SmartContract sequential = contractOf(address);
+			JumpSolver expected = analyze(sequential);
+			check(sequential, expected);
+
+			EVMCFG.setParallelFixpoint(true);
+			SmartContract parallel = contractOf(address);
+			JumpSolver actual = analyze(parallel);
+			check(parallel, actual);
+
+			assertEquals("Different unreachable jumps on " + address,
+					pcsOf(expected.getUnreachableJumps()), pcsOf(actual.getUnreachableJumps()));
+			assertEquals("Different unsound jumps on " + address,
+					pcsOf(expected.getUnsoundJumps()), pcsOf(actual.getUnsoundJumps()));
+			assertEquals("Different maybe unsound jumps on " + address,
+					pcsOf(expected.getMaybeUnsoundJumps()), pcsOf(actual.getMaybeUnsoundJumps()));
+			assertEquals("Different vulnerabilities on " + address,
+					sequential.getVulnerabilities().toString(), parallel.getVulnerabilities().toString());
+		}
+	}
+
+	private static List<String> readAddresses() throws Exception {
+		return Files.readAllLines(SMARTCONTRACTS_FULLPATH).stream()
+				.map(String::trim)
+				.filter(line -> !line.isEmpty())
+				.collect(Collectors.toList());
+	}
+
+	static SmartContract contractOf(String address) {
+		EVMLiSA.setWorkingDirectory(WORKING_DIRECTORY_PATH);
+		return new SmartContract(address);
+	}
+
+	/**
+	 * Builds the CFG of the given contract, as {@link EVMLiSA#buildCFG} does,
+	 * yielding the checker that holds the results.
+	 */
+	static JumpSolver analyze(SmartContract contract) throws Exception {
+		Program program = EVMFrontend.generateCfgFromBytecodeFile(contract.getBytecodePath(),
+				contract.getMnemonicBytecodePath().toString());
+
+		LiSAConfiguration conf = LiSAConfigurationManager.createConfiguration(contract);
+		JumpSolver checker = new JumpSolver();
+		conf.semanticChecks.add(checker);
+
+		if (EVMCFG.isParallelFixpoint())
+			for (CFG cfg : program.getAllCFGs())
+				((EVMCFG) cfg).setFunctionEntryPoints(contract.findFunctionsEntryPoints((EVMCFG) cfg));
+
+		new LiSA(conf).run(program);
+		return checker;
+	}
+
+	/**
+	 * Runs the enabled checkers on the CFG built by the given solver.
+	 */
+	static void check(SmartContract contract, JumpSolver checker) {
+		contract.setCFG(checker.getComputedCFG());
+		contract.setAnalysisResults(checker.getAnalysisResults());
+		EVMLiSA.runCheckers(contract);
+	}
+
+	static Set<Integer> pcsOf(Set<Statement> statements) {
+		Set<Integer> pcs = new TreeSet<>();
+		for (Statement st : statements)
+			pcs.add(((ProgramCounterLocation) st.getLocation()).getPc());
+		return pcs;
+	}
+
+	/**
+	 * Yields the states before and after each statement of the analyzed CFG,
+	 * keyed by program counter, so that different runs can be compared.
+	 */
+	static Map<String, AnalysisState<?>> statesOf(JumpSolver checker) throws Exception {
+		Map<String, AnalysisState<?>> states = new HashMap<>();
+		for (AnalyzedCFG<SimpleAbstractState<MonolithicHeap, EVMAbstractState,
+				TypeEnvironment<InferredTypes>>> result : checker.getAnalysisResults())
+			for (Statement st : checker.getComputedCFG().getNodes()) {
+				int pc = ((ProgramCounterLocation) st.getLocation()).getPc();
+				states.put("before " + pc, result.getAnalysisStateBefore(st));
+				states.put("after " + pc, result.getAnalysisStateAfter(st));
+			}
+		return states;
+	}
+}
@@ -6,7 +6,6 @@ import it.unipr.analysis.EVMAbstractState;
 import it.unipr.checker.JumpSolver;
 import it.unipr.checker.ReentrancyChecker;
 import it.unipr.frontend.EVMFrontend;
-import it.unipr.utils.MyCache;
 import it.unive.lisa.LiSA;
 import it.unive.lisa.analysis.SimpleAbstractState;
 import it.unive.lisa.analysis.heap.MonolithicHeap;
@@ -84,7 +83,7 @@ public class SmartBugsReentrancyTruth {
 					lisa.run(program);
 
 					Integer key = Integer.parseInt(bytecodeFileName.split("_")[0]);
-					int value = MyCache.getInstance().getReentrancyWarnings(checker.getComputedCFG().hashCode());
+					int value = checker.getComputedCFG().getContext().getReentrancyWarnings();
 
 					_results.merge(key, value, Integer::sum);
 				} catch (Exception e) {
@@ -4,7 +4,6 @@ import it.unipr.analysis.EVMAbstractState;
 import it.unipr.checker.JumpSolver;
 import it.unipr.checker.ReentrancyChecker;
 import it.unipr.frontend.EVMFrontend;
-import it.unipr.utils.MyCache;
 import it.unive.lisa.LiSA;
 import it.unive.lisa.analysis.SimpleAbstractState;
 import it.unive.lisa.analysis.heap.MonolithicHeap;
@@ -76,7 +75,7 @@ public class SolidiFIReentrancyTruth {
 					lisa.run(program);
 
 					Integer key = Integer.parseInt(bytecodeFileName.split("\\.")[0]);
-					int value = MyCache.getInstance().getReentrancyWarnings(checker.getComputedCFG().hashCode());
+					int value = checker.getComputedCFG().getContext().getReentrancyWarnings();
 
 					_resultsBuggy.put(key, value);
 				} catch (Exception e) {
@@ -123,7 +122,7 @@ public class SolidiFIReentrancyTruth {
 					lisa.run(program);
 
 					Integer key = Integer.parseInt(bytecodeFileName.split("\\.")[0]);
-					int value = MyCache.getInstance().getReentrancyWarnings(checker.getComputedCFG().hashCode());
+					int value = checker.getComputedCFG().getContext().getReentrancyWarnings();
 
 					_resultsVanilla.put(key, value);
 				} catch (Exception e) {
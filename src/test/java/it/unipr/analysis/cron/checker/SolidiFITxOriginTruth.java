@@ -5,7 +5,6 @@ import it.unipr.analysis.taint.TxOriginAbstractDomain;
 import it.unipr.checker.JumpSolver;
 import it.unipr.checker.TxOriginChecker;
 import it.unipr.frontend.EVMFrontend;
-import it.unipr.utils.MyCache;
 import it.unive.lisa.LiSA;
 import it.unive.lisa.analysis.SimpleAbstractState;
 import it.unive.lisa.analysis.heap.MonolithicHeap;
@@ -83,7 +82,7 @@ public class SolidiFITxOriginTruth {
 					lisa.run(program);
 
 					Integer key = Integer.parseInt(bytecodeFileName.split("\\.")[0]);
-					int value = MyCache.getInstance().getTxOriginWarnings(checker.getComputedCFG().hashCode());
+					int value = checker.getComputedCFG().getContext().getTxOriginWarnings();
 
 					_resultsBuggy.put(key, value);
 				} catch (Exception e) {
@@ -132,7 +131,7 @@ public class SolidiFITxOriginTruth {
 					lisa.run(program);
 
 					Integer key = Integer.parseInt(bytecodeFileName.split("\\.")[0]);
-					int value = MyCache.getInstance().getTxOriginWarnings(checker.getComputedCFG().hashCode());
+					int value = checker.getComputedCFG().getContext().getTxOriginWarnings();
 
 					_resultsVanilla.put(key, value);
 				} catch (Exception e) {
@@ -0,0 +1,75 @@
+package it.unipr.analysis.taint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.lisa.analysis.SemanticException;
+import org.junit.Test;
+
+public class TaintProductAbstractDomainTest {
+
+	private static TaintAbstractDomain pushed(TaintAbstractDomain domain, TaintElement element) {
+		TaintAbstractDomain result = domain.clone();
+		result.push(element);
+		return result;
+	}
+
+	private final TaintAbstractDomain txTainted = pushed(new TxOriginAbstractDomain(), TaintElement.TAINT);
+	private final TaintAbstractDomain txClean = pushed(new TxOriginAbstractDomain(), TaintElement.CLEAN);
+	private final TaintAbstractDomain randomTainted = pushed(new RandomnessDependencyAbstractDomain(),
+			TaintElement.TAINT);
+	private final TaintAbstractDomain randomClean = pushed(new RandomnessDependencyAbstractDomain(),
+			TaintElement.CLEAN);
+
+	@Test
+	public void testLubIsComponentWise() throws SemanticException {
+		TaintProductAbstractDomain left = new TaintProductAbstractDomain(txTainted, randomClean);
+		TaintProductAbstractDomain right = new TaintProductAbstractDomain(txClean, randomClean);
+
+		TaintProductAbstractDomain lub = left.lub(right);
+		assertEquals(txTainted.lub(txClean), lub.getDomain(TxOriginAbstractDomain.class));
+		assertEquals(randomClean, lub.getDomain(RandomnessDependencyAbstractDomain.class));
+		assertEquals(new TaintProductAbstractDomain(txTainted.lub(txClean), randomClean), lub);
+	}
+
+	@Test
+	public void testWideningIsComponentWise() throws SemanticException {
+		TaintProductAbstractDomain left = new TaintProductAbstractDomain(txClean, randomTainted);
+		TaintProductAbstractDomain right = new TaintProductAbstractDomain(txTainted, randomClean);
+
+		assertEquals(new TaintProductAbstractDomain(txClean.widening(txTainted), randomTainted.widening(randomClean)),
+				left.widening(right));
+	}
+
+	@Test
+	public void testIsBottomOnlyIfAllComponentsAre() {
+		TaintAbstractDomain txBottom = new TxOriginAbstractDomain().bottom();
+		TaintAbstractDomain randomBottom = new RandomnessDependencyAbstractDomain().bottom();
+
+		assertTrue(new TaintProductAbstractDomain(txBottom, randomBottom).isBottom());
+		assertTrue(new TaintProductAbstractDomain(txClean, randomClean).bottom().isBottom());
+		assertFalse(new TaintProductAbstractDomain(txBottom, randomTainted).isBottom());
+		assertFalse(new TaintProductAbstractDomain(txTainted, randomBottom).isBottom());
+	}
+
+	@Test
+	public void testLubWithBottomComponent() throws SemanticException {
+		TaintAbstractDomain randomBottom = new RandomnessDependencyAbstractDomain().bottom();
+		TaintProductAbstractDomain left = new TaintProductAbstractDomain(txTainted, randomBottom);
+		TaintProductAbstractDomain right = new TaintProductAbstractDomain(txTainted, randomClean);
+
+		assertEquals(right, left.lub(right));
+		assertTrue(left.lessOrEqual(right));
+		assertFalse(right.lessOrEqual(left));
+	}
+
+	@Test
+	public void testGetDomain() {
+		TaintProductAbstractDomain product = new TaintProductAbstractDomain(txTainted);
+
+		assertSame(txTainted, product.getDomain(TxOriginAbstractDomain.class));
+		assertEquals(null, product.getDomain(RandomnessDependencyAbstractDomain.class));
+	}
+}
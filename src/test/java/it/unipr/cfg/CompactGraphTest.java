@@ -0,0 +1,88 @@
+package it.unipr.cfg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.lisa.program.cfg.edge.Edge;
+import it.unive.lisa.program.cfg.edge.SequentialEdge;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Checks the compact view of {@link EVMCFG} built by {@link CompactGraph}
+ * against the node list of the CFG, on the ground-truth contracts and after
+ * adding random edges to them.
+ */
+public class CompactGraphTest {
+
+	private static final long SEED = 42;
+	private static final int ROUNDS = 3;
+	private static final int EDGES = 20;
+
+	@Test
+	public void testCompactGraphEqualsNodeList() throws Exception {
+		Random random = new Random(SEED);
+		for (String address : GroundTruthGraphs.addresses()) {
+			EVMCFG cfg = GroundTruthGraphs.cfgOf(address);
+			CompactGraph graph = cfg.getCompactGraph();
+			check(address, cfg, graph);
+
+			for (int round = 0; round < ROUNDS; round++) {
+				List<SequentialEdge> added = GroundTruthGraphs.addRandomEdges(cfg, random, EDGES);
+				CompactGraph previous = graph;
+				graph = cfg.getCompactGraph();
+				if (added.isEmpty())
+					assertSame("Rebuilt view on " + address, previous, graph);
+				else
+					assertNotSame("Stale view on " + address, previous, graph);
+				check(address, cfg, graph);
+
+				Set<Statement> destinations = new HashSet<>();
+				for (SequentialEdge edge : added)
+					destinations.add(edge.getDestination());
+				assertEquals("Different new destinations on " + address, destinations,
+						graph.newDestinations(previous));
+			}
+		}
+	}
+
+	private static void check(String address, EVMCFG cfg, CompactGraph graph) {
+		assertEquals("Different size on " + address, cfg.getNodesCount(), graph.size());
+		int previousPc = -1;
+		for (int id = 0; id < graph.size(); id++) {
+			Statement st = graph.node(id);
+			assertEquals("Different id on " + address + " for " + st, id, graph.id(st));
+			int pc = ((ProgramCounterLocation) st.getLocation()).getPc();
+			assertTrue("Ids not in program counter order on " + address, pc > previousPc);
+			previousPc = pc;
+
+			List<Edge> out = new ArrayList<>();
+			for (int e = graph.outOffsets[id]; e < graph.outOffsets[id + 1]; e++) {
+				assertEquals("Different target on " + address + " for " + graph.outEdges[e],
+						graph.id(graph.outEdges[e].getDestination()), graph.outTargets[e]);
+				out.add(graph.outEdges[e]);
+			}
+			assertEquals("Different outgoing edges on " + address + " for " + st,
+					new ArrayList<>(cfg.getOutgoingEdges(st)), out);
+
+			List<Edge> in = new ArrayList<>();
+			for (int e = graph.inOffsets[id]; e < graph.inOffsets[id + 1]; e++) {
+				assertEquals("Different source on " + address + " for " + graph.inEdges[e],
+						graph.id(graph.inEdges[e].getSource()), graph.inSources[e]);
+				in.add(graph.inEdges[e]);
+			}
+			assertEquals("Different ingoing edges on " + address + " for " + st,
+					new ArrayList<>(cfg.getIngoingEdges(st)), in);
+		}
+
+		for (Statement st : cfg.getNodes())
+			assertSame("Different node on " + address + " for " + st, st, graph.node(graph.id(st)));
+	}
+}
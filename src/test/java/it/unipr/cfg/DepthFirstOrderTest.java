@@ -0,0 +1,96 @@
+package it.unipr.cfg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.lisa.program.cfg.edge.Edge;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Checks the reverse post-order and the loop heads computed by
+ * {@link DepthFirstOrder}, on the ground-truth contracts and after adding
+ * random edges to them: each edge between reached statements must follow the
+ * order unless it enters a loop head, so that cutting the loop heads leaves
+ * the reached statements acyclic.
+ */
+public class DepthFirstOrderTest {
+
+	private static final long SEED = 42;
+	private static final int ROUNDS = 5;
+	private static final int EDGES = 20;
+
+	@Test
+	public void testLoopHeadsCutEveryCycle() throws Exception {
+		Random random = new Random(SEED);
+		for (String address : GroundTruthGraphs.addresses()) {
+			EVMCFG cfg = GroundTruthGraphs.cfgOf(address);
+			for (int round = 0; round <= ROUNDS; round++) {
+				check(address, cfg, cfg.getDepthFirstOrder());
+				GroundTruthGraphs.addRandomEdges(cfg, random, EDGES);
+			}
+		}
+	}
+
+	private static void check(String address, EVMCFG cfg, DepthFirstOrder order) {
+		CompactGraph graph = order.graph();
+		int n = graph.size();
+		Set<Statement> reached = visit(cfg);
+
+		// the ranks are a permutation, with the reached statements first
+		boolean[] ranked = new boolean[n];
+		for (int id = 0; id < n; id++) {
+			int rank = order.rank(id);
+			assertTrue("Duplicate rank on " + address, rank >= 0 && rank < n && !ranked[rank]);
+			ranked[rank] = true;
+			assertEquals("Misplaced rank on " + address + " for " + graph.node(id),
+					reached.contains(graph.node(id)), rank < reached.size());
+		}
+
+		// the edges not entering a loop head follow the order
+		int[] inDegree = new int[n];
+		for (Statement st : reached)
+			for (Edge edge : cfg.getOutgoingEdges(st)) {
+				int source = graph.id(edge.getSource()), destination = graph.id(edge.getDestination());
+				if (order.isLoopHead(destination))
+					continue;
+				assertTrue("Edge against the order on " + address + ": " + edge,
+						order.rank(source) < order.rank(destination));
+				inDegree[destination]++;
+			}
+
+		// and cutting the loop heads leaves the reached statements acyclic
+		Deque<Statement> sources = new ArrayDeque<>();
+		for (Statement st : reached)
+			if (inDegree[graph.id(st)] == 0)
+				sources.push(st);
+		int sorted = 0;
+		while (!sources.isEmpty()) {
+			sorted++;
+			for (Edge edge : cfg.getOutgoingEdges(sources.pop())) {
+				int destination = graph.id(edge.getDestination());
+				if (!order.isLoopHead(destination) && --inDegree[destination] == 0)
+					sources.push(edge.getDestination());
+			}
+		}
+		assertEquals("Cycle not cut by the loop heads on " + address, reached.size(), sorted);
+	}
+
+	/**
+	 * Yields the statements reachable from the entrypoints of the given CFG.
+	 */
+	private static Set<Statement> visit(EVMCFG cfg) {
+		Set<Statement> visited = new HashSet<>(cfg.getEntrypoints());
+		Deque<Statement> stack = new ArrayDeque<>(visited);
+		while (!stack.isEmpty())
+			for (Edge edge : cfg.getOutgoingEdges(stack.pop()))
+				if (visited.add(edge.getDestination()))
+					stack.push(edge.getDestination());
+		return visited;
+	}
+}
@@ -0,0 +1,68 @@
+package it.unipr.cfg;
+
+import it.unipr.frontend.EVMFrontend;
+import it.unive.lisa.program.cfg.edge.SequentialEdge;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the CFGs of the ground-truth contracts, and grows them with random
+ * edges, for the differential tests of the compact views of {@link EVMCFG}.
+ */
+final class GroundTruthGraphs {
+
+	private static final Path WORKING_DIRECTORY_PATH = Paths.get("evm-testcases", "ground-truth", "50-ground-truth");
+	private static final Path SMARTCONTRACTS_FULLPATH = Paths.get("benchmark", "50-ground-truth.txt");
+
+	/**
+	 * The number of contracts the tests are run on.
+	 */
+	static final int CONTRACTS = 10;
+
+	private GroundTruthGraphs() {
+	}
+
+	/**
+	 * Yields the addresses of the first {@link #CONTRACTS} ground-truth
+	 * contracts.
+	 */
+	static List<String> addresses() throws Exception {
+		return Files.readAllLines(SMARTCONTRACTS_FULLPATH).stream()
+				.map(String::trim)
+				.filter(line -> !line.isEmpty())
+				.limit(CONTRACTS)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Builds the CFG of the given contract, with the pushed jumps only.
+	 */
+	static EVMCFG cfgOf(String address) throws Exception {
+		Path bytecode = WORKING_DIRECTORY_PATH.resolve(address).resolve(address + ".bytecode");
+		return (EVMCFG) EVMFrontend.generateCfgFromBytecodeFile(bytecode, address).getAllCFGs().iterator().next();
+	}
+
+	/**
+	 * Adds to the given CFG up to {@code count} edges between random
+	 * statements, self-loops included, as the semantics of the jumps would.
+	 *
+	 * @return the added edges
+	 */
+	static List<SequentialEdge> addRandomEdges(EVMCFG cfg, Random random, int count) {
+		List<Statement> nodes = new ArrayList<>(cfg.getNodes());
+		List<SequentialEdge> added = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			SequentialEdge edge = new SequentialEdge(nodes.get(random.nextInt(nodes.size())),
+					nodes.get(random.nextInt(nodes.size())));
+			if (cfg.addEdgeIfAbsent(edge))
+				added.add(edge);
+		}
+		return added;
+	}
+}
@@ -0,0 +1,75 @@
+package it.unipr.cfg;
+
+import static org.junit.Assert.assertEquals;
+
+import it.unive.lisa.program.cfg.edge.Edge;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.Test;
+
+/**
+ * Checks the reachability queries of {@link EVMCFG}, answered by
+ * {@link ReachabilityIndex}, against a plain depth-first visit of the CFG, on
+ * the ground-truth contracts and after adding random edges to them.
+ */
+public class ReachabilityIndexTest {
+
+	private static final long SEED = 42;
+	private static final int STARTS = 50;
+	private static final int ROUNDS = 3;
+	private static final int EDGES = 20;
+
+	@Test
+	public void testReachableFromEqualsVisit() throws Exception {
+		Random random = new Random(SEED);
+		for (String address : GroundTruthGraphs.addresses()) {
+			EVMCFG cfg = GroundTruthGraphs.cfgOf(address);
+			for (int round = 0; round <= ROUNDS; round++) {
+				check(address, cfg, random);
+				GroundTruthGraphs.addRandomEdges(cfg, random, EDGES);
+			}
+		}
+	}
+
+	private static void check(String address, EVMCFG cfg, Random random) {
+		List<Statement> nodes = new ArrayList<>(cfg.getNodes());
+		Predicate<Edge> sequential = edge -> !(edge.getSource() instanceof Jumpi
+				|| edge.getSource() instanceof Jump);
+		for (int i = 0; i < STARTS; i++) {
+			Statement start = nodes.get(random.nextInt(nodes.size()));
+			Set<Statement> reachable = visit(cfg, start, edge -> true);
+			Set<Statement> sequentiallyReachable = visit(cfg, start, sequential);
+			for (Statement target : nodes) {
+				assertEquals("Different reachability on " + address + " from " + start + " to " + target,
+						reachable.contains(target), cfg.reachableFrom(start, target));
+				assertEquals("Different reverse reachability on " + address + " from " + target + " to " + start,
+						reachable.contains(target), cfg.reachableFromReverse(target, start));
+				assertEquals("Different sequential reachability on " + address + " from " + start + " to " + target,
+						sequentiallyReachable.contains(target), cfg.reachableFromSequentially(start, target));
+			}
+		}
+	}
+
+	/**
+	 * Yields the statements reachable from {@code start}, itself included,
+	 * following the edges accepted by {@code filter}.
+	 */
+	private static Set<Statement> visit(EVMCFG cfg, Statement start, Predicate<Edge> filter) {
+		Set<Statement> visited = new HashSet<>();
+		Deque<Statement> stack = new ArrayDeque<>();
+		visited.add(start);
+		stack.push(start);
+		while (!stack.isEmpty())
+			for (Edge edge : cfg.getOutgoingEdges(stack.pop()))
+				if (filter.test(edge) && visited.add(edge.getDestination()))
+					stack.push(edge.getDestination());
+		return visited;
+	}
+}